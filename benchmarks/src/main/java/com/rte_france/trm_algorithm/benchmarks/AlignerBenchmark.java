@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationParameters;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.rte_france.trm_algorithm.CountryGeneratorIndex;
+import com.rte_france.trm_algorithm.TestUtils;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aligners of the operational conditions, each run on a fresh copy of the market-based network.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlignerBenchmark {
+    @Param({NetworkResource.TEST_CASE_12_NODES, NetworkResource.TEST_CASE_16_NODES, NetworkResource.TEST_CASE_16_NODES_WITH_HVDC, NetworkResource.SYNTHETIC_X1, NetworkResource.SYNTHETIC_X10})
+    private String networkPath;
+
+    private NetworkResource networkResource;
+    private Network referenceNetwork;
+    private Network marketBasedNetwork;
+    private Crac crac;
+    private ZonalData<Scalable> marketZonalScalable;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        networkResource = NetworkResource.of(networkPath);
+        referenceNetwork = networkResource.createReferenceNetwork();
+        crac = TestUtils.getIdealTopologicalAlignerCrac(referenceNetwork);
+        marketZonalScalable = CountryGeneratorIndex.of(referenceNetwork).getAutoScalable();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        marketBasedNetwork = networkResource.createMarketBasedNetwork();
+    }
+
+    @Benchmark
+    public PstAligner.Result pstAligner() {
+        PstAligner pstAligner = new PstAligner();
+        pstAligner.align(referenceNetwork, marketBasedNetwork);
+        return pstAligner.getResult();
+    }
+
+    @Benchmark
+    public Network hvdcAligner() {
+        new HvdcAligner().align(referenceNetwork, marketBasedNetwork);
+        return marketBasedNetwork;
+    }
+
+    @Benchmark
+    public Map<String, DanglingLineAligner.Status> danglingLineAligner() {
+        DanglingLineAligner danglingLineAligner = new DanglingLineAligner();
+        danglingLineAligner.align(referenceNetwork, marketBasedNetwork);
+        return danglingLineAligner.getResult();
+    }
+
+    @Benchmark
+    public Network branchConnectionStateAligner() {
+        new BranchConnectionStateAligner().align(referenceNetwork, marketBasedNetwork);
+        return marketBasedNetwork;
+    }
+
+    @Benchmark
+    public Map<String, Boolean> cracAligner() {
+        CracAligner cracAligner = new CracAligner(crac);
+        cracAligner.align(referenceNetwork, marketBasedNetwork);
+        return cracAligner.getResult();
+    }
+
+    @Benchmark
+    public Object generatorMapShapeAligner() {
+        GeneratorMapShapeAligner generatorMapShapeAligner = new GeneratorMapShapeAligner();
+        generatorMapShapeAligner.align(referenceNetwork, marketBasedNetwork);
+        return generatorMapShapeAligner.getResult();
+    }
+
+    @Benchmark
+    public Object loadMapShapeAligner() {
+        LoadMapShapeAligner loadMapShapeAligner = new LoadMapShapeAligner();
+        loadMapShapeAligner.align(referenceNetwork, marketBasedNetwork);
+        return loadMapShapeAligner.getResult();
+    }
+
+    @Benchmark
+    public ExchangeAlignerResult exchangeAligner() {
+        ExchangeAligner exchangeAligner = new ExchangeAligner(BalanceComputationParameters.load(), LoadFlow.find(), LocalComputationManager.getDefault(), marketZonalScalable);
+        exchangeAligner.align(referenceNetwork, marketBasedNetwork);
+        return exchangeAligner.getResult();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Peak of the used heap, sampled periodically from the {@link MemoryMXBean} by a background thread.
+ * <p>
+ * Unlike the sum of the peak usages of each heap memory pool, whose peaks may occur at different times, the sampled
+ * peak is a usage the heap actually reached. It may miss a shorter peak between two samples.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+final class HeapUsageSampler implements AutoCloseable {
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakUsedBytes = new AtomicLong();
+    private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "heap-usage-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    HeapUsageSampler(long periodMillis) {
+        sample();
+        executorService.scheduleAtFixedRate(this::sample, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void sample() {
+        long usedBytes = memoryMXBean.getHeapMemoryUsage().getUsed();
+        peakUsedBytes.accumulateAndGet(usedBytes, Math::max);
+    }
+
+    long getPeakUsedBytes() {
+        return peakUsedBytes.get();
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        sample();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.SyntheticNetworkFactory;
+import com.rte_france.trm_algorithm.TestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Reference and market-based networks of a benchmark, created again on each call so that benchmarks modifying their
+ * networks can start from a fresh copy before each invocation.
+ * <p>
+ * Network files of the test resources are kept in memory, so that no disk access happens during the benchmark, and
+ * both networks are imports of the same file. Synthetic networks, named {@code synthetic-x<scale>}, are created by
+ * {@link SyntheticNetworkFactory} with a fixed seed, the market-based network being the perturbed twin of the
+ * reference network.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+final class NetworkResource {
+    static final String TEST_CASE_12_NODES = "TestCase12Nodes/TestCase12Nodes.uct";
+    static final String TEST_CASE_16_NODES = "TestCase16Nodes/TestCase16Nodes.uct";
+    static final String TEST_CASE_16_NODES_WITH_HVDC = "operational_conditions_aligners/hvdc/TestCase16NodesWithHvdc.xiidm";
+    static final String SYNTHETIC_X1 = "synthetic-x1";
+    static final String SYNTHETIC_X10 = "synthetic-x10";
+    private static final String SYNTHETIC_PREFIX = "synthetic-x";
+    private static final long SYNTHETIC_SEED = 42;
+
+    private final Supplier<Network> referenceNetworkSupplier;
+    private final Supplier<Network> marketBasedNetworkSupplier;
+
+    private NetworkResource(Supplier<Network> referenceNetworkSupplier, Supplier<Network> marketBasedNetworkSupplier) {
+        this.referenceNetworkSupplier = referenceNetworkSupplier;
+        this.marketBasedNetworkSupplier = marketBasedNetworkSupplier;
+    }
+
+    /**
+     * @param networkPath synthetic network name, or path relative to the test resources of the trm_algorithm package, as in {@link TestUtils#importNetwork(String)}
+     */
+    static NetworkResource of(String networkPath) {
+        if (networkPath.startsWith(SYNTHETIC_PREFIX)) {
+            SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder()
+                .addSeed(SYNTHETIC_SEED)
+                .addScale(Integer.parseInt(networkPath.substring(SYNTHETIC_PREFIX.length())))
+                .build();
+            return new NetworkResource(syntheticNetworkFactory::createReferenceNetwork, syntheticNetworkFactory::createMarketBasedNetwork);
+        }
+        try (InputStream inputStream = Objects.requireNonNull(TestUtils.class.getResourceAsStream(networkPath), networkPath)) {
+            String fileName = Paths.get(networkPath).getFileName().toString();
+            byte[] content = inputStream.readAllBytes();
+            Supplier<Network> networkImporter = () -> Network.read(fileName, new ByteArrayInputStream(content));
+            return new NetworkResource(networkImporter, networkImporter);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Network createReferenceNetwork() {
+        return referenceNetworkSupplier.get();
+    }
+
+    Network createMarketBasedNetwork() {
+        return marketBasedNetworkSupplier.get();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import com.powsybl.balances_adjustment.balance_computation.BalanceComputationParameters;
+import com.powsybl.computation.local.LocalComputationManager;
+import com.powsybl.flow_decomposition.xnec_provider.XnecProviderInterconnection;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.rte_france.trm_algorithm.*;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * End-to-end benchmark of a batch of TRM computations on synthetic hourly cases, with the full alignment pipeline.
+ * <p>
+ * Each case is a pair of synthetic networks of its own seed. Latencies cover the alignment and the computation of the
+ * uncertainties, while the throughput covers the whole batch, including the creation of the networks which stands
+ * for their import. Peak heap is the peak of the used heap sampled every {@value #HEAP_SAMPLING_PERIOD_MILLIS} ms during
+ * the measured batch.
+ * </p>
+ * <p>
+ * The process exits with status 1 when the report is worse than the baseline file by more than the margin, when the
+ * baseline was recorded with other scale, seed or numbers of cases, or when the baseline file is missing: it has to be
+ * recorded first with {@code trm.throughput.updateBaseline}.
+ * Parameters are system properties:
+ * </p>
+ * <ul>
+ *     <li>{@code trm.throughput.cases}: number of measured cases, 24 by default</li>
+ *     <li>{@code trm.throughput.warmupCases}: number of cases run before measuring, 2 by default</li>
+ *     <li>{@code trm.throughput.scale}: scale of the synthetic networks, 1 by default</li>
+ *     <li>{@code trm.throughput.seed}: seed of the first case, 42 by default</li>
+ *     <li>{@code trm.throughput.baseline}: baseline report path, {@code throughput-baseline.properties} by default</li>
+ *     <li>{@code trm.throughput.margin}: tolerated relative degradation, 0.2 by default</li>
+ *     <li>{@code trm.throughput.updateBaseline}: writes the report as new baseline instead of comparing, false by default</li>
+ * </ul>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class ThroughputBenchmark {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThroughputBenchmark.class);
+    private static final long HEAP_SAMPLING_PERIOD_MILLIS = 10;
+    private static final ZonedDateTime FIRST_CASE_DATE = ZonedDateTime.of(2026, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+
+    private final int scale;
+    private final long seed;
+
+    ThroughputBenchmark(int scale, long seed) {
+        this.scale = scale;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int caseCount = Integer.getInteger("trm.throughput.cases", 24);
+        int warmupCaseCount = Integer.getInteger("trm.throughput.warmupCases", 2);
+        ThroughputBenchmark throughputBenchmark = new ThroughputBenchmark(Integer.getInteger("trm.throughput.scale", 1), Long.getLong("trm.throughput.seed", 42));
+        Path baselinePath = Paths.get(System.getProperty("trm.throughput.baseline", "throughput-baseline.properties"));
+        double margin = Double.parseDouble(System.getProperty("trm.throughput.margin", "0.2"));
+        boolean updateBaseline = Boolean.getBoolean("trm.throughput.updateBaseline");
+        if (!updateBaseline && !Files.exists(baselinePath)) {
+            LOGGER.error("No baseline found at {}, record it with -Dtrm.throughput.updateBaseline=true", baselinePath);
+            System.exit(1);
+        }
+
+        ThroughputReport report = throughputBenchmark.run(warmupCaseCount, caseCount);
+        LOGGER.info("Throughput report: {}", report);
+
+        if (updateBaseline) {
+            report.write(baselinePath);
+            LOGGER.info("Baseline written to {}", baselinePath);
+        } else {
+            ThroughputReport baseline = ThroughputReport.read(baselinePath);
+            LOGGER.info("Baseline report: {}", baseline);
+            List<String> mismatches = report.getConfigurationMismatches(baseline);
+            if (!mismatches.isEmpty()) {
+                mismatches.forEach(mismatch -> LOGGER.error("Report not comparable to baseline {}: {}", baselinePath, mismatch));
+                System.exit(1);
+            }
+            List<String> regressions = report.getRegressions(baseline, margin);
+            if (!regressions.isEmpty()) {
+                regressions.forEach(regression -> LOGGER.error("Performance regression beyond {}% margin: {}", margin * 100, regression));
+                System.exit(1);
+            }
+        }
+    }
+
+    ThroughputReport run(int warmupCaseCount, int caseCount) {
+        runCases(warmupCaseCount);
+        System.gc();
+        HeapUsageSampler heapUsageSampler = new HeapUsageSampler(HEAP_SAMPLING_PERIOD_MILLIS);
+        long batchStart = System.nanoTime();
+        double[] latenciesMillis;
+        try (heapUsageSampler) {
+            latenciesMillis = runCases(caseCount);
+        }
+        long batchWallTimeNanos = System.nanoTime() - batchStart;
+        return ThroughputReport.of(scale, seed, warmupCaseCount, latenciesMillis, batchWallTimeNanos, heapUsageSampler.getPeakUsedBytes());
+    }
+
+    private double[] runCases(int caseCount) {
+        double[] latenciesMillis = new double[caseCount];
+        for (int i = 0; i < caseCount; i++) {
+            SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().addSeed(seed + i).addScale(scale).build();
+            Network referenceNetwork = syntheticNetworkFactory.createReferenceNetwork();
+            Network marketBasedNetwork = syntheticNetworkFactory.createMarketBasedNetwork();
+            referenceNetwork.setCaseDate(FIRST_CASE_DATE.plusHours(i));
+            marketBasedNetwork.setCaseDate(FIRST_CASE_DATE.plusHours(i));
+
+            long caseStart = System.nanoTime();
+            TrmResults trmResults = computeUncertainties(referenceNetwork, marketBasedNetwork);
+            latenciesMillis[i] = (System.nanoTime() - caseStart) / 1e6;
+            LOGGER.debug("Case {} computed {} uncertainties in {} ms", referenceNetwork.getCaseDate(), trmResults.getUncertaintiesMap().size(), latenciesMillis[i]);
+        }
+        return latenciesMillis;
+    }
+
+    private static TrmResults computeUncertainties(Network referenceNetwork, Network marketBasedNetwork) {
+        OperationalConditionAligner operationalConditionAligner = new OperationalConditionAlignerPipeline(
+            new CracAligner(TestUtils.getIdealTopologicalAlignerCrac(referenceNetwork)),
+            new HvdcAligner(),
+            new PstAligner(),
+            new DanglingLineAligner(),
+            new ExchangeAligner(BalanceComputationParameters.load(), LoadFlow.find(), LocalComputationManager.getDefault(),
+                CountryGeneratorIndex.of(marketBasedNetwork).getAutoScalable()));
+        TrmAlgorithm trmAlgorithm = new TrmAlgorithm(LoadFlowParameters.load(), operationalConditionAligner);
+        return trmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(),
+            SyntheticNetworkFactory.createGlsk(referenceNetwork));
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Throughput, latency and memory of a batch of TRM computations, stored as properties so that the report of a
+ * reference run can be kept as baseline of the following ones. The report also records the configuration of the
+ * batch, as reports of batches of different configurations cannot be compared.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class ThroughputReport {
+    private static final String SCALE = "scale";
+    private static final String SEED = "seed";
+    private static final String WARMUP_CASE_COUNT = "warmupCaseCount";
+    private static final String CASE_COUNT = "caseCount";
+    private static final String CASES_PER_MINUTE = "casesPerMinute";
+    private static final String P50_LATENCY_MILLIS = "p50LatencyMillis";
+    private static final String P99_LATENCY_MILLIS = "p99LatencyMillis";
+    private static final String PEAK_HEAP_BYTES = "peakHeapBytes";
+
+    private final int scale;
+    private final long seed;
+    private final int warmupCaseCount;
+    private final int caseCount;
+    private final double casesPerMinute;
+    private final double p50LatencyMillis;
+    private final double p99LatencyMillis;
+    private final long peakHeapBytes;
+
+    public ThroughputReport(int scale, long seed, int warmupCaseCount, int caseCount, double casesPerMinute, double p50LatencyMillis, double p99LatencyMillis, long peakHeapBytes) {
+        this.scale = scale;
+        this.seed = seed;
+        this.warmupCaseCount = warmupCaseCount;
+        this.caseCount = caseCount;
+        this.casesPerMinute = casesPerMinute;
+        this.p50LatencyMillis = p50LatencyMillis;
+        this.p99LatencyMillis = p99LatencyMillis;
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    /**
+     * @param scale scale of the synthetic networks of the cases
+     * @param seed seed of the first measured case
+     * @param warmupCaseCount number of cases run before measuring
+     * @param latenciesMillis latency of each measured case
+     * @param batchWallTimeNanos wall time of the whole batch, including the preparation of the cases
+     */
+    public static ThroughputReport of(int scale, long seed, int warmupCaseCount, double[] latenciesMillis, long batchWallTimeNanos, long peakHeapBytes) {
+        double[] sortedLatenciesMillis = latenciesMillis.clone();
+        Arrays.sort(sortedLatenciesMillis);
+        double casesPerMinute = latenciesMillis.length * 60e9 / batchWallTimeNanos;
+        return new ThroughputReport(scale, seed, warmupCaseCount, latenciesMillis.length, casesPerMinute,
+            percentile(sortedLatenciesMillis, 50), percentile(sortedLatenciesMillis, 99), peakHeapBytes);
+    }
+
+    /**
+     * Nearest-rank percentile of sorted values.
+     */
+    static double percentile(double[] sortedValues, int percent) {
+        if (sortedValues.length == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(percent / 100. * sortedValues.length);
+        return sortedValues[Math.max(0, rank - 1)];
+    }
+
+    public static ThroughputReport read(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return new ThroughputReport(
+            Integer.parseInt(getProperty(properties, SCALE, path)),
+            Long.parseLong(getProperty(properties, SEED, path)),
+            Integer.parseInt(getProperty(properties, WARMUP_CASE_COUNT, path)),
+            Integer.parseInt(getProperty(properties, CASE_COUNT, path)),
+            Double.parseDouble(getProperty(properties, CASES_PER_MINUTE, path)),
+            Double.parseDouble(getProperty(properties, P50_LATENCY_MILLIS, path)),
+            Double.parseDouble(getProperty(properties, P99_LATENCY_MILLIS, path)),
+            Long.parseLong(getProperty(properties, PEAK_HEAP_BYTES, path)));
+    }
+
+    private static String getProperty(Properties properties, String name, Path path) throws IOException {
+        String value = properties.getProperty(name);
+        if (value == null) {
+            throw new IOException("Missing " + name + " in throughput report " + path);
+        }
+        return value;
+    }
+
+    public void write(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(SCALE, Integer.toString(scale));
+        properties.setProperty(SEED, Long.toString(seed));
+        properties.setProperty(WARMUP_CASE_COUNT, Integer.toString(warmupCaseCount));
+        properties.setProperty(CASE_COUNT, Integer.toString(caseCount));
+        properties.setProperty(CASES_PER_MINUTE, Double.toString(casesPerMinute));
+        properties.setProperty(P50_LATENCY_MILLIS, Double.toString(p50LatencyMillis));
+        properties.setProperty(P99_LATENCY_MILLIS, Double.toString(p99LatencyMillis));
+        properties.setProperty(PEAK_HEAP_BYTES, Long.toString(peakHeapBytes));
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, "TRM throughput report");
+        }
+    }
+
+    /**
+     * Description of each parameter of the batch of this report that differs from the one of the baseline.
+     * Metrics of reports with a configuration mismatch cannot be compared.
+     */
+    public List<String> getConfigurationMismatches(ThroughputReport baseline) {
+        List<String> mismatches = new ArrayList<>();
+        addMismatchIfDifferent(mismatches, SCALE, scale, baseline.scale);
+        addMismatchIfDifferent(mismatches, SEED, seed, baseline.seed);
+        addMismatchIfDifferent(mismatches, WARMUP_CASE_COUNT, warmupCaseCount, baseline.warmupCaseCount);
+        addMismatchIfDifferent(mismatches, CASE_COUNT, caseCount, baseline.caseCount);
+        return mismatches;
+    }
+
+    private static void addMismatchIfDifferent(List<String> mismatches, String name, long value, long baselineValue) {
+        if (value != baselineValue) {
+            mismatches.add(String.format("%s %d differs from baseline %d", name, value, baselineValue));
+        }
+    }
+
+    /**
+     * Description of each metric of this report that is worse than the baseline by more than the given margin.
+     *
+     * @param margin tolerated relative degradation, e.g. 0.1 for 10%
+     */
+    public List<String> getRegressions(ThroughputReport baseline, double margin) {
+        List<String> regressions = new ArrayList<>();
+        if (casesPerMinute < baseline.casesPerMinute * (1 - margin)) {
+            regressions.add(String.format("%s %.2f is below baseline %.2f", CASES_PER_MINUTE, casesPerMinute, baseline.casesPerMinute));
+        }
+        addRegressionIfAbove(regressions, P50_LATENCY_MILLIS, p50LatencyMillis, baseline.p50LatencyMillis, margin);
+        addRegressionIfAbove(regressions, P99_LATENCY_MILLIS, p99LatencyMillis, baseline.p99LatencyMillis, margin);
+        addRegressionIfAbove(regressions, PEAK_HEAP_BYTES, peakHeapBytes, baseline.peakHeapBytes, margin);
+        return regressions;
+    }
+
+    private static void addRegressionIfAbove(List<String> regressions, String name, double value, double baselineValue, double margin) {
+        if (value > baselineValue * (1 + margin)) {
+            regressions.add(String.format("%s %.2f is above baseline %.2f", name, value, baselineValue));
+        }
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getWarmupCaseCount() {
+        return warmupCaseCount;
+    }
+
+    public int getCaseCount() {
+        return caseCount;
+    }
+
+    public double getCasesPerMinute() {
+        return casesPerMinute;
+    }
+
+    public double getP50LatencyMillis() {
+        return p50LatencyMillis;
+    }
+
+    public double getP99LatencyMillis() {
+        return p99LatencyMillis;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d cases of scale %d from seed %d after %d warm-up cases, %.2f cases/min, p50 latency %.1f ms, p99 latency %.1f ms, peak heap %d MiB",
+            caseCount, scale, seed, warmupCaseCount, casesPerMinute, p50LatencyMillis, p99LatencyMillis, peakHeapBytes / (1024 * 1024));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.TrmExporter;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Export of one uncertainty per branch of the network.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrmExporterBenchmark {
+    @Param({NetworkResource.TEST_CASE_12_NODES, NetworkResource.TEST_CASE_16_NODES, NetworkResource.SYNTHETIC_X1, NetworkResource.SYNTHETIC_X10})
+    private String networkPath;
+
+    private TrmResults trmResults;
+    private ZonedDateTime caseDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Network network = NetworkResource.of(networkPath).createReferenceNetwork();
+        Map<String, UncertaintyResult> uncertainties = new HashMap<>();
+        int index = 0;
+        for (Branch<?> branch : network.getBranches()) {
+            uncertainties.put(branch.getId(), new UncertaintyResult(branch, 100. + index, 110. - index, 0.01 * index));
+            index++;
+        }
+        trmResults = TrmResults.builder().addUncertainties(uncertainties).build();
+        caseDate = network.getCaseDate();
+    }
+
+    @Benchmark
+    public Writer export() throws IOException {
+        Writer writer = new StringWriter();
+        TrmExporter.exportHeader(writer);
+        TrmExporter.export(writer, trmResults, caseDate);
+        return writer;
+    }
+}
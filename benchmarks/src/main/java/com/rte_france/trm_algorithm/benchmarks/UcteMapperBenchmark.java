@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.UcteMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of the elements of the market-based network on the reference network.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UcteMapperBenchmark {
+    @Param({NetworkResource.TEST_CASE_12_NODES, NetworkResource.TEST_CASE_16_NODES, NetworkResource.SYNTHETIC_X1, NetworkResource.SYNTHETIC_X10})
+    private String networkPath;
+
+    private Network referenceNetwork;
+    private Network marketBasedNetwork;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        NetworkResource networkResource = NetworkResource.of(networkPath);
+        referenceNetwork = networkResource.createReferenceNetwork();
+        marketBasedNetwork = networkResource.createMarketBasedNetwork();
+    }
+
+    @Benchmark
+    public IdentifiableMapping mapNetworks() {
+        return UcteMapper.mapNetworks(referenceNetwork, marketBasedNetwork);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.rte_france.trm_algorithm.TrmUtils;
+import com.rte_france.trm_algorithm.ZonalPtdfAndFlow;
+import com.rte_france.trm_algorithm.ZonalSensitivityComputer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zonal PTDFs of all the branches, including the build of the sensitivity factors and the extraction of the results.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZonalSensitivityComputerBenchmark {
+    @Param({NetworkResource.TEST_CASE_12_NODES, NetworkResource.TEST_CASE_16_NODES, NetworkResource.SYNTHETIC_X1, NetworkResource.SYNTHETIC_X10})
+    private String networkPath;
+
+    private Network network;
+    private List<String> branchIds;
+    private ZonalData<SensitivityVariableSet> glsk;
+    private ZonalSensitivityComputer zonalSensitivityComputer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        network = NetworkResource.of(networkPath).createReferenceNetwork();
+        branchIds = network.getBranchStream().map(Identifiable::getId).toList();
+        glsk = TrmUtils.getAutoGlsk(network);
+        zonalSensitivityComputer = new ZonalSensitivityComputer(new LoadFlowParameters());
+    }
+
+    @Benchmark
+    public Map<String, ZonalPtdfAndFlow> run() {
+        return zonalSensitivityComputer.run(network, branchIds, glsk);
+    }
+}
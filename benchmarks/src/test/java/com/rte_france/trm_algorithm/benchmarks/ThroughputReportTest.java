@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class ThroughputReportTest {
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void testPercentile() {
+        double[] sortedValues = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(5, ThroughputReport.percentile(sortedValues, 50), EPSILON);
+        assertEquals(10, ThroughputReport.percentile(sortedValues, 99), EPSILON);
+        assertEquals(10, ThroughputReport.percentile(sortedValues, 100), EPSILON);
+        assertEquals(1, ThroughputReport.percentile(sortedValues, 0), EPSILON);
+        assertEquals(1, ThroughputReport.percentile(sortedValues, 10), EPSILON);
+        assertEquals(2, ThroughputReport.percentile(sortedValues, 11), EPSILON);
+        assertEquals(7, ThroughputReport.percentile(new double[] {7}, 99), EPSILON);
+        assertTrue(Double.isNaN(ThroughputReport.percentile(new double[0], 50)));
+    }
+
+    @Test
+    void testReportOfLatencies() {
+        ThroughputReport report = ThroughputReport.of(1, 42, 2, new double[] {30, 10, 20, 40}, 60_000_000_000L, 1024);
+        assertEquals(4, report.getCaseCount());
+        assertEquals(4, report.getCasesPerMinute(), EPSILON);
+        assertEquals(20, report.getP50LatencyMillis(), EPSILON);
+        assertEquals(40, report.getP99LatencyMillis(), EPSILON);
+        assertEquals(1024, report.getPeakHeapBytes());
+    }
+
+    @Test
+    void testNoRegressionWithinMargin() {
+        ThroughputReport baseline = new ThroughputReport(1, 42, 2, 24, 100, 50, 80, 1000);
+        assertEquals(List.of(), baseline.getRegressions(baseline, 0.2));
+        assertEquals(List.of(), new ThroughputReport(1, 42, 2, 24, 81, 59, 95, 1199).getRegressions(baseline, 0.2));
+        assertEquals(List.of(), new ThroughputReport(1, 42, 2, 24, 200, 10, 10, 10).getRegressions(baseline, 0.2));
+    }
+
+    @Test
+    void testRegressions() {
+        ThroughputReport baseline = new ThroughputReport(1, 42, 2, 24, 100, 50, 80, 1000);
+        ThroughputReport report = new ThroughputReport(1, 42, 2, 24, 79, 61, 97, 1201);
+        assertEquals(List.of(
+            "casesPerMinute 79.00 is below baseline 100.00",
+            "p50LatencyMillis 61.00 is above baseline 50.00",
+            "p99LatencyMillis 97.00 is above baseline 80.00",
+            "peakHeapBytes 1201.00 is above baseline 1000.00"),
+            report.getRegressions(baseline, 0.2));
+        assertEquals(List.of("p99LatencyMillis 97.00 is above baseline 80.00"),
+            new ThroughputReport(1, 42, 2, 24, 100, 50, 97, 1000).getRegressions(baseline, 0.1));
+    }
+
+    @Test
+    void testConfigurationMismatches() {
+        ThroughputReport baseline = new ThroughputReport(1, 42, 2, 24, 100, 50, 80, 1000);
+        assertEquals(List.of(), new ThroughputReport(1, 42, 2, 24, 50, 100, 160, 2000).getConfigurationMismatches(baseline));
+        assertEquals(List.of(
+            "scale 2 differs from baseline 1",
+            "seed 7 differs from baseline 42",
+            "warmupCaseCount 0 differs from baseline 2",
+            "caseCount 12 differs from baseline 24"),
+            new ThroughputReport(2, 7, 0, 12, 100, 50, 80, 1000).getConfigurationMismatches(baseline));
+    }
+
+    @Test
+    void testWriteAndRead(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("throughput-baseline.properties");
+        new ThroughputReport(3, 42, 2, 24, 100.5, 50.25, 80.75, 1000).write(path);
+        ThroughputReport report = ThroughputReport.read(path);
+        assertEquals(3, report.getScale());
+        assertEquals(42, report.getSeed());
+        assertEquals(2, report.getWarmupCaseCount());
+        assertEquals(24, report.getCaseCount());
+        assertEquals(100.5, report.getCasesPerMinute(), EPSILON);
+        assertEquals(50.25, report.getP50LatencyMillis(), EPSILON);
+        assertEquals(80.75, report.getP99LatencyMillis(), EPSILON);
+        assertEquals(1000, report.getPeakHeapBytes());
+    }
+
+    @Test
+    void testReadBaselineWithoutConfiguration(@TempDir Path tempDir) throws IOException {
+        Path path = Files.writeString(tempDir.resolve("throughput-baseline.properties"),
+            "caseCount=24\ncasesPerMinute=100\np50LatencyMillis=50\np99LatencyMillis=80\npeakHeapBytes=1000\n");
+        IOException exception = assertThrows(IOException.class, () -> ThroughputReport.read(path));
+        assertEquals("Missing scale in throughput report " + path, exception.getMessage());
+    }
+}
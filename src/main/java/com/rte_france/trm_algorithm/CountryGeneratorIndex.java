@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.glsk.commons.ZonalDataImpl;
+import com.powsybl.iidm.modification.scalable.ProportionalScalable;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.EICode;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.powsybl.sensitivity.WeightedSensitivityVariable;
+
+import java.util.*;
+
+/**
+ * Connected generators of the main synchronous component grouped by country, built with a single pass over the
+ * network generators. Auto GLSKs and proportional scalables of all countries can then be computed in linear time
+ * from the same index.
+ * <p>
+ * The grouping reflects the network topology when the index is built, while generator target powers are read
+ * when GLSKs or scalables are computed.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class CountryGeneratorIndex {
+    private static final double MINIMAL_ABS_POWER_VALUE = 1e-5;
+
+    private final Map<Country, List<Generator>> generatorsByCountry;
+
+    private CountryGeneratorIndex(Map<Country, List<Generator>> generatorsByCountry) {
+        this.generatorsByCountry = generatorsByCountry;
+    }
+
+    public static CountryGeneratorIndex of(Network network) {
+        return of(network, NetworkCountries.of(network));
+    }
+
+    /**
+     * @param networkCountries country cache of the network, shared with the other components of the computation
+     */
+    public static CountryGeneratorIndex of(Network network, NetworkCountries networkCountries) {
+        Map<Country, List<Generator>> generatorsByCountry = new EnumMap<>(Country.class);
+        network.getCountries().forEach(country -> generatorsByCountry.put(country, new ArrayList<>()));
+        network.getGeneratorStream()
+            .filter(TrmUtils::isCorrect)
+            .forEach(generator -> generatorsByCountry.computeIfAbsent(networkCountries.getCountry(generator.getTerminal()), country -> new ArrayList<>()).add(generator));
+        return new CountryGeneratorIndex(generatorsByCountry);
+    }
+
+    public Set<Country> getCountries() {
+        return Collections.unmodifiableSet(generatorsByCountry.keySet());
+    }
+
+    public List<Generator> getGenerators(Country country) {
+        return Collections.unmodifiableList(generatorsByCountry.getOrDefault(country, Collections.emptyList()));
+    }
+
+    /**
+     * GLSK of each country, proportional to the generators target power, or uniform when the total target power is null.
+     */
+    public ZonalData<SensitivityVariableSet> getAutoGlsk() {
+        Map<String, SensitivityVariableSet> glsks = new HashMap<>();
+        generatorsByCountry.forEach((country, generators) -> {
+            double glskSum = 0;
+            for (Generator generator : generators) {
+                glskSum += generator.getTargetP();
+            }
+            List<WeightedSensitivityVariable> variables = new ArrayList<>(generators.size());
+            for (Generator generator : generators) {
+                double weight = glskSum == 0.0 ? 1.0 / generators.size() : generator.getTargetP() / glskSum;
+                variables.add(new WeightedSensitivityVariable(generator.getId(), weight));
+            }
+            glsks.put(country.name(), new SensitivityVariableSet(country.name(), variables));
+        });
+        return new ZonalDataImpl<>(glsks);
+    }
+
+    /**
+     * Proportional scalable of each country, keyed by the country EIC code.
+     */
+    public ZonalData<Scalable> getAutoScalable() {
+        Map<String, Scalable> scalables = new HashMap<>();
+        generatorsByCountry.forEach((country, generators) -> scalables.put(new EICode(country).getAreaCode(), getCountryGeneratorsScalable(generators)));
+        return new ZonalDataImpl<>(scalables);
+    }
+
+    public ProportionalScalable getCountryGeneratorsScalable(Country country) {
+        return getCountryGeneratorsScalable(generatorsByCountry.getOrDefault(country, Collections.emptyList()));
+    }
+
+    private static ProportionalScalable getCountryGeneratorsScalable(List<Generator> generators) {
+        double totalAbsoluteCountryP = 0;
+        for (Generator generator : generators) {
+            totalAbsoluteCountryP += absoluteTargetP(generator);
+        }
+        List<Double> percentages = new ArrayList<>(generators.size());
+        List<Scalable> scalables = new ArrayList<>(generators.size());
+        for (Generator generator : generators) {
+            percentages.add(100 * absoluteTargetP(generator) / totalAbsoluteCountryP);
+            scalables.add(Scalable.onGenerator(generator.getId()));
+        }
+        return Scalable.proportional(percentages, scalables);
+    }
+
+    private static double absoluteTargetP(Generator generator) {
+        return Math.max(MINIMAL_ABS_POWER_VALUE, Math.abs(generator.getTargetP()));
+    }
+}
@@ -8,8 +8,8 @@
 package com.rte_france.trm_algorithm;
 
 import com.powsybl.iidm.network.Network;
-import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.rte_france.trm_algorithm.metrics.TrmEvents;
 
 import java.util.List;
 import java.util.Map;
@@ -28,7 +28,7 @@ public class FlowExtractor {
     }
 
     public Map<String, Double> extract(Network network, List<String> branchIds) {
-        LoadFlow.run(network, loadFlowParameters);
+        TrmEvents.runLoadFlow("FlowExtractor", network, loadFlowParameters);
         return branchIds.stream().collect(Collectors.toMap(Function.identity(), branchId -> network.getBranch(branchId).getTerminal1().getP()));
     }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Country of each voltage level of a network, keyed by voltage level ID. An instance is created once per network by
+ * the entry point of a computation, e.g. {@link TrmAlgorithm}, and shared with all the components resolving countries
+ * of this network: aligners, UCTE mappers, {@link CountryGeneratorIndex} and {@link UncertaintyResult}.
+ * <p>
+ * Countries are resolved on first use of each voltage level, so that creating an instance does not walk the network,
+ * and lookups can be run concurrently without locking. Substation countries are not expected to change while the
+ * instance is used: {@link #invalidate()} must be called if they do.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class NetworkCountries {
+    private final Map<String, Optional<Country>> countriesByVoltageLevelId = new ConcurrentHashMap<>();
+
+    private NetworkCountries() {
+        // Countries are resolved on first use
+    }
+
+    /**
+     * New country cache of the network, to be shared by all the components working on it.
+     */
+    public static NetworkCountries of(Network network) {
+        Objects.requireNonNull(network);
+        return new NetworkCountries();
+    }
+
+    /**
+     * Forgets the resolved countries, e.g. after substation countries have been changed.
+     */
+    public void invalidate() {
+        countriesByVoltageLevelId.clear();
+    }
+
+    public Optional<Country> findCountry(VoltageLevel voltageLevel) {
+        Optional<Country> country = countriesByVoltageLevelId.get(voltageLevel.getId());
+        if (country == null) {
+            // Concurrent first uses may both resolve the country, which is cheaper than locking
+            country = resolveCountry(voltageLevel);
+            countriesByVoltageLevelId.put(voltageLevel.getId(), country);
+        }
+        return country;
+    }
+
+    public Optional<Country> findCountry(Terminal terminal) {
+        return findCountry(terminal.getVoltageLevel());
+    }
+
+    /**
+     * Country of the terminal, throwing a {@link TrmException} when its substation or its country is missing.
+     */
+    public Country getCountry(Terminal terminal) {
+        // Missing countries are resolved again to report the precise cause
+        return findCountry(terminal).orElseGet(() -> TrmUtils.getCountry(terminal));
+    }
+
+    private static Optional<Country> resolveCountry(VoltageLevel voltageLevel) {
+        return voltageLevel.getSubstation().flatMap(Substation::getCountry);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.iidm.network.Network;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/**
+ * Network loader keeping a binary IIDM snapshot of each imported network, keyed by the content hash and the name of
+ * its source file, e.g. UCTE or CGMES. The name is part of the key as importers may read data from it, e.g. the UCTE
+ * importer takes the network ID and case date from the file name.
+ * <p>
+ * Reading a binary snapshot is much faster than parsing the source file again, especially when the same reference
+ * network is paired with several market-based networks. Each load returns a new network, which can be modified by
+ * the alignment without altering the snapshot.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class NetworkSnapshotCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkSnapshotCache.class);
+    private static final String SNAPSHOT_FORMAT = "BIIDM";
+    private static final String SNAPSHOT_FILE_EXTENSION = ".biidm";
+
+    private final Path snapshotDirectory;
+
+    public NetworkSnapshotCache(Path snapshotDirectory) {
+        Objects.requireNonNull(snapshotDirectory);
+        try {
+            Files.createDirectories(snapshotDirectory);
+        } catch (IOException e) {
+            throw new TrmException("Unable to create network snapshot directory " + snapshotDirectory + ": " + e);
+        }
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    /**
+     * Imports the network from its snapshot if a file of the same name and content has already been imported, from
+     * the file otherwise, saving its snapshot.
+     */
+    public Network load(Path networkFile) {
+        String fileHash = TrmInputFingerprint.builder()
+            .addFile("content", networkFile)
+            .addParameter("fileName", networkFile.getFileName().toString())
+            .build()
+            .getValue();
+        Path snapshotFile = snapshotDirectory.resolve(fileHash + SNAPSHOT_FILE_EXTENSION);
+        if (Files.exists(snapshotFile)) {
+            LOGGER.debug("Reading snapshot {} of network file {}", snapshotFile, networkFile);
+            return Network.read(snapshotFile);
+        }
+        Network network = Network.read(networkFile);
+        writeSnapshot(network, fileHash, snapshotFile);
+        return network;
+    }
+
+    private void writeSnapshot(Network network, String fileHash, Path snapshotFile) {
+        try {
+            // Written to a temporary directory first, so that concurrent loads never read a partial snapshot
+            Path temporaryDirectory = Files.createTempDirectory(snapshotDirectory, "snapshot");
+            try {
+                network.write(SNAPSHOT_FORMAT, null, temporaryDirectory.toString(), fileHash);
+                Files.move(temporaryDirectory.resolve(fileHash + SNAPSHOT_FILE_EXTENSION), snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryDirectory.resolve(fileHash + SNAPSHOT_FILE_EXTENSION));
+                Files.delete(temporaryDirectory);
+            }
+        } catch (IOException e) {
+            throw new TrmException("Unable to write network snapshot " + snapshotFile + ": " + e);
+        }
+        LOGGER.info("Snapshot {} of network {} written", snapshotFile, network.getId());
+    }
+}
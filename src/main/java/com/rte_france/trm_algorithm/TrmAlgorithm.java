@@ -14,11 +14,17 @@ import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.NetworkElementMapping;
+import com.rte_france.trm_algorithm.metrics.TrmEvents;
+import com.rte_france.trm_algorithm.metrics.TrmMetrics;
+import com.rte_france.trm_algorithm.metrics.TrmMetricsListener;
 import com.rte_france.trm_algorithm.operational_conditions_aligners.OperationalConditionAligner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,17 +38,31 @@ public class TrmAlgorithm {
     private static final Logger LOGGER = LoggerFactory.getLogger(TrmAlgorithm.class);
 
     private final OperationalConditionAligner operationalConditionAligner;
+    private final LoadFlowParameters loadFlowParameters;
+    private final List<String> countryRestrictionEiCode;
     private final ZonalSensitivityComputer zonalSensitivityComputer;
     private final FlowExtractor flowExtractor;
+    private final TrmMetricsListener metricsListener;
 
     public TrmAlgorithm(LoadFlowParameters loadFlowParameters, OperationalConditionAligner operationalConditionAligner) {
         this(loadFlowParameters, operationalConditionAligner, new ArrayList<>());
     }
 
     public TrmAlgorithm(LoadFlowParameters loadFlowParameters, OperationalConditionAligner operationalConditionAligner, List<String> countryRestrictionEiCode) {
+        this(loadFlowParameters, operationalConditionAligner, countryRestrictionEiCode, TrmMetricsListener.NO_OP);
+    }
+
+    /**
+     * @param metricsListener notified of the metrics of each stage of the computations, which are also reported in
+     *                        {@link TrmResults#getMetricsReport()}
+     */
+    public TrmAlgorithm(LoadFlowParameters loadFlowParameters, OperationalConditionAligner operationalConditionAligner, List<String> countryRestrictionEiCode, TrmMetricsListener metricsListener) {
         this.operationalConditionAligner = operationalConditionAligner;
+        this.loadFlowParameters = loadFlowParameters;
+        this.countryRestrictionEiCode = countryRestrictionEiCode;
         this.flowExtractor = new FlowExtractor(loadFlowParameters);
         this.zonalSensitivityComputer = new ZonalSensitivityComputer(loadFlowParameters, countryRestrictionEiCode);
+        this.metricsListener = Objects.requireNonNull(metricsListener);
     }
 
     private void checkReferenceElementNotEmpty(List<String> referenceNetworkElementIds) {
@@ -51,9 +71,9 @@ public class TrmAlgorithm {
         }
     }
 
-    private List<String> checkReferenceElementAreAvailableInMarketBasedNetwork(List<String> referenceNetworkElementIds, Network marketBasedNetwork) {
+    private List<String> checkReferenceElementAreAvailableInMarketBasedNetwork(List<String> referenceNetworkElementIds, NetworkElementMapping elementMapping) {
         List<String> missingBranches = referenceNetworkElementIds.stream()
-            .filter(branchId -> Objects.isNull(marketBasedNetwork.getBranch(branchId)))
+            .filter(branchId -> Objects.isNull(elementMapping.getMarketBasedElement(branchId, Branch.class)))
             .sorted()
             .toList();
         if (!missingBranches.isEmpty()) {
@@ -62,30 +82,123 @@ public class TrmAlgorithm {
         return referenceNetworkElementIds.stream().filter(branchId -> !missingBranches.contains(branchId)).collect(Collectors.toList());
     }
 
+    /**
+     * Market-based flows of the reference critical network elements, keyed by reference ID and oriented as the
+     * reference branches.
+     */
+    private Map<String, Double> extractMarketBasedFlows(NetworkElementMapping elementMapping, List<String> referenceNetworkElementIds) {
+        Map<String, Branch<?>> marketBasedBranchesByReferenceId = new HashMap<>();
+        referenceNetworkElementIds.forEach(branchId -> marketBasedBranchesByReferenceId.put(branchId, elementMapping.getMarketBasedElement(branchId, Branch.class)));
+        List<String> marketBasedNetworkElementIds = referenceNetworkElementIds.stream()
+            .map(branchId -> marketBasedBranchesByReferenceId.get(branchId).getId())
+            .toList();
+        Map<String, Double> marketBasedFlows = flowExtractor.extract(elementMapping.getMarketBasedNetwork(), marketBasedNetworkElementIds);
+        return referenceNetworkElementIds.stream().collect(Collectors.toMap(
+            branchId -> branchId,
+            branchId -> {
+                Branch<?> marketBasedBranch = marketBasedBranchesByReferenceId.get(branchId);
+                double marketBasedFlow = marketBasedFlows.get(marketBasedBranch.getId());
+                return isReversed(elementMapping.getReferenceNetwork().getBranch(branchId), marketBasedBranch) ? -marketBasedFlow : marketBasedFlow;
+            }
+        ));
+    }
+
+    private static boolean isReversed(Branch<?> referenceBranch, Branch<?> marketBasedBranch) {
+        String referenceVoltageLevelId1 = referenceBranch.getTerminal1().getVoltageLevel().getId();
+        return !referenceVoltageLevelId1.equals(marketBasedBranch.getTerminal1().getVoltageLevel().getId())
+            && referenceVoltageLevelId1.equals(marketBasedBranch.getTerminal2().getVoltageLevel().getId());
+    }
+
     public TrmResults computeUncertainties(Network referenceNetwork, Network marketBasedNetwork, XnecProvider xnecProvider, ZonalData<SensitivityVariableSet> referenceZonalGlsks) {
+        return computeUncertainties(referenceNetwork, marketBasedNetwork, xnecProvider, referenceZonalGlsks, IdentifiableMapping.empty());
+    }
+
+    /**
+     * Computes uncertainties of networks with different element IDs. Market-based elements are found through the
+     * given mapping, without adding aliases to the networks.
+     */
+    public TrmResults computeUncertainties(Network referenceNetwork, Network marketBasedNetwork, XnecProvider xnecProvider, ZonalData<SensitivityVariableSet> referenceZonalGlsks, IdentifiableMapping identifiableMapping) {
+        return computeUncertainties(referenceNetwork, marketBasedNetwork, xnecProvider, referenceZonalGlsks, identifiableMapping, Map.of()).build();
+    }
+
+    /**
+     * Computes uncertainties of the critical network elements whose results are not already cached for the given
+     * inputs, and caches them. The networks are neither aligned nor computed when all results are cached.
+     * <p>
+     * Results are cached for the given fingerprint completed with the load flow parameters and the country
+     * restriction of this algorithm, and with the identifiable mapping.
+     * </p>
+     *
+     * @param inputFingerprint fingerprint of the networks, GLSK and aligners of the computation
+     */
+    public TrmResults computeUncertainties(Network referenceNetwork, Network marketBasedNetwork, XnecProvider xnecProvider, ZonalData<SensitivityVariableSet> referenceZonalGlsks, IdentifiableMapping identifiableMapping,
+                                           TrmResultCache resultCache, TrmInputFingerprint inputFingerprint) {
+        TrmInputFingerprint resultFingerprint = getResultFingerprint(inputFingerprint, identifiableMapping);
+        Map<String, UncertaintyResult> cachedUncertaintiesMap = resultCache.get(resultFingerprint);
+        TrmResults.Builder builder = computeUncertainties(referenceNetwork, marketBasedNetwork, xnecProvider, referenceZonalGlsks, identifiableMapping, cachedUncertaintiesMap);
+        TrmResults trmResults = builder.build();
+        Map<String, UncertaintyResult> computedUncertaintiesMap = trmResults.getUncertaintiesMap().entrySet().stream()
+            .filter(entry -> !cachedUncertaintiesMap.containsKey(entry.getKey()))
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (!computedUncertaintiesMap.isEmpty()) {
+            resultCache.put(resultFingerprint, computedUncertaintiesMap);
+        }
+        return trmResults;
+    }
+
+    private TrmInputFingerprint getResultFingerprint(TrmInputFingerprint inputFingerprint, IdentifiableMapping identifiableMapping) {
+        Objects.requireNonNull(inputFingerprint);
+        return TrmInputFingerprint.builder()
+            .addFingerprint("inputs", inputFingerprint)
+            .addLoadFlowParameters(loadFlowParameters)
+            .addParameter("countryRestrictionEiCode", countryRestrictionEiCode.stream().sorted().collect(Collectors.joining(",")))
+            .addIdentifiableMapping(identifiableMapping)
+            .build();
+    }
+
+    private TrmResults.Builder computeUncertainties(Network referenceNetwork, Network marketBasedNetwork, XnecProvider xnecProvider, ZonalData<SensitivityVariableSet> referenceZonalGlsks, IdentifiableMapping identifiableMapping,
+                                                    Map<String, UncertaintyResult> cachedUncertaintiesMap) {
         TrmResults.Builder builder = TrmResults.builder();
+        TrmMetrics metrics = new TrmMetrics(metricsListener);
+        NetworkElementMapping elementMapping = NetworkElementMapping.of(referenceNetwork, marketBasedNetwork, identifiableMapping);
 
         LOGGER.info("Selecting Critical network elements");
-        List<String> referenceNetworkElementIds = xnecProvider.getNetworkElements(referenceNetwork).stream().map(Identifiable::getId).sorted().toList();
-        checkReferenceElementNotEmpty(referenceNetworkElementIds);
-        referenceNetworkElementIds = checkReferenceElementAreAvailableInMarketBasedNetwork(referenceNetworkElementIds, marketBasedNetwork);
-
-        operationalConditionAligner.align(referenceNetwork, marketBasedNetwork);
-        Map<String, Double> marketBasedFlows = flowExtractor.extract(marketBasedNetwork, referenceNetworkElementIds);
-        Map<String, ZonalPtdfAndFlow> referencePtdfAndFlow = zonalSensitivityComputer.run(referenceNetwork, referenceNetworkElementIds, referenceZonalGlsks);
-        LOGGER.info("Computing uncertainties");
-        Map<String, UncertaintyResult> uncertaintiesMap = referencePtdfAndFlow.entrySet().stream().collect(Collectors.toMap(
-            Map.Entry::getKey,
-            entry -> {
-                Branch<?> referenceBranch = referenceNetwork.getBranch(entry.getKey());
-                double marketBasedFlow = marketBasedFlows.get(entry.getKey());
-                double referenceFlow = entry.getValue().getFlow();
-                double referenceZonalPtdf = entry.getValue().getZonalPtdf();
-                return new UncertaintyResult(referenceBranch, marketBasedFlow, referenceFlow, referenceZonalPtdf);
-            }
-        ));
+        List<String> selectedNetworkElementIds = metrics.measure("selectCriticalNetworkElements", () -> {
+            List<String> networkElementIds = xnecProvider.getNetworkElements(referenceNetwork).stream().map(Identifiable::getId).sorted().toList();
+            checkReferenceElementNotEmpty(networkElementIds);
+            return checkReferenceElementAreAvailableInMarketBasedNetwork(networkElementIds, elementMapping);
+        });
+        Map<String, UncertaintyResult> uncertaintiesMap = new HashMap<>();
+        selectedNetworkElementIds.stream()
+            .filter(cachedUncertaintiesMap::containsKey)
+            .forEach(branchId -> uncertaintiesMap.put(branchId, cachedUncertaintiesMap.get(branchId)));
+        List<String> referenceNetworkElementIds = selectedNetworkElementIds.stream().filter(branchId -> !uncertaintiesMap.containsKey(branchId)).toList();
+        if (!uncertaintiesMap.isEmpty()) {
+            LOGGER.info("Reusing cached uncertainties of {} critical network elements, computing {}", uncertaintiesMap.size(), referenceNetworkElementIds.size());
+        }
+
+        if (!referenceNetworkElementIds.isEmpty()) {
+            // Shared by the aligners and the results, so that the country of each voltage level is resolved once
+            NetworkCountries referenceCountries = NetworkCountries.of(referenceNetwork);
+            NetworkCountries marketBasedCountries = NetworkCountries.of(marketBasedNetwork);
+            metrics.measure("alignment", () -> TrmEvents.align(operationalConditionAligner.getName(), referenceNetwork, marketBasedNetwork,
+                () -> operationalConditionAligner.align(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries)));
+            Map<String, Double> marketBasedFlows = metrics.measure("extractMarketBasedFlows", () -> extractMarketBasedFlows(elementMapping, referenceNetworkElementIds));
+            Map<String, ZonalPtdfAndFlow> referencePtdfAndFlow = metrics.measure("computeReferenceZonalSensitivities", () -> zonalSensitivityComputer.run(referenceNetwork, referenceNetworkElementIds, referenceZonalGlsks));
+            LOGGER.info("Computing uncertainties");
+            uncertaintiesMap.putAll(metrics.measure("computeUncertainties", () -> referencePtdfAndFlow.entrySet().stream().collect(Collectors.toMap(
+                Map.Entry::getKey,
+                entry -> {
+                    Branch<?> referenceBranch = referenceNetwork.getBranch(entry.getKey());
+                    double marketBasedFlow = marketBasedFlows.get(entry.getKey());
+                    double referenceFlow = entry.getValue().getFlow();
+                    double referenceZonalPtdf = entry.getValue().getZonalPtdf();
+                    return new UncertaintyResult(referenceBranch, referenceCountries, marketBasedFlow, referenceFlow, referenceZonalPtdf);
+                }
+            ))));
+        }
 
-        builder.addUncertainties(uncertaintiesMap);
-        return builder.build();
+        return builder.addUncertainties(uncertaintiesMap)
+            .addMetricsReport(metrics.getReport());
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.json.JsonLoadFlowParameters;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.OperationalConditionAligner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Content hash of the inputs of a TRM computation: input files such as networks, GLSK and CRAC, aligner pipeline and
+ * load flow parameters.
+ * <p>
+ * Each input is labelled, e.g. {@code referenceNetwork}, and hashed with SHA-256. The fingerprint is the hash of the
+ * labelled hashes sorted by label, so it does not depend on the order inputs are added and renaming a file does not
+ * change it. The critical network elements are not part of the inputs, so that {@link TrmResultCache} reuses the
+ * results of the branches of a previous computation when branches are added.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmInputFingerprint {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String value;
+    private final SortedMap<String, String> inputHashes;
+
+    private TrmInputFingerprint(Builder builder) {
+        this.inputHashes = Collections.unmodifiableSortedMap(new TreeMap<>(builder.inputHashes));
+        MessageDigest messageDigest = createMessageDigest();
+        inputHashes.forEach((label, hash) -> {
+            messageDigest.update(label.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) '=');
+            messageDigest.update(hash.getBytes(StandardCharsets.UTF_8));
+            messageDigest.update((byte) '\n');
+        });
+        this.value = HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new TrmException("Unable to compute input fingerprint: " + e);
+        }
+    }
+
+    /**
+     * Hexadecimal SHA-256 hash of the content of the file.
+     */
+    public static String hashFile(Path file) {
+        MessageDigest messageDigest = createMessageDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int readBytes = inputStream.read(buffer);
+            while (readBytes >= 0) {
+                messageDigest.update(buffer, 0, readBytes);
+                readBytes = inputStream.read(buffer);
+            }
+        } catch (IOException e) {
+            throw new TrmException("Unable to read input file " + file + ": " + e);
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    /**
+     * Hexadecimal SHA-256 hash of the inputs.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Hexadecimal SHA-256 hash of each input, sorted by label, e.g. to find which input changed.
+     */
+    public SortedMap<String, String> getInputHashes() {
+        return inputHashes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TrmInputFingerprint other && value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    public static final class Builder {
+        private final Map<String, String> inputHashes = new TreeMap<>();
+
+        private Builder() {
+            // Builder pattern
+        }
+
+        public Builder addFile(String label, Path file) {
+            return addHash(label, hashFile(file));
+        }
+
+        public Builder addLoadFlowParameters(LoadFlowParameters loadFlowParameters) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            JsonLoadFlowParameters.write(loadFlowParameters, byteArrayOutputStream);
+            return addHash("loadFlowParameters", createMessageDigest().digest(byteArrayOutputStream.toByteArray()));
+        }
+
+        /**
+         * Adds the configuration of the aligner, including the aligners of a pipeline in order. Parameters of the
+         * aligners, e.g. their CRAC or balance computation parameters, have to be added with {@link #addParameter}.
+         */
+        public Builder addOperationalConditionAligner(OperationalConditionAligner operationalConditionAligner) {
+            return addParameter("operationalConditionAligner", operationalConditionAligner.getConfiguration());
+        }
+
+        /**
+         * Adds the element mapping between the networks, which selects the market-based element of each branch.
+         */
+        public Builder addIdentifiableMapping(IdentifiableMapping identifiableMapping) {
+            MessageDigest messageDigest = createMessageDigest();
+            new TreeMap<>(identifiableMapping.mappingFromReferenceToMarketBased).forEach((referenceId, marketBasedId) -> {
+                messageDigest.update(referenceId.getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+                messageDigest.update(marketBasedId.getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+            });
+            return addHash("identifiableMapping", messageDigest.digest());
+        }
+
+        /**
+         * Adds another fingerprint as a single input, e.g. to complete the fingerprint of a caller.
+         */
+        public Builder addFingerprint(String label, TrmInputFingerprint inputFingerprint) {
+            return addHash(label, inputFingerprint.getValue());
+        }
+
+        public Builder addParameter(String label, String value) {
+            return addHash(label, createMessageDigest().digest(value.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        private Builder addHash(String label, byte[] hash) {
+            return addHash(label, HexFormat.of().formatHex(hash));
+        }
+
+        private Builder addHash(String label, String hash) {
+            Objects.requireNonNull(label);
+            if (inputHashes.putIfAbsent(label, hash) != null) {
+                throw new TrmException("Input '" + label + "' is already part of the fingerprint");
+            }
+            return this;
+        }
+
+        public TrmInputFingerprint build() {
+            if (inputHashes.isEmpty()) {
+                throw new TrmException("Input fingerprint without any input");
+            }
+            return new TrmInputFingerprint(this);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk cache of the uncertainty results of each branch, keyed by the {@link TrmInputFingerprint} of the inputs of
+ * their computation.
+ * <p>
+ * Results put for a fingerprint are merged with the results already cached for it, so that the cache of a case
+ * gathers the branches of all its computations, e.g. with successive lists of critical network elements.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmResultCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrmResultCache.class);
+    private static final int BINARY_FORMAT_MAGIC_NUMBER = 0x54524d52; // "TRMR"
+    private static final int BINARY_FORMAT_VERSION = 1;
+    private static final String CACHE_FILE_EXTENSION = ".results.gz";
+
+    private final Path cacheDirectory;
+
+    public TrmResultCache(Path cacheDirectory) {
+        Objects.requireNonNull(cacheDirectory);
+        try {
+            Files.createDirectories(cacheDirectory);
+        } catch (IOException e) {
+            throw new TrmException("Unable to create result cache directory " + cacheDirectory + ": " + e);
+        }
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Cached uncertainty results of the inputs, keyed by branch ID, empty if none.
+     */
+    public synchronized Map<String, UncertaintyResult> get(TrmInputFingerprint inputFingerprint) {
+        Path cacheFile = getCacheFile(inputFingerprint);
+        if (!Files.exists(cacheFile)) {
+            return new HashMap<>();
+        }
+        return read(cacheFile, inputFingerprint);
+    }
+
+    /**
+     * Adds the uncertainty results to the ones cached for the inputs, replacing the results of the same branches.
+     */
+    public synchronized void put(TrmInputFingerprint inputFingerprint, Map<String, UncertaintyResult> uncertaintiesMap) {
+        Map<String, UncertaintyResult> cachedUncertaintiesMap = get(inputFingerprint);
+        cachedUncertaintiesMap.putAll(uncertaintiesMap);
+        write(getCacheFile(inputFingerprint), inputFingerprint, cachedUncertaintiesMap);
+        LOGGER.debug("{} uncertainty results cached for inputs {}", cachedUncertaintiesMap.size(), inputFingerprint);
+    }
+
+    private Path getCacheFile(TrmInputFingerprint inputFingerprint) {
+        return cacheDirectory.resolve(inputFingerprint.getValue() + CACHE_FILE_EXTENSION);
+    }
+
+    private static void write(Path cacheFile, TrmInputFingerprint inputFingerprint, Map<String, UncertaintyResult> uncertaintiesMap) {
+        try {
+            // Written to a temporary file first, so that concurrent readers never see a partial entry
+            Path temporaryFile = Files.createTempFile(cacheFile.getParent(), "results", ".tmp");
+            try (DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile))))) {
+                dataOutputStream.writeInt(BINARY_FORMAT_MAGIC_NUMBER);
+                dataOutputStream.writeInt(BINARY_FORMAT_VERSION);
+                dataOutputStream.writeUTF(inputFingerprint.getValue());
+                UncertaintyResultSerializer.write(dataOutputStream, uncertaintiesMap);
+            }
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new TrmException("Unable to write result cache file " + cacheFile + ": " + e);
+        }
+    }
+
+    private static Map<String, UncertaintyResult> read(Path cacheFile, TrmInputFingerprint inputFingerprint) {
+        try (DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(cacheFile))))) {
+            if (dataInputStream.readInt() != BINARY_FORMAT_MAGIC_NUMBER) {
+                throw new TrmException("File " + cacheFile + " is not a result cache file");
+            }
+            int version = dataInputStream.readInt();
+            if (version != BINARY_FORMAT_VERSION) {
+                throw new TrmException("Unsupported result cache version: " + version);
+            }
+            if (!dataInputStream.readUTF().equals(inputFingerprint.getValue())) {
+                throw new TrmException("Result cache file " + cacheFile + " does not match its input fingerprint");
+            }
+            return UncertaintyResultSerializer.read(dataInputStream);
+        } catch (IOException e) {
+            throw new TrmException("Unable to read result cache file " + cacheFile + ": " + e);
+        }
+    }
+}
@@ -7,6 +7,8 @@
  */
 package com.rte_france.trm_algorithm;
 
+import com.rte_france.trm_algorithm.metrics.TrmMetricsReport;
+
 import java.util.Map;
 import java.util.Objects;
 
@@ -17,9 +19,11 @@ import java.util.Objects;
 public final class TrmResults {
 
     private final Map<String, UncertaintyResult> uncertaintiesMap;
+    private final TrmMetricsReport metricsReport;
 
     private TrmResults(Builder builder) {
         this.uncertaintiesMap = builder.uncertaintiesMap;
+        this.metricsReport = builder.metricsReport;
     }
 
     public static TrmResults.Builder builder() {
@@ -30,8 +34,16 @@ public final class TrmResults {
         return uncertaintiesMap;
     }
 
+    /**
+     * Time and resources used by each stage of the computation.
+     */
+    public TrmMetricsReport getMetricsReport() {
+        return metricsReport;
+    }
+
     public static final class Builder {
         private Map<String, UncertaintyResult> uncertaintiesMap;
+        private TrmMetricsReport metricsReport = TrmMetricsReport.empty();
 
         private Builder() {
             // Builder pattern
@@ -42,8 +54,14 @@ public final class TrmResults {
             return this;
         }
 
+        public Builder addMetricsReport(TrmMetricsReport metricsReport) {
+            this.metricsReport = metricsReport;
+            return this;
+        }
+
         public TrmResults build() {
             Objects.requireNonNull(uncertaintiesMap);
+            Objects.requireNonNull(metricsReport);
             return new TrmResults(this);
         }
     }
@@ -8,48 +8,24 @@
 package com.rte_france.trm_algorithm;
 
 import com.powsybl.glsk.commons.ZonalData;
-import com.powsybl.glsk.commons.ZonalDataImpl;
 import com.powsybl.iidm.modification.scalable.ProportionalScalable;
 import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.network.*;
-import com.powsybl.openrao.commons.EICode;
 import com.powsybl.sensitivity.SensitivityVariableSet;
-import com.powsybl.sensitivity.WeightedSensitivityVariable;
 
-import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
  * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
  */
 public final class TrmUtils {
-    private static final double MINIMAL_ABS_POWER_VALUE = 1e-5;
-
     private TrmUtils() {
         // Utility class
     }
 
     public static ProportionalScalable getCountryGeneratorsScalable(Network network, Country country) {
-        List<Scalable> scalables = new ArrayList<>();
-        List<Double> percentages = new ArrayList<>();
-        List<Generator> generators = network.getGeneratorStream()
-            .filter(generator -> TrmUtils.getCountry(generator.getTerminal()).equals(country))
-            .filter(TrmUtils::isCorrect)
-            .toList();
-        double totalAbsoluteCountryP = generators.stream().mapToDouble(TrmUtils::absoluteTargetP).sum();
-        generators.forEach(generator -> {
-            double generatorPercentage = 100 * absoluteTargetP(generator) / totalAbsoluteCountryP;
-            percentages.add(generatorPercentage);
-            scalables.add(Scalable.onGenerator(generator.getId()));
-        });
-
-        return Scalable.proportional(percentages, scalables);
-    }
-
-    private static double absoluteTargetP(Generator generator) {
-        return Math.max(MINIMAL_ABS_POWER_VALUE, Math.abs(generator.getTargetP()));
+        return CountryGeneratorIndex.of(network).getCountryGeneratorsScalable(country);
     }
 
     static boolean isCorrect(Injection<?> injection) {
@@ -59,30 +35,16 @@ public final class TrmUtils {
             injection.getTerminal().getBusView().getBus().isInMainSynchronousComponent();
     }
 
+    /**
+     * Use {@link CountryGeneratorIndex} directly when auto scalables of the same network are also needed.
+     */
     public static ZonalData<SensitivityVariableSet> getAutoGlsk(Network network) {
-        Map<Country, Map<String, Double>> glsks = getGlskMap(network);
-        return convertToZonalGlsk(glsks);
-    }
-
-    private static Map<Country, Map<String, Double>> getGlskMap(Network network) {
-        return normalizeGlsks(initializeGlskMapWithGeneratorPowers(network));
-    }
-
-    private static Map<Country, Map<String, Double>> initializeGlskMapWithGeneratorPowers(Network network) {
-        Map<Country, Map<String, Double>> glsks =
-            network.getCountries()
-                .stream()
-                .collect(Collectors.toMap(Function.identity(), country -> new HashMap<>()));
-
-        network.getGeneratorStream()
-            .filter(TrmUtils::isCorrect)
-            .forEach(generator -> {
-                Country generatorCountry = getCountry(generator.getTerminal());
-                glsks.get(generatorCountry).put(generator.getId(), generator.getTargetP());
-            });
-        return glsks;
+        return CountryGeneratorIndex.of(network).getAutoGlsk();
     }
 
+    /**
+     * Use {@link NetworkCountries} when the countries of many terminals of the same network are needed.
+     */
     public static Country getCountry(Terminal terminal) {
         VoltageLevel voltageLevel = terminal.getVoltageLevel();
         Optional<Substation> optionalSubstation = voltageLevel.getSubstation();
@@ -97,36 +59,7 @@ public final class TrmUtils {
         return optionalCountry.get();
     }
 
-    private static Map<Country, Map<String, Double>> normalizeGlsks(Map<Country, Map<String, Double>> glsks) {
-        glsks.forEach((country, glsk) -> {
-            double glskSum = glsk.values().stream().mapToDouble(factor -> factor).sum();
-            if (glskSum == 0.0) {
-                glsk.forEach((key, value) -> glsk.put(key, 1.0 / glsk.size()));
-            } else {
-                glsk.forEach((key, value) -> glsk.put(key, value / glskSum));
-            }
-        });
-        return glsks;
-    }
-
-    private static ZonalData<SensitivityVariableSet> convertToZonalGlsk(Map<Country, Map<String, Double>> glsks) {
-        return new ZonalDataImpl<>(glsks.keySet().stream()
-            .collect(Collectors.toMap(
-                Enum::name,
-                country -> new SensitivityVariableSet(
-                    country.name(),
-                    glsks.get(country).entrySet().stream().map(entry -> new WeightedSensitivityVariable(entry.getKey(), entry.getValue())).toList()
-                )
-            ))
-        );
-    }
-
     public static ZonalData<Scalable> getAutoScalable(Network network) {
-        Map<String, Scalable> scalableZonalData = network.getCountries().stream()
-            .collect(Collectors.toMap(
-                country -> new EICode(country).getAreaCode(),
-                country -> getCountryGeneratorsScalable(network, country)
-            ));
-        return new ZonalDataImpl<>(scalableZonalData);
+        return CountryGeneratorIndex.of(network).getAutoScalable();
     }
 }
@@ -20,18 +20,44 @@ import org.slf4j.LoggerFactory;
 public class UncertaintyResult {
     private static final Logger LOGGER = LoggerFactory.getLogger(UncertaintyResult.class);
     private final Branch<?> referenceBranch;
+    private final NetworkCountries referenceCountries;
+    private final String referenceBranchName;
+    private final Country referenceCountry1;
+    private final Country referenceCountry2;
     private final double marketBasedFlow;
     private final double referenceFlow;
     private final double referenceZonalPtdf;
     private final double uncertainty;
 
     public UncertaintyResult(Branch<?> referenceBranch, double marketBasedFlow, double referenceFlow, double referenceZonalPtdf) {
+        this(referenceBranch, NetworkCountries.of(referenceBranch.getNetwork()), marketBasedFlow, referenceFlow, referenceZonalPtdf);
+    }
+
+    /**
+     * @param referenceCountries country cache of the reference network, shared with the other results of the computation
+     */
+    public UncertaintyResult(Branch<?> referenceBranch, NetworkCountries referenceCountries, double marketBasedFlow, double referenceFlow, double referenceZonalPtdf) {
+        this(referenceBranch, referenceCountries, referenceBranch.getNameOrId(), null, null, marketBasedFlow, referenceFlow, referenceZonalPtdf);
+        LOGGER.info("Uncertainty of branch id:'{}', name '{}' = {} with market-based flow: {}, reference flow: {}, reference zonal Ptdf: {}", referenceBranch.getId(), referenceBranchName, uncertainty, marketBasedFlow, referenceFlow, referenceZonalPtdf);
+    }
+
+    /**
+     * Uncertainty of a branch whose reference network is no longer available, e.g. read back from a file.
+     */
+    public UncertaintyResult(String referenceBranchName, Country referenceCountry1, Country referenceCountry2, double marketBasedFlow, double referenceFlow, double referenceZonalPtdf) {
+        this(null, null, referenceBranchName, referenceCountry1, referenceCountry2, marketBasedFlow, referenceFlow, referenceZonalPtdf);
+    }
+
+    private UncertaintyResult(Branch<?> referenceBranch, NetworkCountries referenceCountries, String referenceBranchName, Country referenceCountry1, Country referenceCountry2, double marketBasedFlow, double referenceFlow, double referenceZonalPtdf) {
         this.referenceBranch = referenceBranch;
+        this.referenceCountries = referenceCountries;
+        this.referenceBranchName = referenceBranchName;
+        this.referenceCountry1 = referenceCountry1;
+        this.referenceCountry2 = referenceCountry2;
         this.marketBasedFlow = marketBasedFlow;
         this.referenceFlow = referenceFlow;
         this.referenceZonalPtdf = referenceZonalPtdf;
         this.uncertainty = (marketBasedFlow - referenceFlow) / referenceZonalPtdf;
-        LOGGER.info("Uncertainty of branch id:'{}', name '{}' = {} with market-based flow: {}, reference flow: {}, reference zonal Ptdf: {}", referenceBranch.getId(), referenceBranch.getNameOrId(), uncertainty, marketBasedFlow, referenceFlow, referenceZonalPtdf);
     }
 
     public double getMarketBasedFlow() {
@@ -51,10 +77,13 @@ public class UncertaintyResult {
     }
 
     public String getReferenceBranchName() {
-        return referenceBranch.getNameOrId();
+        return referenceBranchName;
     }
 
     public Country getReferenceCountry(TwoSides side) {
-        return TrmUtils.getCountry(referenceBranch.getTerminal(side));
+        if (referenceBranch == null) {
+            return side == TwoSides.ONE ? referenceCountry1 : referenceCountry2;
+        }
+        return referenceCountries.getCountry(referenceBranch.getTerminal(side));
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.TwoSides;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Binary serialization of uncertainty results keyed by branch ID. Read results do not refer to any network.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class UncertaintyResultSerializer {
+    private static final String NO_COUNTRY = "";
+
+    private UncertaintyResultSerializer() {
+        // utility class
+    }
+
+    public static void write(DataOutput dataOutput, Map<String, UncertaintyResult> uncertaintiesMap) throws IOException {
+        // Sorted so that the same results are always written the same way
+        Map<String, UncertaintyResult> sortedUncertaintiesMap = new TreeMap<>(uncertaintiesMap);
+        dataOutput.writeInt(sortedUncertaintiesMap.size());
+        for (Map.Entry<String, UncertaintyResult> entry : sortedUncertaintiesMap.entrySet()) {
+            UncertaintyResult uncertaintyResult = entry.getValue();
+            dataOutput.writeUTF(entry.getKey());
+            dataOutput.writeUTF(uncertaintyResult.getReferenceBranchName());
+            dataOutput.writeUTF(writeCountry(uncertaintyResult.getReferenceCountry(TwoSides.ONE)));
+            dataOutput.writeUTF(writeCountry(uncertaintyResult.getReferenceCountry(TwoSides.TWO)));
+            dataOutput.writeDouble(uncertaintyResult.getMarketBasedFlow());
+            dataOutput.writeDouble(uncertaintyResult.getReferenceFlow());
+            dataOutput.writeDouble(uncertaintyResult.getReferenceZonalPtdf());
+        }
+    }
+
+    public static Map<String, UncertaintyResult> read(DataInput dataInput) throws IOException {
+        int uncertaintyCount = dataInput.readInt();
+        Map<String, UncertaintyResult> uncertaintiesMap = new HashMap<>();
+        for (int i = 0; i < uncertaintyCount; i++) {
+            String branchId = dataInput.readUTF();
+            uncertaintiesMap.put(branchId, new UncertaintyResult(dataInput.readUTF(),
+                readCountry(dataInput.readUTF()), readCountry(dataInput.readUTF()),
+                dataInput.readDouble(), dataInput.readDouble(), dataInput.readDouble()));
+        }
+        return uncertaintiesMap;
+    }
+
+    private static String writeCountry(Country country) {
+        return country == null ? NO_COUNTRY : country.name();
+    }
+
+    private static Country readCountry(String country) {
+        return country.equals(NO_COUNTRY) ? null : Country.valueOf(country);
+    }
+}
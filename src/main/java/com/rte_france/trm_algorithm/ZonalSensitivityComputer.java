@@ -12,6 +12,7 @@ import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.sensitivity.*;
+import com.rte_france.trm_algorithm.metrics.TrmEvents;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -80,7 +81,9 @@ public final class ZonalSensitivityComputer {
         if (!countryRestrictionEiCode.isEmpty()) {
             factors = factors.stream().filter(factor -> countryRestrictionEiCode.contains(factor.getVariableId())).toList();
         }
-        SensitivityAnalysisResult sensitivityAnalysisResult = SensitivityAnalysis.run(network, factors, Collections.emptyList(), variableSets, sensitivityAnalysisParameters);
+        List<SensitivityFactor> filteredFactors = factors;
+        SensitivityAnalysisResult sensitivityAnalysisResult = TrmEvents.runSensitivityAnalysis(network, branchIds.size(), factors.size(), variableSets.size(),
+            () -> SensitivityAnalysis.run(network, filteredFactors, Collections.emptyList(), variableSets, sensitivityAnalysisParameters));
         return extractZonalPtdfs(branchIds, sensitivityAnalysisResult, factors);
     }
 }
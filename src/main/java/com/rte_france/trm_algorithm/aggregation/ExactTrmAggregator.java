@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.aggregation;
+
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Exact aggregation of the uncertainties of a time series of {@link TrmResults} into TRM values, i.e. nearest-rank
+ * percentiles of the uncertainty distribution of each branch.
+ * <p>
+ * Uncertainties of each branch are kept in a growable buffer of primitive doubles. When the memory allocated by the
+ * buffers above their initial capacity exceeds the memory budget, all buffers are spilled to new files of the spill
+ * directory, which are deleted on {@link #close()}. The small initial capacity of each buffer is never spilled and is
+ * not part of the budget. Percentiles are selected in parallel over branches with quickselect, in linear time per branch.
+ * Infinite or undefined uncertainties, of null zonal PTDF, are ignored. An aggregator is not thread-safe.
+ * </p>
+ * <p>
+ * See {@link TrmAggregator} for bounded memory and mergeable approximate percentiles.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class ExactTrmAggregator implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExactTrmAggregator.class);
+
+    private final long memoryBudgetBytes;
+    private final Path spillDirectory;
+    private final Map<String, UncertaintyBuffer> buffers = new HashMap<>();
+    private long releasableBytes;
+    private long resultCount;
+    private long ignoredUncertaintyCount;
+    private int spillCount;
+
+    /**
+     * Aggregator keeping all uncertainties in memory.
+     */
+    public ExactTrmAggregator() {
+        this(Long.MAX_VALUE, null);
+    }
+
+    /**
+     * @param memoryBudgetBytes bytes allocated by the buffers above their initial capacity, above which they are spilled
+     * @param spillDirectory existing directory of the spill files
+     */
+    public ExactTrmAggregator(long memoryBudgetBytes, Path spillDirectory) {
+        if (memoryBudgetBytes <= 0) {
+            throw new TrmException(String.format("Memory budget %d must be positive", memoryBudgetBytes));
+        }
+        if (memoryBudgetBytes != Long.MAX_VALUE && (spillDirectory == null || !Files.isDirectory(spillDirectory))) {
+            throw new TrmException(String.format("Spill directory '%s' does not exist", spillDirectory));
+        }
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    public void add(TrmResults trmResults) {
+        trmResults.getUncertaintiesMap().forEach(this::add);
+        resultCount++;
+        if (releasableBytes > memoryBudgetBytes) {
+            spill();
+        }
+    }
+
+    private void add(String branchId, UncertaintyResult uncertaintyResult) {
+        double uncertainty = uncertaintyResult.getUncertainty();
+        if (!Double.isFinite(uncertainty)) {
+            ignoredUncertaintyCount++;
+            return;
+        }
+        UncertaintyBuffer buffer = buffers.computeIfAbsent(branchId, id -> new UncertaintyBuffer(spillDirectory));
+        releasableBytes += buffer.add(uncertainty);
+    }
+
+    private void spill() {
+        LOGGER.debug("Spilling uncertainties of {} branches, {} releasable bytes above budget of {} bytes", buffers.size(), releasableBytes, memoryBudgetBytes);
+        try {
+            for (UncertaintyBuffer buffer : buffers.values()) {
+                releasableBytes -= buffer.spill();
+            }
+        } catch (IOException e) {
+            throw new TrmException(e);
+        }
+        spillCount++;
+    }
+
+    /**
+     * Exact TRM of each branch at the given percentile, sorted by branch ID.
+     *
+     * @param percentile in ]0, 100], e.g. 90 or 95
+     */
+    public Map<String, Double> getBranchTrm(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new TrmException(String.format("Percentile %s must be in ]0, 100]", percentile));
+        }
+        return buffers.entrySet().parallelStream().collect(Collectors.toMap(
+            Map.Entry::getKey,
+            entry -> getPercentile(entry.getValue(), percentile),
+            (value1, value2) -> value1,
+            TreeMap::new));
+    }
+
+    private static double getPercentile(UncertaintyBuffer buffer, double percentile) {
+        try {
+            double[] values = buffer.toArray();
+            int rank = Math.max(0, (int) Math.ceil(percentile / 100 * values.length) - 1);
+            return select(values, rank);
+        } catch (IOException e) {
+            throw new TrmException(e);
+        }
+    }
+
+    /**
+     * Quickselect of the value of given rank, i.e. the value at this index once sorted. Values are reordered.
+     */
+    static double select(double[] values, int rank) {
+        int left = 0;
+        int right = values.length - 1;
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double value = values[i];
+                    values[i++] = values[j];
+                    values[j--] = value;
+                }
+            }
+            if (rank <= j) {
+                right = j;
+            } else if (rank >= i) {
+                left = i;
+            } else {
+                return values[rank];
+            }
+        }
+        return values[rank];
+    }
+
+    public int getUncertaintyCount(String branchId) {
+        UncertaintyBuffer buffer = buffers.get(branchId);
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    public long getIgnoredUncertaintyCount() {
+        return ignoredUncertaintyCount;
+    }
+
+    /**
+     * Count of times buffers were spilled to files because of the memory budget.
+     */
+    public int getSpillCount() {
+        return spillCount;
+    }
+
+    /**
+     * Deletes the spill files.
+     */
+    @Override
+    public void close() {
+        try {
+            for (UncertaintyBuffer buffer : buffers.values()) {
+                buffer.deleteSpillFile();
+            }
+        } catch (IOException e) {
+            throw new TrmException(e);
+        }
+    }
+}
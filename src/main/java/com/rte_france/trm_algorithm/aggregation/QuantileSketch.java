@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.aggregation;
+
+import com.rte_france.trm_algorithm.TrmException;
+
+/**
+ * Mergeable quantile sketch with relative error guarantee, in the manner of DDSketch.
+ * <p>
+ * Values are counted in logarithmic buckets, so that any value of a bucket is within the relative accuracy of the
+ * bucket representative value. The value returned at a percentile is then within {@code relativeAccuracy * |v|} of
+ * the exact nearest-rank percentile {@code v}. Values of magnitude below {@link #MIN_INDEXABLE_VALUE} are counted as
+ * zero. Memory is bounded by the maximal number of buckets per sign: above it, the buckets of smallest magnitude are
+ * merged, and the guarantee is lost for the values of these buckets only, see {@link #isCollapsed()}.
+ * </p>
+ * <p>
+ * Sketches of same relative accuracy can be merged, e.g. sketches filled by parallel workers. A sketch is not
+ * thread-safe.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class QuantileSketch {
+    public static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    public static final int DEFAULT_MAX_BUCKET_COUNT = 2048;
+    public static final double MIN_INDEXABLE_VALUE = 1e-9;
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final BucketStore positiveStore;
+    private final BucketStore negativeStore;
+    private long zeroCount;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch() {
+        this(DEFAULT_RELATIVE_ACCURACY, DEFAULT_MAX_BUCKET_COUNT);
+    }
+
+    public QuantileSketch(double relativeAccuracy, int maxBucketCount) {
+        checkParameters(relativeAccuracy, maxBucketCount);
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.positiveStore = new BucketStore(maxBucketCount);
+        this.negativeStore = new BucketStore(maxBucketCount);
+    }
+
+    static void checkParameters(double relativeAccuracy, int maxBucketCount) {
+        if (!(relativeAccuracy > 0 && relativeAccuracy < 1)) {
+            throw new TrmException(String.format("Relative accuracy %s must be strictly between 0 and 1", relativeAccuracy));
+        }
+        if (maxBucketCount < 1) {
+            throw new TrmException(String.format("Maximal bucket count %d must be positive", maxBucketCount));
+        }
+    }
+
+    public void add(double value) {
+        if (!Double.isFinite(value)) {
+            throw new TrmException(String.format("Value %s cannot be added to a quantile sketch", value));
+        }
+        if (value >= MIN_INDEXABLE_VALUE) {
+            positiveStore.add(getIndex(value), 1);
+        } else if (value <= -MIN_INDEXABLE_VALUE) {
+            negativeStore.add(getIndex(-value), 1);
+        } else {
+            zeroCount++;
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values of the other sketch to this one, as if they had been added one by one.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new TrmException(String.format("Sketches of relative accuracies %s and %s cannot be merged", relativeAccuracy, other.relativeAccuracy));
+        }
+        positiveStore.merge(other.positiveStore);
+        negativeStore.merge(other.negativeStore);
+        zeroCount += other.zeroCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Value at the given percentile, within the relative accuracy of the nearest-rank percentile of the added values.
+     *
+     * @param percentile in ]0, 100]
+     * @return NaN if the sketch is empty
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (!(percentile > 0 && percentile <= 100)) {
+            throw new TrmException(String.format("Percentile %s must be in ]0, 100]", percentile));
+        }
+        long count = getCount();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(0, (long) Math.ceil(percentile / 100 * count) - 1);
+        double value;
+        if (rank < negativeStore.totalCount) {
+            value = -getValue(negativeStore.getIndexAtRank(negativeStore.totalCount - 1 - rank));
+        } else if (rank < negativeStore.totalCount + zeroCount) {
+            value = 0;
+        } else {
+            value = getValue(positiveStore.getIndexAtRank(rank - negativeStore.totalCount - zeroCount));
+        }
+        return Math.clamp(value, min, max);
+    }
+
+    private int getIndex(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double getValue(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    public long getCount() {
+        return negativeStore.totalCount + zeroCount + positiveStore.totalCount;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Whether buckets of smallest magnitude have been merged to bound memory, in which case the relative accuracy is
+     * not guaranteed for the values of smallest magnitude.
+     */
+    public boolean isCollapsed() {
+        return positiveStore.collapsed || negativeStore.collapsed;
+    }
+
+    /**
+     * Counts of contiguous bucket indices, from {@code minIndex}.
+     */
+    private static final class BucketStore {
+        private final int maxBucketCount;
+        private long[] counts = new long[0];
+        private int minIndex;
+        private long totalCount;
+        private boolean collapsed;
+
+        private BucketStore(int maxBucketCount) {
+            this.maxBucketCount = maxBucketCount;
+        }
+
+        private void add(int index, long count) {
+            if (counts.length == 0) {
+                counts = new long[1];
+                minIndex = index;
+            }
+            int maxIndex = minIndex + counts.length - 1;
+            if (index < minIndex || index > maxIndex) {
+                int newMaxIndex = Math.max(maxIndex, index);
+                int newMinIndex = Math.max(Math.min(minIndex, index), newMaxIndex - maxBucketCount + 1);
+                resize(newMinIndex, newMaxIndex);
+            }
+            if (index < minIndex) {
+                collapsed = true;
+            }
+            counts[Math.max(index, minIndex) - minIndex] += count;
+            totalCount += count;
+        }
+
+        private void resize(int newMinIndex, int newMaxIndex) {
+            long[] newCounts = new long[newMaxIndex - newMinIndex + 1];
+            for (int i = 0; i < counts.length; i++) {
+                int index = minIndex + i;
+                if (index < newMinIndex && counts[i] > 0) {
+                    collapsed = true;
+                }
+                newCounts[Math.max(index, newMinIndex) - newMinIndex] += counts[i];
+            }
+            counts = newCounts;
+            minIndex = newMinIndex;
+        }
+
+        private void merge(BucketStore other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] > 0) {
+                    add(other.minIndex + i, other.counts[i]);
+                }
+            }
+            collapsed |= other.collapsed;
+        }
+
+        /**
+         * Index of the bucket of the value at the given rank, in increasing order of indices.
+         */
+        private int getIndexAtRank(long rank) {
+            long cumulatedCount = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulatedCount += counts[i];
+                if (cumulatedCount > rank) {
+                    return minIndex + i;
+                }
+            }
+            return minIndex + counts.length - 1;
+        }
+    }
+}
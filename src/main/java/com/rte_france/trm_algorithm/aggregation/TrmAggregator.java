@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.aggregation;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.TwoSides;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streaming aggregation of the uncertainties of a time series of {@link TrmResults} into TRM values, i.e. percentiles
+ * of the uncertainty distribution of each branch and of each border.
+ * <p>
+ * Uncertainties are counted in a {@link QuantileSketch} per branch and per border, so that memory does not depend on
+ * the length of the time series and TRM values are within the relative accuracy of the exact percentiles. Border
+ * distributions gather the uncertainties of the branches linking two countries, keyed like {@code BE-FR}. Infinite or
+ * undefined uncertainties, of null zonal PTDF, are ignored.
+ * </p>
+ * <p>
+ * Aggregators of parallel workers are merged with {@link #merge(TrmAggregator)}. An aggregator is not thread-safe.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmAggregator {
+    private final double relativeAccuracy;
+    private final int maxBucketCount;
+    private final Map<String, QuantileSketch> branchSketches = new HashMap<>();
+    private final Map<String, QuantileSketch> borderSketches = new HashMap<>();
+    private long resultCount;
+    private long ignoredUncertaintyCount;
+
+    public TrmAggregator() {
+        this(QuantileSketch.DEFAULT_RELATIVE_ACCURACY, QuantileSketch.DEFAULT_MAX_BUCKET_COUNT);
+    }
+
+    public TrmAggregator(double relativeAccuracy, int maxBucketCount) {
+        QuantileSketch.checkParameters(relativeAccuracy, maxBucketCount);
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBucketCount = maxBucketCount;
+    }
+
+    public void add(TrmResults trmResults) {
+        trmResults.getUncertaintiesMap().forEach(this::add);
+        resultCount++;
+    }
+
+    private void add(String branchId, UncertaintyResult uncertaintyResult) {
+        double uncertainty = uncertaintyResult.getUncertainty();
+        if (!Double.isFinite(uncertainty)) {
+            ignoredUncertaintyCount++;
+            return;
+        }
+        getSketch(branchSketches, branchId).add(uncertainty);
+        String border = getBorder(uncertaintyResult.getReferenceCountry(TwoSides.ONE), uncertaintyResult.getReferenceCountry(TwoSides.TWO));
+        if (border != null) {
+            getSketch(borderSketches, border).add(uncertainty);
+        }
+    }
+
+    /**
+     * @return border between both countries, e.g. {@code BE-FR}, or null for a branch inside a country
+     */
+    static String getBorder(Country country1, Country country2) {
+        if (Objects.equals(country1, country2) || country1 == null || country2 == null) {
+            return null;
+        }
+        return Stream.of(country1, country2).map(Country::name).sorted().collect(Collectors.joining("-"));
+    }
+
+    private QuantileSketch getSketch(Map<String, QuantileSketch> sketches, String key) {
+        return sketches.computeIfAbsent(key, k -> new QuantileSketch(relativeAccuracy, maxBucketCount));
+    }
+
+    /**
+     * Adds the uncertainties aggregated by the other aggregator to this one.
+     */
+    public void merge(TrmAggregator other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new TrmException(String.format("Aggregators of relative accuracies %s and %s cannot be merged", relativeAccuracy, other.relativeAccuracy));
+        }
+        other.branchSketches.forEach((branchId, sketch) -> getSketch(branchSketches, branchId).merge(sketch));
+        other.borderSketches.forEach((border, sketch) -> getSketch(borderSketches, border).merge(sketch));
+        resultCount += other.resultCount;
+        ignoredUncertaintyCount += other.ignoredUncertaintyCount;
+    }
+
+    /**
+     * TRM of each branch at the given percentile, sorted by branch ID.
+     *
+     * @param percentile in ]0, 100], e.g. 90 or 95
+     */
+    public Map<String, Double> getBranchTrm(double percentile) {
+        return getTrm(branchSketches, percentile);
+    }
+
+    /**
+     * TRM of each border at the given percentile, sorted by border.
+     *
+     * @param percentile in ]0, 100], e.g. 90 or 95
+     */
+    public Map<String, Double> getBorderTrm(double percentile) {
+        return getTrm(borderSketches, percentile);
+    }
+
+    private static Map<String, Double> getTrm(Map<String, QuantileSketch> sketches, double percentile) {
+        return sketches.entrySet().stream().collect(Collectors.toMap(
+            Map.Entry::getKey,
+            entry -> entry.getValue().getValueAtPercentile(percentile),
+            (value1, value2) -> value1,
+            TreeMap::new));
+    }
+
+    public Map<String, QuantileSketch> getBranchSketches() {
+        return Collections.unmodifiableMap(branchSketches);
+    }
+
+    public Map<String, QuantileSketch> getBorderSketches() {
+        return Collections.unmodifiableMap(borderSketches);
+    }
+
+    /**
+     * TRM values are within this relative error of the exact percentiles of the uncertainties.
+     */
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    public long getIgnoredUncertaintyCount() {
+        return ignoredUncertaintyCount;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.aggregation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Growable buffer of primitive doubles, whose values can be spilled to a file to release memory.
+ * Spilled values are appended to a file created on the first spill, so that the values keep their order.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+final class UncertaintyBuffer {
+    static final int INITIAL_CAPACITY = 64;
+
+    private final Path spillDirectory;
+    private Path spillFile;
+    private double[] values = new double[INITIAL_CAPACITY];
+    private int memorySize;
+    private int spilledSize;
+
+    UncertaintyBuffer(Path spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * @return count of bytes newly allocated
+     */
+    long add(double value) {
+        long allocatedBytes = 0;
+        if (memorySize == values.length) {
+            allocatedBytes = (long) values.length * Double.BYTES;
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[memorySize++] = value;
+        return allocatedBytes;
+    }
+
+    int size() {
+        return spilledSize + memorySize;
+    }
+
+    long getAllocatedBytes() {
+        return (long) values.length * Double.BYTES;
+    }
+
+    /**
+     * Bytes released by a spill, i.e. allocated above the initial capacity.
+     */
+    long getReleasableBytes() {
+        return getAllocatedBytes() - (long) INITIAL_CAPACITY * Double.BYTES;
+    }
+
+    /**
+     * Appends in-memory values to the spill file and shrinks memory to the initial capacity.
+     *
+     * @return count of bytes released
+     */
+    long spill() throws IOException {
+        if (memorySize == 0) {
+            return 0;
+        }
+        ByteBuffer byteBuffer = ByteBuffer.allocate(memorySize * Double.BYTES).order(ByteOrder.nativeOrder());
+        byteBuffer.asDoubleBuffer().put(values, 0, memorySize);
+        if (spillFile == null) {
+            // Unique new file, so that files left in the directory, e.g. by another aggregator, are never read
+            spillFile = Files.createTempFile(spillDirectory, "uncertainties", ".bin");
+        }
+        try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+        }
+        long releasedBytes = getReleasableBytes();
+        spilledSize += memorySize;
+        memorySize = 0;
+        values = new double[INITIAL_CAPACITY];
+        return releasedBytes;
+    }
+
+    /**
+     * All values, spilled ones first, in a new array.
+     */
+    double[] toArray() throws IOException {
+        double[] array = new double[size()];
+        if (spilledSize > 0) {
+            ByteBuffer byteBuffer = ByteBuffer.allocate(spilledSize * Double.BYTES).order(ByteOrder.nativeOrder());
+            try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.READ)) {
+                int readBytes = 0;
+                while (byteBuffer.hasRemaining() && readBytes >= 0) {
+                    readBytes = channel.read(byteBuffer);
+                }
+            }
+            byteBuffer.flip();
+            byteBuffer.asDoubleBuffer().get(array, 0, spilledSize);
+        }
+        System.arraycopy(values, 0, array, spilledSize, memorySize);
+        return array;
+    }
+
+    void deleteSpillFile() throws IOException {
+        if (spillFile != null) {
+            Files.deleteIfExists(spillFile);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Timestamp of a batch, whose inputs are only loaded when it has to be computed.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmBatchCase {
+    private final ZonedDateTime caseDate;
+    private final String inputFingerprint;
+    private final Supplier<TrmCaseInputs> inputsLoader;
+
+    /**
+     * @param inputFingerprint fingerprint of the inputs, e.g. a hash of the input files, so that results of other
+     *                         inputs are not reused when the batch is resumed
+     */
+    public TrmBatchCase(ZonedDateTime caseDate, String inputFingerprint, Supplier<TrmCaseInputs> inputsLoader) {
+        this.caseDate = Objects.requireNonNull(caseDate);
+        this.inputFingerprint = Objects.requireNonNull(inputFingerprint);
+        this.inputsLoader = Objects.requireNonNull(inputsLoader);
+    }
+
+    public ZonedDateTime getCaseDate() {
+        return caseDate;
+    }
+
+    public String getInputFingerprint() {
+        return inputFingerprint;
+    }
+
+    public TrmCaseInputs loadInputs() {
+        return inputsLoader.get();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of the timestamps of a batch run.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmBatchReport {
+    private final List<ZonedDateTime> computedCaseDates;
+    private final List<ZonedDateTime> resumedCaseDates;
+    private final Map<ZonedDateTime, String> failures;
+
+    TrmBatchReport(List<ZonedDateTime> computedCaseDates, List<ZonedDateTime> resumedCaseDates, Map<ZonedDateTime, String> failures) {
+        this.computedCaseDates = Collections.unmodifiableList(computedCaseDates);
+        this.resumedCaseDates = Collections.unmodifiableList(resumedCaseDates);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Timestamps computed and appended to the journal by this run.
+     */
+    public List<ZonedDateTime> getComputedCaseDates() {
+        return computedCaseDates;
+    }
+
+    /**
+     * Timestamps whose results were read from the journal of a previous run.
+     */
+    public List<ZonedDateTime> getResumedCaseDates() {
+        return resumedCaseDates;
+    }
+
+    /**
+     * Error message of each failed timestamp, to be computed again by the next run.
+     */
+    public Map<ZonedDateTime, String> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.rte_france.trm_algorithm.TrmAlgorithm;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Runs the TRM computation of the timestamps of a batch, recording each completed timestamp in a
+ * {@link TrmResultJournal}.
+ * <p>
+ * Timestamps already in the journal with the same input fingerprint are not computed again, their results are read
+ * from the journal. Timestamps in the journal with another input fingerprint are computed again. A failed timestamp,
+ * e.g. of non-converging load flow, does not stop the batch: it is reported and computed again by the next run.
+ * </p>
+ * <p>
+ * With a look-ahead, the inputs of the next timestamps to compute are loaded on virtual threads while a timestamp is
+ * computed, so that reading and parsing input files overlaps with the computation. The look-ahead bounds the number of
+ * inputs held in memory besides the ones of the computed timestamp.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmBatchRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrmBatchRunner.class);
+
+    private final LoadFlowParameters loadFlowParameters;
+    private final TrmResultJournal journal;
+    private final int lookAheadCaseCount;
+
+    public TrmBatchRunner(LoadFlowParameters loadFlowParameters, TrmResultJournal journal) {
+        this(loadFlowParameters, journal, 0);
+    }
+
+    /**
+     * @param lookAheadCaseCount number of next timestamps whose inputs are loaded while a timestamp is computed,
+     *                           0 to load the inputs of each timestamp when computing it
+     */
+    public TrmBatchRunner(LoadFlowParameters loadFlowParameters, TrmResultJournal journal, int lookAheadCaseCount) {
+        if (lookAheadCaseCount < 0) {
+            throw new TrmException("Look-ahead case count must be positive or zero: " + lookAheadCaseCount);
+        }
+        this.loadFlowParameters = Objects.requireNonNull(loadFlowParameters);
+        this.journal = Objects.requireNonNull(journal);
+        this.lookAheadCaseCount = lookAheadCaseCount;
+    }
+
+    /**
+     * @param entryConsumer notified of the journal entry of each completed timestamp, in the order of the cases,
+     *                      e.g. to aggregate TRM values
+     */
+    public TrmBatchReport run(List<TrmBatchCase> batchCases, Consumer<TrmJournalEntry> entryConsumer) {
+        List<ZonedDateTime> computedCaseDates = new ArrayList<>();
+        List<ZonedDateTime> resumedCaseDates = new ArrayList<>();
+        Map<ZonedDateTime, String> failures = new LinkedHashMap<>();
+        // Resumed timestamps are found first, so that only the inputs of computed timestamps are loaded ahead
+        boolean[] resumable = new boolean[batchCases.size()];
+        List<TrmBatchCase> casesToCompute = new ArrayList<>();
+        for (int caseIndex = 0; caseIndex < batchCases.size(); caseIndex++) {
+            resumable[caseIndex] = isResumable(batchCases.get(caseIndex));
+            if (!resumable[caseIndex]) {
+                casesToCompute.add(batchCases.get(caseIndex));
+            }
+        }
+        try (TrmInputsPrefetcher inputsPrefetcher = new TrmInputsPrefetcher(casesToCompute, lookAheadCaseCount)) {
+            for (int caseIndex = 0; caseIndex < batchCases.size(); caseIndex++) {
+                TrmBatchCase batchCase = batchCases.get(caseIndex);
+                if (resumable[caseIndex]) {
+                    resumedCaseDates.add(batchCase.getCaseDate());
+                    entryConsumer.accept(journal.findEntry(batchCase.getCaseDate()).orElseThrow());
+                    continue;
+                }
+                TrmJournalEntry computedEntry;
+                try {
+                    computedEntry = compute(caseIndex, batchCase, inputsPrefetcher.next());
+                } catch (RuntimeException e) {
+                    LOGGER.error("TRM computation of {} failed", batchCase.getCaseDate(), e);
+                    failures.put(batchCase.getCaseDate(), String.valueOf(e.getMessage()));
+                    continue;
+                }
+                computedCaseDates.add(batchCase.getCaseDate());
+                entryConsumer.accept(computedEntry);
+            }
+        }
+        LOGGER.info("Batch of {} timestamps run: {} computed, {} resumed, {} failed", batchCases.size(), computedCaseDates.size(), resumedCaseDates.size(), failures.size());
+        return new TrmBatchReport(computedCaseDates, resumedCaseDates, failures);
+    }
+
+    private boolean isResumable(TrmBatchCase batchCase) {
+        Optional<String> journaledFingerprint = journal.findInputFingerprint(batchCase.getCaseDate());
+        if (journaledFingerprint.isEmpty()) {
+            return false;
+        }
+        if (!journaledFingerprint.get().equals(batchCase.getInputFingerprint())) {
+            LOGGER.warn("Inputs of {} changed since their results were journaled, computing them again", batchCase.getCaseDate());
+            return false;
+        }
+        return true;
+    }
+
+    private TrmJournalEntry compute(int caseIndex, TrmBatchCase batchCase, TrmCaseInputs inputs) {
+        TrmAlgorithm trmAlgorithm = new TrmAlgorithm(loadFlowParameters, inputs.getOperationalConditionAligner());
+        TrmResults trmResults = trmAlgorithm.computeUncertainties(inputs.getReferenceNetwork(), inputs.getMarketBasedNetwork(),
+            inputs.getXnecProvider(), inputs.getReferenceZonalGlsks(), inputs.getIdentifiableMapping());
+        return journal.append(caseIndex, batchCase.getCaseDate(), batchCase.getInputFingerprint(), inputs.getAlignerStatus(), trmResults);
+    }
+}
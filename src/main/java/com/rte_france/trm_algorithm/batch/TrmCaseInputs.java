@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.powsybl.flow_decomposition.XnecProvider;
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.OperationalConditionAligner;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Loaded inputs of the TRM computation of one timestamp.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmCaseInputs {
+    public static final String DEFAULT_ALIGNER_STATUS = "ALIGNED";
+
+    private final Network referenceNetwork;
+    private final Network marketBasedNetwork;
+    private final ZonalData<SensitivityVariableSet> referenceZonalGlsks;
+    private final XnecProvider xnecProvider;
+    private final OperationalConditionAligner operationalConditionAligner;
+    private final IdentifiableMapping identifiableMapping;
+    private final Supplier<String> alignerStatusSupplier;
+
+    private TrmCaseInputs(Builder builder) {
+        this.referenceNetwork = builder.referenceNetwork;
+        this.marketBasedNetwork = builder.marketBasedNetwork;
+        this.referenceZonalGlsks = builder.referenceZonalGlsks;
+        this.xnecProvider = builder.xnecProvider;
+        this.operationalConditionAligner = builder.operationalConditionAligner;
+        this.identifiableMapping = builder.identifiableMapping;
+        this.alignerStatusSupplier = builder.alignerStatusSupplier;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Network getReferenceNetwork() {
+        return referenceNetwork;
+    }
+
+    public Network getMarketBasedNetwork() {
+        return marketBasedNetwork;
+    }
+
+    public ZonalData<SensitivityVariableSet> getReferenceZonalGlsks() {
+        return referenceZonalGlsks;
+    }
+
+    public XnecProvider getXnecProvider() {
+        return xnecProvider;
+    }
+
+    public OperationalConditionAligner getOperationalConditionAligner() {
+        return operationalConditionAligner;
+    }
+
+    public IdentifiableMapping getIdentifiableMapping() {
+        return identifiableMapping;
+    }
+
+    /**
+     * Status of the alignment, read once the computation is done.
+     */
+    public String getAlignerStatus() {
+        return alignerStatusSupplier.get();
+    }
+
+    public static final class Builder {
+        private Network referenceNetwork;
+        private Network marketBasedNetwork;
+        private ZonalData<SensitivityVariableSet> referenceZonalGlsks;
+        private XnecProvider xnecProvider;
+        private OperationalConditionAligner operationalConditionAligner;
+        private IdentifiableMapping identifiableMapping = IdentifiableMapping.empty();
+        private Supplier<String> alignerStatusSupplier = () -> DEFAULT_ALIGNER_STATUS;
+
+        private Builder() {
+            // Builder pattern
+        }
+
+        public Builder addReferenceNetwork(Network referenceNetwork) {
+            this.referenceNetwork = referenceNetwork;
+            return this;
+        }
+
+        public Builder addMarketBasedNetwork(Network marketBasedNetwork) {
+            this.marketBasedNetwork = marketBasedNetwork;
+            return this;
+        }
+
+        public Builder addReferenceZonalGlsks(ZonalData<SensitivityVariableSet> referenceZonalGlsks) {
+            this.referenceZonalGlsks = referenceZonalGlsks;
+            return this;
+        }
+
+        public Builder addXnecProvider(XnecProvider xnecProvider) {
+            this.xnecProvider = xnecProvider;
+            return this;
+        }
+
+        public Builder addOperationalConditionAligner(OperationalConditionAligner operationalConditionAligner) {
+            this.operationalConditionAligner = operationalConditionAligner;
+            return this;
+        }
+
+        public Builder addIdentifiableMapping(IdentifiableMapping identifiableMapping) {
+            this.identifiableMapping = identifiableMapping;
+            return this;
+        }
+
+        /**
+         * Status recorded with the results, e.g. {@code () -> exchangeAligner.getResult().getStatus().name()}.
+         */
+        public Builder addAlignerStatusSupplier(Supplier<String> alignerStatusSupplier) {
+            this.alignerStatusSupplier = alignerStatusSupplier;
+            return this;
+        }
+
+        public TrmCaseInputs build() {
+            Objects.requireNonNull(referenceNetwork);
+            Objects.requireNonNull(marketBasedNetwork);
+            Objects.requireNonNull(referenceZonalGlsks);
+            Objects.requireNonNull(xnecProvider);
+            Objects.requireNonNull(operationalConditionAligner);
+            Objects.requireNonNull(identifiableMapping);
+            Objects.requireNonNull(alignerStatusSupplier);
+            return new TrmCaseInputs(this);
+        }
+    }
+}
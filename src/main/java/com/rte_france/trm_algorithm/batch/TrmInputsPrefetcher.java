@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.rte_france.trm_algorithm.TrmException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads the inputs of the timestamps of a batch in order, the inputs of the next timestamps being loaded on virtual
+ * threads while the current one is computed.
+ * <p>
+ * At most {@code lookAheadCaseCount} inputs are loading or loaded ahead: the load of a timestamp only starts when the
+ * inputs of an earlier one are taken, which bounds the inputs held in memory. Without look-ahead, inputs are loaded on
+ * the calling thread.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+final class TrmInputsPrefetcher implements AutoCloseable {
+    private final Iterator<TrmBatchCase> pendingCases;
+    private final Deque<Future<TrmCaseInputs>> loadingInputs = new ArrayDeque<>();
+    private final ExecutorService executorService;
+
+    TrmInputsPrefetcher(List<TrmBatchCase> batchCases, int lookAheadCaseCount) {
+        this.pendingCases = batchCases.iterator();
+        this.executorService = lookAheadCaseCount > 0 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        for (int i = 0; i < lookAheadCaseCount; i++) {
+            submitNextLoad();
+        }
+    }
+
+    private void submitNextLoad() {
+        if (pendingCases.hasNext()) {
+            TrmBatchCase batchCase = pendingCases.next();
+            loadingInputs.add(executorService.submit(batchCase::loadInputs));
+        }
+    }
+
+    /**
+     * Inputs of the next timestamp, waiting for their load if needed.
+     *
+     * @throws RuntimeException thrown by the load of the inputs, the following timestamps can still be taken
+     */
+    TrmCaseInputs next() {
+        if (executorService == null) {
+            return pendingCases.next().loadInputs();
+        }
+        Future<TrmCaseInputs> inputs = loadingInputs.poll();
+        if (inputs == null) {
+            throw new NoSuchElementException();
+        }
+        submitNextLoad();
+        try {
+            return inputs.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new TrmException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TrmException(e);
+        }
+    }
+
+    /**
+     * Cancels the loads of the inputs that were not taken.
+     */
+    @Override
+    public void close() {
+        if (executorService != null) {
+            loadingInputs.forEach(inputs -> inputs.cancel(true));
+            loadingInputs.clear();
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.rte_france.trm_algorithm.TrmResults;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Results of a completed timestamp, as written in a {@link TrmResultJournal}. Uncertainty results do not refer to the
+ * networks of the timestamp.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmJournalEntry {
+    private final int caseIndex;
+    private final ZonedDateTime caseDate;
+    private final String inputFingerprint;
+    private final String alignerStatus;
+    private final TrmResults trmResults;
+
+    TrmJournalEntry(int caseIndex, ZonedDateTime caseDate, String inputFingerprint, String alignerStatus, TrmResults trmResults) {
+        this.caseIndex = caseIndex;
+        this.caseDate = caseDate;
+        this.inputFingerprint = inputFingerprint;
+        this.alignerStatus = alignerStatus;
+        this.trmResults = trmResults;
+    }
+
+    /**
+     * Index of the timestamp in its batch.
+     */
+    public int getCaseIndex() {
+        return caseIndex;
+    }
+
+    public ZonedDateTime getCaseDate() {
+        return caseDate;
+    }
+
+    public String getInputFingerprint() {
+        return inputFingerprint;
+    }
+
+    public String getAlignerStatus() {
+        return alignerStatus;
+    }
+
+    public TrmResults getTrmResults() {
+        return trmResults;
+    }
+}
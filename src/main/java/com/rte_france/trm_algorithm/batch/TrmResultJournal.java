@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+import com.rte_france.trm_algorithm.UncertaintyResultSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of the results of the completed timestamps of a batch, so that a restarted batch skips them.
+ * <p>
+ * Each record holds the index, date, input fingerprint, aligner status and uncertainties of a timestamp, followed by
+ * a CRC32 of its content, and is forced to disk before {@link #append} returns. When opening the journal, an
+ * incomplete or corrupted last record, left by a crash while writing, is truncated. Records are indexed by case date
+ * in memory, the latest record of a date taking precedence, and their uncertainties are only read on demand.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmResultJournal implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrmResultJournal.class);
+    private static final int FILE_MAGIC_NUMBER = 0x54524d4a; // "TRMJ"
+    private static final int FILE_FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_LENGTH = 2 * Integer.BYTES;
+
+    private final Path journalFile;
+    private final FileChannel channel;
+    private final Map<ZonedDateTime, IndexEntry> index = new HashMap<>();
+
+    private TrmResultJournal(Path journalFile, FileChannel channel) {
+        this.journalFile = journalFile;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the journal file, creating it if it does not exist.
+     */
+    public static TrmResultJournal open(Path journalFile) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            TrmResultJournal journal = new TrmResultJournal(journalFile, channel);
+            journal.load();
+            return journal;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new TrmException("Unable to open result journal " + journalFile + ": " + e);
+        } catch (TrmException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOGGER.warn("Unable to close result journal: {}", e.toString());
+            }
+        }
+    }
+
+    private void load() throws IOException {
+        long size = channel.size();
+        if (size < FILE_HEADER_LENGTH) {
+            writeHeader();
+            return;
+        }
+        ByteBuffer header = read(0, FILE_HEADER_LENGTH);
+        if (header.getInt() != FILE_MAGIC_NUMBER) {
+            throw new TrmException("File " + journalFile + " is not a result journal");
+        }
+        int version = header.getInt();
+        if (version != FILE_FORMAT_VERSION) {
+            throw new TrmException("Unsupported result journal version: " + version);
+        }
+        long position = FILE_HEADER_LENGTH;
+        while (position < size) {
+            Optional<byte[]> content = readRecordContent(position, size);
+            if (content.isEmpty()) {
+                LOGGER.warn("Truncating incomplete record at position {} of result journal {}", position, journalFile);
+                channel.truncate(position);
+                channel.force(true);
+                break;
+            }
+            try (DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(content.get()))) {
+                int caseIndex = dataInputStream.readInt();
+                ZonedDateTime caseDate = ZonedDateTime.parse(dataInputStream.readUTF());
+                index.put(caseDate, new IndexEntry(position, caseIndex, dataInputStream.readUTF(), dataInputStream.readUTF()));
+            }
+            position += getRecordLength(content.get().length);
+        }
+        LOGGER.info("Result journal {} opened with {} completed timestamps", journalFile, index.size());
+    }
+
+    private void writeHeader() throws IOException {
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_LENGTH).putInt(FILE_MAGIC_NUMBER).putInt(FILE_FORMAT_VERSION).flip();
+        write(header, 0);
+        channel.force(true);
+    }
+
+    private static long getRecordLength(int contentLength) {
+        return Integer.BYTES + (long) contentLength + Long.BYTES;
+    }
+
+    /**
+     * Content of the record at the given position, empty if the record is incomplete or corrupted.
+     */
+    private Optional<byte[]> readRecordContent(long position, long size) throws IOException {
+        if (position + Integer.BYTES > size) {
+            return Optional.empty();
+        }
+        int contentLength = read(position, Integer.BYTES).getInt();
+        if (contentLength < 0 || position + getRecordLength(contentLength) > size) {
+            return Optional.empty();
+        }
+        ByteBuffer contentAndChecksum = read(position + Integer.BYTES, contentLength + Long.BYTES);
+        byte[] content = new byte[contentLength];
+        contentAndChecksum.get(content);
+        return getChecksum(content) == contentAndChecksum.getLong() ? Optional.of(content) : Optional.empty();
+    }
+
+    private static long getChecksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(length);
+        while (byteBuffer.hasRemaining()) {
+            if (channel.read(byteBuffer, position + byteBuffer.position()) < 0) {
+                throw new EOFException("Unexpected end of result journal " + journalFile);
+            }
+        }
+        return byteBuffer.flip();
+    }
+
+    private void write(ByteBuffer byteBuffer, long position) throws IOException {
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer, position + byteBuffer.position());
+        }
+    }
+
+    /**
+     * Durably appends the results of a completed timestamp.
+     *
+     * @return entry of the appended record, whose uncertainty results do not refer to the networks anymore
+     */
+    public synchronized TrmJournalEntry append(int caseIndex, ZonedDateTime caseDate, String inputFingerprint, String alignerStatus, TrmResults trmResults) {
+        try {
+            byte[] content = writeContent(caseIndex, caseDate, inputFingerprint, alignerStatus, trmResults);
+            ByteBuffer record = ByteBuffer.allocate((int) getRecordLength(content.length))
+                .putInt(content.length)
+                .put(content)
+                .putLong(getChecksum(content))
+                .flip();
+            long position = channel.size();
+            write(record, position);
+            channel.force(false);
+            index.put(caseDate, new IndexEntry(position, caseIndex, inputFingerprint, alignerStatus));
+            return readEntry(content);
+        } catch (IOException e) {
+            throw new TrmException("Unable to append to result journal " + journalFile + ": " + e);
+        }
+    }
+
+    private static byte[] writeContent(int caseIndex, ZonedDateTime caseDate, String inputFingerprint, String alignerStatus, TrmResults trmResults) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+            dataOutputStream.writeInt(caseIndex);
+            dataOutputStream.writeUTF(caseDate.toString());
+            dataOutputStream.writeUTF(inputFingerprint);
+            dataOutputStream.writeUTF(alignerStatus);
+            UncertaintyResultSerializer.write(dataOutputStream, trmResults.getUncertaintiesMap());
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static TrmJournalEntry readEntry(byte[] content) throws IOException {
+        try (DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(content))) {
+            int caseIndex = dataInputStream.readInt();
+            ZonedDateTime caseDate = ZonedDateTime.parse(dataInputStream.readUTF());
+            String inputFingerprint = dataInputStream.readUTF();
+            String alignerStatus = dataInputStream.readUTF();
+            Map<String, UncertaintyResult> uncertaintiesMap = UncertaintyResultSerializer.read(dataInputStream);
+            return new TrmJournalEntry(caseIndex, caseDate, inputFingerprint, alignerStatus, TrmResults.builder().addUncertainties(uncertaintiesMap).build());
+        }
+    }
+
+    /**
+     * Latest entry of the given case date, read from the journal file.
+     */
+    public synchronized Optional<TrmJournalEntry> findEntry(ZonedDateTime caseDate) {
+        IndexEntry indexEntry = index.get(caseDate);
+        if (indexEntry == null) {
+            return Optional.empty();
+        }
+        try {
+            byte[] content = readRecordContent(indexEntry.position(), channel.size())
+                .orElseThrow(() -> new TrmException("Corrupted record at position " + indexEntry.position() + " of result journal " + journalFile));
+            return Optional.of(readEntry(content));
+        } catch (IOException e) {
+            throw new TrmException("Unable to read result journal " + journalFile + ": " + e);
+        }
+    }
+
+    /**
+     * Input fingerprint of the latest entry of the given case date, without reading its uncertainties.
+     */
+    public synchronized Optional<String> findInputFingerprint(ZonedDateTime caseDate) {
+        return Optional.ofNullable(index.get(caseDate)).map(IndexEntry::inputFingerprint);
+    }
+
+    public synchronized Set<ZonedDateTime> getCaseDates() {
+        return new TreeSet<>(index.keySet());
+    }
+
+    public Path getJournalFile() {
+        return journalFile;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new TrmException("Unable to close result journal " + journalFile + ": " + e);
+        }
+    }
+
+    private record IndexEntry(long position, int caseIndex, String inputFingerprint, String alignerStatus) {
+    }
+}
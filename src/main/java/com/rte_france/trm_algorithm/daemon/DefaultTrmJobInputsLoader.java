@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.daemon;
+
+import com.powsybl.flow_decomposition.xnec_provider.XnecProviderInterconnection;
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.TrmUtils;
+import com.rte_france.trm_algorithm.batch.TrmCaseInputs;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.DanglingLineAligner;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.HvdcAligner;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.OperationalConditionAlignerPipeline;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.PstAligner;
+
+/**
+ * Inputs of jobs only giving their networks: automatic GLSK of the reference network, interconnections as critical
+ * network elements, and alignment of HVDC, PST and dangling lines.
+ * <p>
+ * Jobs with CRAC, GLSK or market data, e.g. for exchange alignment, need a dedicated {@link TrmJobInputsLoader}.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class DefaultTrmJobInputsLoader implements TrmJobInputsLoader {
+    @Override
+    public TrmCaseInputs load(TrmJob job) {
+        Network referenceNetwork = job.loadNetwork(TrmJob.REFERENCE_NETWORK);
+        Network marketBasedNetwork = job.loadNetwork(TrmJob.MARKET_BASED_NETWORK);
+        return TrmCaseInputs.builder()
+            .addReferenceNetwork(referenceNetwork)
+            .addMarketBasedNetwork(marketBasedNetwork)
+            .addReferenceZonalGlsks(TrmUtils.getAutoGlsk(referenceNetwork))
+            .addXnecProvider(new XnecProviderInterconnection())
+            .addOperationalConditionAligner(new OperationalConditionAlignerPipeline(new HvdcAligner(), new PstAligner(), new DanglingLineAligner()))
+            .build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.daemon;
+
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.TrmException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * TRM job submitted to a {@link TrmWorker}, described by a properties file of its job directory.
+ * <p>
+ * Input files are given relatively to the job file, e.g. {@code referenceNetwork=20260101_0030_FO4_UX1.uct}. Other
+ * properties, e.g. GLSK or CRAC files, are interpreted by the {@link TrmJobInputsLoader} of the worker.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmJob {
+    public static final String CASE_DATE = "caseDate";
+    public static final String REFERENCE_NETWORK = "referenceNetwork";
+    public static final String MARKET_BASED_NETWORK = "marketBasedNetwork";
+
+    private final Path jobFile;
+    private final Properties properties;
+    private final Function<Path, Network> networkLoader;
+
+    private TrmJob(Path jobFile, Properties properties, Function<Path, Network> networkLoader) {
+        this.jobFile = jobFile;
+        this.properties = properties;
+        this.networkLoader = networkLoader;
+    }
+
+    static TrmJob read(Path jobFile, Function<Path, Network> networkLoader) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(jobFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new TrmException("Unable to read job file " + jobFile + ": " + e);
+        }
+        return new TrmJob(jobFile, properties, networkLoader);
+    }
+
+    /**
+     * Name of the job file without its extension, shared by its result file.
+     */
+    public String getName() {
+        return TrmWorker.getJobName(jobFile);
+    }
+
+    public Path getJobFile() {
+        return jobFile;
+    }
+
+    public Optional<String> findProperty(String key) {
+        return Optional.ofNullable(properties.getProperty(key));
+    }
+
+    public String getProperty(String key) {
+        return findProperty(key).orElseThrow(() -> new TrmException("Job " + getName() + " has no property '" + key + "'"));
+    }
+
+    /**
+     * Case date of the results, if given by the job. Otherwise, the case date of the reference network is used.
+     */
+    public Optional<ZonedDateTime> findCaseDate() {
+        try {
+            return findProperty(CASE_DATE).map(ZonedDateTime::parse);
+        } catch (DateTimeParseException e) {
+            throw new TrmException("Job " + getName() + " has an invalid case date: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Input file of the property, relative to the job file.
+     */
+    public Path resolveFile(String key) {
+        return jobFile.resolveSibling(getProperty(key));
+    }
+
+    /**
+     * Network of the file of the property, read from its snapshot when the worker has a network snapshot cache.
+     */
+    public Network loadNetwork(String key) {
+        return networkLoader.apply(resolveFile(key));
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.daemon;
+
+import com.rte_france.trm_algorithm.batch.TrmCaseInputs;
+
+/**
+ * Loads the inputs of the jobs of a {@link TrmWorker}, e.g. networks, GLSK and aligner pipeline.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@FunctionalInterface
+public interface TrmJobInputsLoader {
+    TrmCaseInputs load(TrmJob job);
+}
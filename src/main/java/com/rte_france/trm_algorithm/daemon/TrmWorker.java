@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.daemon;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.rte_france.trm_algorithm.NetworkSnapshotCache;
+import com.rte_france.trm_algorithm.TrmAlgorithm;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmExporter;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.batch.TrmCaseInputs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Long-running worker computing the TRM jobs submitted to a job directory, so that successive jobs do not pay the
+ * start-up of a new JVM: plugin loading, JIT warm-up and configuration loading.
+ * <p>
+ * A job is submitted by moving a {@link TrmJob} properties file with the {@value #JOB_FILE_EXTENSION} extension into
+ * the job directory. Its results are written next to it in a CSV file of the same name with the
+ * {@value #RESULT_FILE_EXTENSION} extension, or its error message in a file with the {@value #ERROR_FILE_EXTENSION}
+ * extension. Jobs having a result or error file are not computed again, so the jobs submitted while the worker was
+ * stopped are computed when it starts. Temporary output files left by a worker halted while writing are deleted when
+ * the next one is built.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmWorker implements Runnable, AutoCloseable {
+    public static final String JOB_FILE_EXTENSION = ".trmjob";
+    public static final String RESULT_FILE_EXTENSION = ".csv";
+    public static final String ERROR_FILE_EXTENSION = ".error";
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrmWorker.class);
+    private static final long POLL_TIMEOUT_SECONDS = 1;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = 60;
+    private static final String TEMPORARY_OUTPUT_PREFIX = "output";
+    private static final String TEMPORARY_OUTPUT_SUFFIX = ".tmp";
+
+    private final Path jobDirectory;
+    private final LoadFlowParameters loadFlowParameters;
+    private final TrmJobInputsLoader inputsLoader;
+    private final Function<Path, Network> networkLoader;
+    private final WatchService watchService;
+    private volatile boolean closed;
+
+    private TrmWorker(Builder builder) {
+        this.jobDirectory = builder.jobDirectory;
+        this.loadFlowParameters = builder.loadFlowParameters;
+        this.inputsLoader = builder.inputsLoader;
+        this.networkLoader = builder.networkSnapshotCache == null ? Network::read : builder.networkSnapshotCache::load;
+        deleteTemporaryOutputs();
+        try {
+            this.watchService = jobDirectory.getFileSystem().newWatchService();
+            jobDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new TrmException("Unable to watch job directory " + jobDirectory + ": " + e);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs a worker on the job directory given as argument until the JVM stops. Network snapshots are kept in the
+     * directory of the {@code trm.worker.snapshotDirectory} system property, if any. On JVM shutdown, the current job
+     * is completed within the {@code trm.worker.shutdownTimeoutSeconds} system property, 60 seconds by default.
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            throw new TrmException("Usage: TrmWorker <job directory>");
+        }
+        Builder builder = builder().addJobDirectory(Paths.get(args[0]));
+        String snapshotDirectory = System.getProperty("trm.worker.snapshotDirectory");
+        if (snapshotDirectory != null) {
+            builder.addNetworkSnapshotCache(new NetworkSnapshotCache(Paths.get(snapshotDirectory)));
+        }
+        Duration shutdownTimeout = Duration.ofSeconds(Long.getLong("trm.worker.shutdownTimeoutSeconds", DEFAULT_SHUTDOWN_TIMEOUT_SECONDS));
+        TrmWorker worker = builder.build();
+        Thread workerThread = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                if (!worker.closeAndAwait(workerThread, shutdownTimeout)) {
+                    LOGGER.warn("Worker on job directory {} not stopped within {}", worker.jobDirectory, shutdownTimeout);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        worker.run();
+    }
+
+    private void deleteTemporaryOutputs() {
+        try (Stream<Path> files = Files.list(jobDirectory)) {
+            List<Path> temporaryOutputFiles = files
+                .filter(file -> file.getFileName().toString().startsWith(TEMPORARY_OUTPUT_PREFIX) && file.getFileName().toString().endsWith(TEMPORARY_OUTPUT_SUFFIX))
+                .toList();
+            for (Path temporaryOutputFile : temporaryOutputFiles) {
+                LOGGER.info("Deleting temporary output {} of a previous worker", temporaryOutputFile);
+                Files.deleteIfExists(temporaryOutputFile);
+            }
+        } catch (IOException e) {
+            throw new TrmException("Unable to delete temporary outputs of job directory " + jobDirectory + ": " + e);
+        }
+    }
+
+    /**
+     * Computes the jobs of the job directory without result, in the order of their names, until the worker is closed.
+     *
+     * @return number of computed jobs, succeeded or failed
+     */
+    public int processPendingJobs() {
+        List<Path> pendingJobFiles;
+        try (Stream<Path> files = Files.list(jobDirectory)) {
+            pendingJobFiles = files
+                .filter(file -> file.getFileName().toString().endsWith(JOB_FILE_EXTENSION))
+                .filter(jobFile -> !Files.exists(getOutputFile(jobFile, RESULT_FILE_EXTENSION)) && !Files.exists(getOutputFile(jobFile, ERROR_FILE_EXTENSION)))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new TrmException("Unable to list job directory " + jobDirectory + ": " + e);
+        }
+        int computedJobCount = 0;
+        for (Path jobFile : pendingJobFiles) {
+            if (closed) {
+                break;
+            }
+            process(jobFile);
+            computedJobCount++;
+        }
+        return computedJobCount;
+    }
+
+    static String getJobName(Path jobFile) {
+        String fileName = jobFile.getFileName().toString();
+        return fileName.substring(0, fileName.length() - JOB_FILE_EXTENSION.length());
+    }
+
+    private static Path getOutputFile(Path jobFile, String extension) {
+        return jobFile.resolveSibling(getJobName(jobFile) + extension);
+    }
+
+    private void process(Path jobFile) {
+        long start = System.nanoTime();
+        try {
+            TrmJob job = TrmJob.read(jobFile, networkLoader);
+            TrmCaseInputs inputs = inputsLoader.load(job);
+            TrmAlgorithm trmAlgorithm = new TrmAlgorithm(loadFlowParameters, inputs.getOperationalConditionAligner());
+            TrmResults trmResults = trmAlgorithm.computeUncertainties(inputs.getReferenceNetwork(), inputs.getMarketBasedNetwork(),
+                inputs.getXnecProvider(), inputs.getReferenceZonalGlsks(), inputs.getIdentifiableMapping());
+            ZonedDateTime caseDate = job.findCaseDate().orElseGet(() -> inputs.getReferenceNetwork().getCaseDate());
+            writeOutput(getOutputFile(jobFile, RESULT_FILE_EXTENSION), writer -> {
+                TrmExporter.exportHeader(writer);
+                TrmExporter.export(writer, trmResults, caseDate);
+            });
+            LOGGER.info("Job {} computed in {} ms", jobFile, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            LOGGER.error("Job {} failed", jobFile, e);
+            try {
+                writeOutput(getOutputFile(jobFile, ERROR_FILE_EXTENSION), writer -> writer.write(String.valueOf(e.getMessage())));
+            } catch (TrmException writeException) {
+                LOGGER.error("Unable to report failure of job {}: {}", jobFile, writeException.getMessage());
+            }
+        }
+    }
+
+    private void writeOutput(Path outputFile, OutputWriter outputWriter) {
+        try {
+            // Written to a temporary file first, so that clients never read a partial output
+            Path temporaryFile = Files.createTempFile(jobDirectory, TEMPORARY_OUTPUT_PREFIX, TEMPORARY_OUTPUT_SUFFIX);
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                outputWriter.write(writer);
+            }
+            Files.move(temporaryFile, outputFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new TrmException("Unable to write job output " + outputFile + ": " + e);
+        }
+    }
+
+    /**
+     * Computes the pending jobs, then the submitted ones until the worker is closed.
+     */
+    @Override
+    public void run() {
+        LOGGER.info("Worker started on job directory {}", jobDirectory);
+        processPendingJobs();
+        try {
+            while (!closed) {
+                WatchKey watchKey = watchService.poll(POLL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (watchKey != null) {
+                    // Events are only a trigger: the job directory is listed again, which also covers overflows
+                    watchKey.pollEvents();
+                    watchKey.reset();
+                    processPendingJobs();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Job directory {} not watched anymore", jobDirectory);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOGGER.info("Worker stopped on job directory {}", jobDirectory);
+    }
+
+    /**
+     * Stops the worker once its current job is computed, without waiting for it. The pending jobs left are computed
+     * at the next start.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new TrmException("Unable to stop watching job directory " + jobDirectory + ": " + e);
+        }
+    }
+
+    /**
+     * Stops the worker and waits for the thread running it to complete its current job, e.g. from a shutdown hook.
+     *
+     * @return true if the worker thread terminated within the timeout
+     */
+    boolean closeAndAwait(Thread workerThread, Duration timeout) throws InterruptedException {
+        close();
+        workerThread.join(timeout.toMillis());
+        return !workerThread.isAlive();
+    }
+
+    @FunctionalInterface
+    private interface OutputWriter {
+        void write(Writer writer) throws IOException;
+    }
+
+    public static final class Builder {
+        private Path jobDirectory;
+        private LoadFlowParameters loadFlowParameters = LoadFlowParameters.load();
+        private TrmJobInputsLoader inputsLoader = new DefaultTrmJobInputsLoader();
+        private NetworkSnapshotCache networkSnapshotCache;
+
+        private Builder() {
+            // Builder pattern
+        }
+
+        public Builder addJobDirectory(Path jobDirectory) {
+            this.jobDirectory = jobDirectory;
+            return this;
+        }
+
+        public Builder addLoadFlowParameters(LoadFlowParameters loadFlowParameters) {
+            this.loadFlowParameters = loadFlowParameters;
+            return this;
+        }
+
+        public Builder addInputsLoader(TrmJobInputsLoader inputsLoader) {
+            this.inputsLoader = inputsLoader;
+            return this;
+        }
+
+        /**
+         * Snapshot cache of the networks loaded by {@link TrmJob#loadNetwork}, e.g. of a reference network shared by
+         * several jobs.
+         */
+        public Builder addNetworkSnapshotCache(NetworkSnapshotCache networkSnapshotCache) {
+            this.networkSnapshotCache = networkSnapshotCache;
+            return this;
+        }
+
+        public TrmWorker build() {
+            Objects.requireNonNull(jobDirectory);
+            Objects.requireNonNull(loadFlowParameters);
+            Objects.requireNonNull(inputsLoader);
+            if (!Files.isDirectory(jobDirectory)) {
+                throw new TrmException("Job directory " + jobDirectory + " does not exist");
+            }
+            return new TrmWorker(this);
+        }
+    }
+}
@@ -10,10 +10,10 @@ package com.rte_france.trm_algorithm.id_mapping;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Sebastian Huaraca {@literal <sebastian.huaracalapa at rte-france.com>}
@@ -28,6 +28,13 @@ public class IdentifiableMapping {
         this.mappingFromReferenceToMarketBased = mappingFromReferenceToMarketBased;
     }
 
+    /**
+     * Mapping without any element, for networks sharing the same IDs.
+     */
+    public static IdentifiableMapping empty() {
+        return new IdentifiableMapping(new HashMap<>(), new HashMap<>());
+    }
+
     public String idInReference(String s) {
         return mappingFromMarketBasedToReference.computeIfAbsent(s, idInMarket -> {
             throw new IdMappingNotFoundException("Id - " + s + " - not found in reference");
@@ -43,8 +50,8 @@ public class IdentifiableMapping {
     public static class IdentifiableMappingBuilder {
         Map<String, String> mappingFromMarketBasedToReference = new HashMap<>();
         Map<String, String> mappingFromReferenceToMarketBased = new HashMap<>();
-        List<String> invalidatedInMarketBased = new ArrayList<>();
-        List<String> invalidatedInReference = new ArrayList<>();
+        Set<String> invalidatedInMarketBased = new HashSet<>();
+        Set<String> invalidatedInReference = new HashSet<>();
 
         IdentifiableMapping build() {
             return new IdentifiableMapping(mappingFromMarketBasedToReference, mappingFromReferenceToMarketBased);
@@ -60,7 +67,7 @@ public class IdentifiableMapping {
                 return;
             }
 
-            if (mappingFromMarketBasedToReference.containsKey(idMarketBased) && mappingFromMarketBasedToReference.get(idMarketBased) != idReference) {
+            if (mappingFromMarketBasedToReference.containsKey(idMarketBased) && !mappingFromMarketBasedToReference.get(idMarketBased).equals(idReference)) {
                 String previousReference = mappingFromMarketBasedToReference.get(idMarketBased);
                 mappingFromMarketBasedToReference.remove(idMarketBased);
                 mappingFromReferenceToMarketBased.remove(idReference);
@@ -70,7 +77,7 @@ public class IdentifiableMapping {
                 return;
             }
 
-            if (mappingFromReferenceToMarketBased.containsKey(idReference) && mappingFromReferenceToMarketBased.get(idReference) != idMarketBased) {
+            if (mappingFromReferenceToMarketBased.containsKey(idReference) && !mappingFromReferenceToMarketBased.get(idReference).equals(idMarketBased)) {
                 String previousMarketBased = mappingFromReferenceToMarketBased.get(idReference);
                 mappingFromMarketBasedToReference.remove(idMarketBased);
                 mappingFromReferenceToMarketBased.remove(idReference);
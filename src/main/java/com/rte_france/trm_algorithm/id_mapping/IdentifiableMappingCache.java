@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.id_mapping;
+
+import com.powsybl.iidm.network.*;
+import com.rte_france.trm_algorithm.TrmException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.rte_france.trm_algorithm.id_mapping.IndexedUcteMapper.UCTE_BRANCH_ID_LENGTH;
+
+/**
+ * On-disk cache of the UCTE mapping between market-based and reference networks, keyed by a fingerprint of the
+ * UCTE element sets of both networks.
+ * <p>
+ * When no entry matches the fingerprints, the last computed entry is validated incrementally: only the market-based
+ * branches sharing their node pair with an added or removed element are matched again. Duplicates can only occur
+ * between branches sharing the same node pair, so the resulting mapping is the same as {@link IndexedUcteMapper}.
+ * </p>
+ *
+ * @author Sebastian Huaraca {@literal <sebastian.huaracalapa at rte-france.com>}
+ */
+public final class IdentifiableMappingCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdentifiableMappingCache.class);
+    private static final int BINARY_FORMAT_MAGIC_NUMBER = 0x54524d4d; // "TRMM"
+    private static final int BINARY_FORMAT_VERSION = 1;
+    private static final String CACHE_FILE_EXTENSION = ".mapping.gz";
+
+    private final Path cacheDirectory;
+    private CacheEntry lastEntry;
+
+    public IdentifiableMappingCache(Path cacheDirectory) {
+        Objects.requireNonNull(cacheDirectory);
+        try {
+            Files.createDirectories(cacheDirectory);
+        } catch (IOException e) {
+            throw new TrmException("Unable to create ID mapping cache directory " + cacheDirectory + ": " + e);
+        }
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    public synchronized IdentifiableMapping mapNetworks(Network networkReference, Network networkMarketBased) {
+        SortedSet<String> referenceSignatures = getReferenceElementSignatures(networkReference);
+        SortedSet<String> marketBasedSignatures = getMarketBasedElementSignatures(networkMarketBased);
+        String referenceFingerprint = fingerprint(referenceSignatures);
+        String marketBasedFingerprint = fingerprint(marketBasedSignatures);
+        Path cacheFile = cacheDirectory.resolve(referenceFingerprint + "_" + marketBasedFingerprint + CACHE_FILE_EXTENSION);
+
+        CacheEntry entry;
+        if (Objects.nonNull(lastEntry) && lastEntry.hasFingerprints(referenceFingerprint, marketBasedFingerprint)) {
+            entry = lastEntry;
+        } else if (Files.exists(cacheFile)) {
+            entry = read(cacheFile);
+        } else {
+            Optional<CacheEntry> baseEntry = Optional.ofNullable(lastEntry).or(this::readMostRecentEntry);
+            IdentifiableMapping mapping = baseEntry
+                .map(base -> updateMapping(base, networkReference, networkMarketBased, referenceSignatures, marketBasedSignatures))
+                .orElseGet(() -> IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased));
+            entry = new CacheEntry(referenceFingerprint, marketBasedFingerprint, referenceSignatures, marketBasedSignatures, mapping.mappingFromMarketBasedToReference);
+            write(entry, cacheFile);
+        }
+        lastEntry = entry;
+        return entry.toIdentifiableMapping();
+    }
+
+    public void mapNetworksAndAddAliases(Network networkReference, Network networkMarketBased) {
+        addAliases(mapNetworks(networkReference, networkMarketBased), networkReference, networkMarketBased);
+    }
+
+    /**
+     * Adds the mapped IDs as aliases of both networks. Aliases already present are left untouched, so that the same
+     * mapping can be applied several times to the same networks.
+     */
+    public static void addAliases(IdentifiableMapping mapping, Network networkReference, Network networkMarketBased) {
+        mapping.mappingFromMarketBasedToReference.forEach((marketBasedId, referenceId) -> {
+            addAliasIfAbsent(networkReference.getIdentifiable(referenceId), marketBasedId);
+            addAliasIfAbsent(networkMarketBased.getIdentifiable(marketBasedId), referenceId);
+        });
+    }
+
+    private static void addAliasIfAbsent(Identifiable<?> identifiable, String alias) {
+        if (!identifiable.getId().equals(alias) && !identifiable.getAliases().contains(alias)) {
+            identifiable.addAlias(alias);
+        }
+    }
+
+    private static IdentifiableMapping updateMapping(CacheEntry baseEntry, Network networkReference, Network networkMarketBased,
+                                                     SortedSet<String> referenceSignatures, SortedSet<String> marketBasedSignatures) {
+        Set<IndexedUcteMapper.UcteKey> modifiedNodePairs = new HashSet<>();
+        addModifiedNodePairs(baseEntry.referenceSignatures, referenceSignatures, modifiedNodePairs);
+        addModifiedNodePairs(baseEntry.marketBasedSignatures, marketBasedSignatures, modifiedNodePairs);
+
+        IdentifiableMapping.IdentifiableMappingBuilder builder = new IdentifiableMapping.IdentifiableMappingBuilder();
+        baseEntry.mappingFromMarketBasedToReference.forEach((marketBasedId, referenceId) -> {
+            if (isUcteBranchId(marketBasedId, networkMarketBased) && !modifiedNodePairs.contains(IndexedUcteMapper.getNodePair(marketBasedId))) {
+                builder.addMappingOrInvalidateDuplicates(marketBasedId, referenceId);
+            }
+        });
+        List<Branch> branchesToMatch = networkMarketBased.getBranchStream()
+            .filter(branch -> branch.getId().length() == UCTE_BRANCH_ID_LENGTH)
+            .filter(branch -> modifiedNodePairs.contains(IndexedUcteMapper.getNodePair(branch.getId())))
+            .toList();
+        IndexedUcteMapper.UcteIndex referenceIndex = branchesToMatch.isEmpty()
+            ? IndexedUcteMapper.UcteIndex.ofDanglingLines(networkReference)
+            : IndexedUcteMapper.UcteIndex.of(networkReference);
+        IndexedUcteMapper.addMappings(builder, referenceIndex, branchesToMatch);
+        // Cross-border elements are few, they are always matched again
+        IndexedUcteMapper.addCrossBorderMappings(builder, referenceIndex, IndexedUcteMapper.getUcteDanglingLines(networkMarketBased));
+        LOGGER.debug("ID mapping updated incrementally: {} modified node pairs, {} market-based branches matched again", modifiedNodePairs.size(), branchesToMatch.size());
+        return builder.build();
+    }
+
+    private static boolean isUcteBranchId(String id, Network network) {
+        return id.length() == UCTE_BRANCH_ID_LENGTH && Objects.isNull(network.getDanglingLine(id));
+    }
+
+    private static void addModifiedNodePairs(Set<String> previousSignatures, Set<String> signatures, Set<IndexedUcteMapper.UcteKey> modifiedNodePairs) {
+        Stream.concat(
+                previousSignatures.stream().filter(signature -> !signatures.contains(signature)),
+                signatures.stream().filter(signature -> !previousSignatures.contains(signature)))
+            .forEach(signature -> modifiedNodePairs.add(IndexedUcteMapper.getNodePair(signature)));
+    }
+
+    private static SortedSet<String> getReferenceElementSignatures(Network network) {
+        return Stream.of(network.getBranchStream(), network.getSwitchStream(), network.getDanglingLineStream(DanglingLineFilter.ALL))
+            .flatMap(identifiables -> identifiables)
+            .filter(identifiable -> identifiable.getId().length() == UCTE_BRANCH_ID_LENGTH)
+            .map(IdentifiableMappingCache::getSignature)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static SortedSet<String> getMarketBasedElementSignatures(Network network) {
+        return Stream.concat(network.getBranchStream(), network.getDanglingLineStream(DanglingLineFilter.ALL))
+            .filter(identifiable -> identifiable.getId().length() == UCTE_BRANCH_ID_LENGTH)
+            .map(IdentifiableMappingCache::getSignature)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Element ID followed by its element names and, for dangling lines, by their tie line ID, so that a renamed or
+     * re-paired element is seen as removed and added again.
+     */
+    private static String getSignature(Identifiable<?> identifiable) {
+        Stream<String> tieLineId = identifiable instanceof DanglingLine danglingLine ? danglingLine.getTieLine().map(Identifiable::getId).stream() : Stream.empty();
+        return Stream.of(Stream.of(identifiable.getId()), IndexedUcteMapper.getElementNames(identifiable).stream().sorted(), tieLineId)
+            .flatMap(strings -> strings)
+            .collect(Collectors.joining("|"));
+    }
+
+    static String fingerprint(SortedSet<String> signatures) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            signatures.forEach(signature -> {
+                messageDigest.update(signature.getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) '\n');
+            });
+            return HexFormat.of().formatHex(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new TrmException("Unable to compute network fingerprint: " + e);
+        }
+    }
+
+    private Optional<CacheEntry> readMostRecentEntry() {
+        try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+            return cacheFiles
+                .filter(path -> path.getFileName().toString().endsWith(CACHE_FILE_EXTENSION))
+                .max(Comparator.comparing(IdentifiableMappingCache::getLastModifiedTime))
+                .map(IdentifiableMappingCache::read);
+        } catch (IOException e) {
+            throw new TrmException("Unable to list ID mapping cache directory " + cacheDirectory + ": " + e);
+        }
+    }
+
+    private static long getLastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            throw new TrmException("Unable to read ID mapping cache file " + path + ": " + e);
+        }
+    }
+
+    private static void write(CacheEntry entry, Path cacheFile) {
+        try {
+            // Written to a temporary file first, so that concurrent readers never see a partial entry
+            Path temporaryFile = Files.createTempFile(cacheFile.getParent(), "mapping", ".tmp");
+            try (DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporaryFile))))) {
+                dataOutputStream.writeInt(BINARY_FORMAT_MAGIC_NUMBER);
+                dataOutputStream.writeInt(BINARY_FORMAT_VERSION);
+                dataOutputStream.writeUTF(entry.referenceFingerprint);
+                dataOutputStream.writeUTF(entry.marketBasedFingerprint);
+                writeStrings(dataOutputStream, entry.referenceSignatures);
+                writeStrings(dataOutputStream, entry.marketBasedSignatures);
+                dataOutputStream.writeInt(entry.mappingFromMarketBasedToReference.size());
+                for (Map.Entry<String, String> mapping : entry.mappingFromMarketBasedToReference.entrySet()) {
+                    dataOutputStream.writeUTF(mapping.getKey());
+                    dataOutputStream.writeUTF(mapping.getValue());
+                }
+            }
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new TrmException("Unable to write ID mapping cache file " + cacheFile + ": " + e);
+        }
+    }
+
+    private static CacheEntry read(Path cacheFile) {
+        try (DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(cacheFile))))) {
+            if (dataInputStream.readInt() != BINARY_FORMAT_MAGIC_NUMBER) {
+                throw new TrmException("File " + cacheFile + " is not an ID mapping cache file");
+            }
+            int version = dataInputStream.readInt();
+            if (version != BINARY_FORMAT_VERSION) {
+                throw new TrmException("Unsupported ID mapping cache version: " + version);
+            }
+            String referenceFingerprint = dataInputStream.readUTF();
+            String marketBasedFingerprint = dataInputStream.readUTF();
+            SortedSet<String> referenceSignatures = readStrings(dataInputStream);
+            SortedSet<String> marketBasedSignatures = readStrings(dataInputStream);
+            int mappingCount = dataInputStream.readInt();
+            Map<String, String> mappingFromMarketBasedToReference = new HashMap<>();
+            for (int i = 0; i < mappingCount; i++) {
+                mappingFromMarketBasedToReference.put(dataInputStream.readUTF(), dataInputStream.readUTF());
+            }
+            return new CacheEntry(referenceFingerprint, marketBasedFingerprint, referenceSignatures, marketBasedSignatures, mappingFromMarketBasedToReference);
+        } catch (IOException e) {
+            throw new TrmException("Unable to read ID mapping cache file " + cacheFile + ": " + e);
+        }
+    }
+
+    private static void writeStrings(DataOutputStream dataOutputStream, Set<String> strings) throws IOException {
+        dataOutputStream.writeInt(strings.size());
+        for (String string : strings) {
+            dataOutputStream.writeUTF(string);
+        }
+    }
+
+    private static SortedSet<String> readStrings(DataInputStream dataInputStream) throws IOException {
+        int count = dataInputStream.readInt();
+        SortedSet<String> strings = new TreeSet<>();
+        for (int i = 0; i < count; i++) {
+            strings.add(dataInputStream.readUTF());
+        }
+        return strings;
+    }
+
+    private record CacheEntry(String referenceFingerprint, String marketBasedFingerprint,
+                              SortedSet<String> referenceSignatures, SortedSet<String> marketBasedSignatures,
+                              Map<String, String> mappingFromMarketBasedToReference) {
+        boolean hasFingerprints(String referenceFingerprint, String marketBasedFingerprint) {
+            return this.referenceFingerprint.equals(referenceFingerprint) && this.marketBasedFingerprint.equals(marketBasedFingerprint);
+        }
+
+        IdentifiableMapping toIdentifiableMapping() {
+            // IdentifiableMapping exposes its maps, so each caller gets its own copy
+            Map<String, String> mappingFromReferenceToMarketBased = new HashMap<>();
+            mappingFromMarketBasedToReference.forEach((marketBasedId, referenceId) -> mappingFromReferenceToMarketBased.put(referenceId, marketBasedId));
+            return new IdentifiableMapping(new HashMap<>(mappingFromMarketBasedToReference), mappingFromReferenceToMarketBased);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.id_mapping;
+
+import com.powsybl.iidm.network.*;
+import com.rte_france.trm_algorithm.NetworkCountries;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * UCTE network mapper giving the same mapping as {@link UcteMapper} in linear time.
+ * Reference UCTE elements are indexed once by their node codes (without the 8th character, in both orientations)
+ * and by their order code or element names. Market-based branches are then resolved in parallel with hash lookups,
+ * and the resulting pairs are added to the mapping in the network order, so that duplicates are invalidated as in
+ * {@link UcteMapper}.
+ * <p>
+ * Dangling lines are indexed the same way by their real node and X-node codes. Tie lines are mapped when both of
+ * their halves match the halves of the same reference tie line, so cross-border elements do not need another pass.
+ * </p>
+ *
+ * @author Sebastian Huaraca {@literal <sebastian.huaracalapa at rte-france.com>}
+ */
+public final class IndexedUcteMapper {
+    static final int UCTE_BRANCH_ID_LENGTH = 19;
+    private static final String ELEMENT_NAME_PROPERTY_PREFIX = "elementName";
+
+    private IndexedUcteMapper() {
+        // Utility class
+    }
+
+    public static IdentifiableMapping mapNetworks(Network networkReference, Network networkMarketBased) {
+        return mapElements(UcteIndex.of(networkReference), networkMarketBased.getBranchStream(), getUcteDanglingLines(networkMarketBased));
+    }
+
+    public static IdentifiableMapping mapNetworks(Network networkReference, Network networkMarketBased, Country... chosenCountries) {
+        return mapNetworks(networkReference, networkMarketBased, NetworkCountries.of(networkMarketBased), chosenCountries);
+    }
+
+    /**
+     * @param marketBasedCountries country cache of the market-based network, shared with the other components of the
+     *                             computation
+     */
+    public static IdentifiableMapping mapNetworks(Network networkReference, Network networkMarketBased, NetworkCountries marketBasedCountries, Country... chosenCountries) {
+        return mapElements(UcteIndex.of(networkReference),
+            networkMarketBased.getBranchStream().filter(branch -> UcteMapper.isBranchConnectedToAnyGivenCountry(marketBasedCountries, branch, chosenCountries)),
+            getUcteDanglingLines(networkMarketBased).stream().filter(danglingLine -> isDanglingLineInAnyGivenCountry(marketBasedCountries, danglingLine, chosenCountries)).toList());
+    }
+
+    private static IdentifiableMapping mapElements(UcteIndex referenceIndex, Stream<Branch> marketBasedBranches, List<DanglingLine> marketBasedDanglingLines) {
+        IdentifiableMapping.IdentifiableMappingBuilder builder = new IdentifiableMapping.IdentifiableMappingBuilder();
+        addMappings(builder, referenceIndex, marketBasedBranches
+            .filter(branch -> branch.getId().length() == UCTE_BRANCH_ID_LENGTH)
+            .toList());
+        addCrossBorderMappings(builder, referenceIndex, marketBasedDanglingLines);
+        return builder.build();
+    }
+
+    static void addMappings(IdentifiableMapping.IdentifiableMappingBuilder builder, UcteIndex referenceIndex, List<Branch> marketBasedBranches) {
+        // Parallel stream keeps the encounter order, so that duplicates are resolved deterministically
+        List<String[]> candidateMappings = marketBasedBranches.parallelStream()
+            .flatMap(branch -> findCandidateMappings(referenceIndex.elementIdsByKey, branch))
+            .toList();
+        candidateMappings.forEach(candidateMapping -> builder.addMappingOrInvalidateDuplicates(candidateMapping[0], candidateMapping[1]));
+    }
+
+    /**
+     * Maps market-based dangling lines to reference dangling lines, paired or not, and market-based tie lines to
+     * the reference tie lines whose halves both match.
+     */
+    static void addCrossBorderMappings(IdentifiableMapping.IdentifiableMappingBuilder builder, UcteIndex referenceIndex, List<DanglingLine> marketBasedDanglingLines) {
+        List<String[]> candidateMappings = marketBasedDanglingLines.parallelStream()
+            .flatMap(danglingLine -> findCandidateMappings(referenceIndex.danglingLineIdsByKey, danglingLine))
+            .toList();
+        candidateMappings.forEach(candidateMapping -> builder.addMappingOrInvalidateDuplicates(candidateMapping[0], candidateMapping[1]));
+        marketBasedDanglingLines.stream()
+            .map(DanglingLine::getTieLine)
+            .flatMap(Optional::stream)
+            .distinct()
+            .forEach(tieLine -> findTieLineMatch(referenceIndex, tieLine)
+                .ifPresent(referenceTieLineId -> builder.addMappingOrInvalidateDuplicates(tieLine.getId(), referenceTieLineId)));
+    }
+
+    static List<DanglingLine> getUcteDanglingLines(Network network) {
+        return network.getDanglingLineStream(DanglingLineFilter.ALL)
+            .filter(danglingLine -> danglingLine.getId().length() == UCTE_BRANCH_ID_LENGTH)
+            .toList();
+    }
+
+    static boolean isDanglingLineInAnyGivenCountry(NetworkCountries networkCountries, DanglingLine danglingLine, Country... countries) {
+        Optional<Country> country = networkCountries.findCountry(danglingLine.getTerminal());
+        return country.isPresent() && Arrays.asList(countries).contains(country.get());
+    }
+
+    /**
+     * Orientation independent node codes of a UCTE branch ID. Mapping conflicts can only occur between branches
+     * sharing the same node pair.
+     */
+    static UcteKey getNodePair(String ucteBranchId) {
+        return UcteKey.of(getNodeCode(ucteBranchId.substring(0, 8)), getNodeCode(ucteBranchId.substring(9, 17)), "");
+    }
+
+    private static Stream<String[]> findCandidateMappings(Map<UcteKey, Set<String>> referenceElementIdsByKey, Identifiable<?> identifiable) {
+        String id = identifiable.getId();
+        String node1 = getNodeCode(id.substring(0, 8));
+        String node2 = getNodeCode(id.substring(9, 17));
+        Stream.Builder<String[]> candidateMappings = Stream.builder();
+        findSingleMatch(referenceElementIdsByKey, node1, node2, id.substring(18))
+            .ifPresent(referenceId -> candidateMappings.add(new String[] {id, referenceId}));
+        Optional.ofNullable(identifiable.getProperty(ELEMENT_NAME_PROPERTY_PREFIX))
+            .flatMap(elementName -> findSingleMatch(referenceElementIdsByKey, node1, node2, elementName))
+            .ifPresent(referenceId -> candidateMappings.add(new String[] {id, referenceId}));
+        return candidateMappings.build();
+    }
+
+    private static Optional<String> findTieLineMatch(UcteIndex referenceIndex, TieLine tieLine) {
+        Optional<String> referenceTieLineId1 = findCandidateMappings(referenceIndex.danglingLineIdsByKey, tieLine.getDanglingLine1())
+            .map(candidateMapping -> referenceIndex.tieLineIdsByDanglingLineId.get(candidateMapping[1]))
+            .filter(Objects::nonNull)
+            .findFirst();
+        Optional<String> referenceTieLineId2 = findCandidateMappings(referenceIndex.danglingLineIdsByKey, tieLine.getDanglingLine2())
+            .map(candidateMapping -> referenceIndex.tieLineIdsByDanglingLineId.get(candidateMapping[1]))
+            .filter(Objects::nonNull)
+            .findFirst();
+        return referenceTieLineId1.isPresent() && referenceTieLineId1.equals(referenceTieLineId2) ? referenceTieLineId1 : Optional.empty();
+    }
+
+    private static Optional<String> findSingleMatch(Map<UcteKey, Set<String>> elementIdsByKey, String node1, String node2, String suffix) {
+        Set<String> elementIds = elementIdsByKey.getOrDefault(UcteKey.of(node1, node2, suffix), Collections.emptySet());
+        return elementIds.size() == 1 ? Optional.of(elementIds.iterator().next()) : Optional.empty();
+    }
+
+    /**
+     * UCTE node code without its 8th character, which is replaced by a wildcard when matching elements.
+     */
+    static String getNodeCode(String ucteNodeId) {
+        return ucteNodeId.substring(0, 7);
+    }
+
+    static Set<String> getElementNames(Identifiable<?> identifiable) {
+        Set<String> elementNames = new HashSet<>();
+        identifiable.getPropertyNames().stream()
+            .filter(propertyName -> propertyName.startsWith(ELEMENT_NAME_PROPERTY_PREFIX))
+            .map(identifiable::getProperty)
+            .filter(elementName -> !elementName.isBlank())
+            .forEach(elementNames::add);
+        return elementNames;
+    }
+
+    record UcteKey(String node1, String node2, String suffix) {
+        static UcteKey of(String nodeA, String nodeB, String suffix) {
+            // Element orientation is not significant when matching UCTE elements
+            return nodeA.compareTo(nodeB) <= 0 ? new UcteKey(nodeA, nodeB, suffix) : new UcteKey(nodeB, nodeA, suffix);
+        }
+    }
+
+    static final class UcteIndex {
+        private final Map<UcteKey, Set<String>> elementIdsByKey = new HashMap<>();
+        private final Map<UcteKey, Set<String>> danglingLineIdsByKey = new HashMap<>();
+        private final Map<String, String> tieLineIdsByDanglingLineId = new HashMap<>();
+
+        private UcteIndex() {
+            // Use factory methods
+        }
+
+        static UcteIndex of(Network network) {
+            UcteIndex index = ofDanglingLines(network);
+            network.getBranchStream()
+                .filter(branch -> branch.getId().length() == UCTE_BRANCH_ID_LENGTH)
+                .forEach(branch -> addUcteElement(index.elementIdsByKey, branch));
+            network.getSwitchStream()
+                .filter(aSwitch -> aSwitch.getId().length() == UCTE_BRANCH_ID_LENGTH)
+                .forEach(aSwitch -> addUcteElement(index.elementIdsByKey, aSwitch));
+            return index;
+        }
+
+        /**
+         * Index of the dangling lines only, paired or not.
+         */
+        static UcteIndex ofDanglingLines(Network network) {
+            UcteIndex index = new UcteIndex();
+            getUcteDanglingLines(network).forEach(danglingLine -> {
+                addUcteElement(index.danglingLineIdsByKey, danglingLine);
+                danglingLine.getTieLine().ifPresent(tieLine -> index.tieLineIdsByDanglingLineId.put(danglingLine.getId(), tieLine.getId()));
+            });
+            return index;
+        }
+
+        private static void addUcteElement(Map<UcteKey, Set<String>> elementIdsByKey, Identifiable<?> identifiable) {
+            String id = identifiable.getId();
+            String node1 = getNodeCode(id.substring(0, 8));
+            String node2 = getNodeCode(id.substring(9, 17));
+            elementIdsByKey.computeIfAbsent(UcteKey.of(node1, node2, id.substring(18)), key -> new HashSet<>()).add(id);
+            getElementNames(identifiable).forEach(elementName -> elementIdsByKey.computeIfAbsent(UcteKey.of(node1, node2, elementName), key -> new HashSet<>()).add(id));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.id_mapping;
+
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Read-only view matching elements of a reference network and of a market-based network through an
+ * {@link IdentifiableMapping}, without adding aliases to the networks.
+ * <p>
+ * Mapped elements are resolved once when the view is created. Elements which are not part of the mapping are matched
+ * by identical IDs, unless the element with the same ID is already mapped to another element.
+ * </p>
+ *
+ * @author Sebastian Huaraca {@literal <sebastian.huaracalapa at rte-france.com>}
+ */
+public final class NetworkElementMapping {
+    private final Network referenceNetwork;
+    private final Network marketBasedNetwork;
+    private final Map<String, Identifiable<?>> marketBasedElementsByReferenceId = new HashMap<>();
+    private final Map<String, Identifiable<?>> referenceElementsByMarketBasedId = new HashMap<>();
+
+    private NetworkElementMapping(Network referenceNetwork, Network marketBasedNetwork, IdentifiableMapping identifiableMapping) {
+        this.referenceNetwork = Objects.requireNonNull(referenceNetwork);
+        this.marketBasedNetwork = Objects.requireNonNull(marketBasedNetwork);
+        identifiableMapping.mappingFromMarketBasedToReference.forEach((marketBasedId, referenceId) -> {
+            Identifiable<?> referenceElement = referenceNetwork.getIdentifiable(referenceId);
+            Identifiable<?> marketBasedElement = marketBasedNetwork.getIdentifiable(marketBasedId);
+            if (Objects.nonNull(referenceElement) && Objects.nonNull(marketBasedElement)) {
+                marketBasedElementsByReferenceId.put(referenceId, marketBasedElement);
+                referenceElementsByMarketBasedId.put(marketBasedId, referenceElement);
+            }
+        });
+    }
+
+    public static NetworkElementMapping of(Network referenceNetwork, Network marketBasedNetwork, IdentifiableMapping identifiableMapping) {
+        return new NetworkElementMapping(referenceNetwork, marketBasedNetwork, Objects.requireNonNull(identifiableMapping));
+    }
+
+    /**
+     * View matching elements by identical IDs only.
+     */
+    public static NetworkElementMapping identity(Network referenceNetwork, Network marketBasedNetwork) {
+        return of(referenceNetwork, marketBasedNetwork, IdentifiableMapping.empty());
+    }
+
+    public Network getReferenceNetwork() {
+        return referenceNetwork;
+    }
+
+    public Network getMarketBasedNetwork() {
+        return marketBasedNetwork;
+    }
+
+    /**
+     * Market-based element matching the reference element ID, or null if there is none or if it is not of the given type.
+     */
+    public <T extends Identifiable<?>> T getMarketBasedElement(String referenceId, Class<T> elementClass) {
+        return findElement(referenceId, marketBasedElementsByReferenceId, referenceElementsByMarketBasedId, marketBasedNetwork, elementClass);
+    }
+
+    /**
+     * Reference element matching the market-based element ID, or null if there is none or if it is not of the given type.
+     */
+    public <T extends Identifiable<?>> T getReferenceElement(String marketBasedId, Class<T> elementClass) {
+        return findElement(marketBasedId, referenceElementsByMarketBasedId, marketBasedElementsByReferenceId, referenceNetwork, elementClass);
+    }
+
+    private static <T extends Identifiable<?>> T findElement(String id, Map<String, Identifiable<?>> mappedElements, Map<String, Identifiable<?>> reverseMappedElements,
+                                                             Network otherNetwork, Class<T> elementClass) {
+        Identifiable<?> element = mappedElements.get(id);
+        if (Objects.isNull(element) && !reverseMappedElements.containsKey(id)) {
+            element = otherNetwork.getIdentifiable(id);
+        }
+        return elementClass.isInstance(element) ? elementClass.cast(element) : null;
+    }
+}
@@ -11,6 +11,7 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteMatchingResult;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteNetworkAnalyzer;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteNetworkAnalyzerProperties;
+import com.rte_france.trm_algorithm.NetworkCountries;
 import java.util.*;
 
 /**
@@ -23,21 +24,35 @@ public final class UcteMapper {
     public static IdentifiableMapping mapNetworks(Network networkReference, Network networkMarketBased) {
         IdentifiableMapping.IdentifiableMappingBuilder builder = new IdentifiableMapping.IdentifiableMappingBuilder();
         UcteNetworkAnalyzer analyser = new UcteNetworkAnalyzer(networkReference, UCTE_NETWORK_ANALYZER_PROPERTIES);
-        // Code unable to map the Tielines
         networkMarketBased.getBranchStream()
             .filter(branch -> branch.getId().length() == 19)
             .forEach(branch -> mapNetworks(analyser, builder, networkMarketBased, branch));
+        // Tie lines and dangling lines are matched by their X-node code and order code
+        IndexedUcteMapper.addCrossBorderMappings(builder, IndexedUcteMapper.UcteIndex.ofDanglingLines(networkReference),
+            IndexedUcteMapper.getUcteDanglingLines(networkMarketBased));
         return builder.build();
     }
 
     public static IdentifiableMapping mapNetworks(Network networkReference, Network networkMarketBased, Country... chosenCountries) {
+        return mapNetworks(networkReference, networkMarketBased, NetworkCountries.of(networkMarketBased), chosenCountries);
+    }
+
+    /**
+     * @param marketBasedCountries country cache of the market-based network, shared with the other components of the
+     *                             computation
+     */
+    public static IdentifiableMapping mapNetworks(Network networkReference, Network networkMarketBased, NetworkCountries marketBasedCountries, Country... chosenCountries) {
         IdentifiableMapping.IdentifiableMappingBuilder builder = new IdentifiableMapping.IdentifiableMappingBuilder();
         UcteNetworkAnalyzer analyser = new UcteNetworkAnalyzer(networkReference, UCTE_NETWORK_ANALYZER_PROPERTIES);
-        // Code unable to map the Tielines
         networkMarketBased.getBranchStream()
-            .filter(branch -> isBranchConnectedToAnyGivenCountry(branch, chosenCountries))
+            .filter(branch -> isBranchConnectedToAnyGivenCountry(marketBasedCountries, branch, chosenCountries))
             .filter(branch -> branch.getId().length() == 19)
             .forEach(branch -> mapNetworks(analyser, builder, networkMarketBased, branch));
+        // Tie lines and dangling lines are matched by their X-node code and order code
+        IndexedUcteMapper.addCrossBorderMappings(builder, IndexedUcteMapper.UcteIndex.ofDanglingLines(networkReference),
+            IndexedUcteMapper.getUcteDanglingLines(networkMarketBased).stream()
+                .filter(danglingLine -> IndexedUcteMapper.isDanglingLineInAnyGivenCountry(marketBasedCountries, danglingLine, chosenCountries))
+                .toList());
         return builder.build();
     }
 
@@ -49,15 +64,13 @@ public final class UcteMapper {
         });
     }
 
-    private static boolean isBranchConnectedToAnyGivenCountry(Branch branch, Country... countries) {
-        return Arrays.stream(countries).anyMatch(country -> isBranchConnectedToCountry(branch, country));
+    static boolean isBranchConnectedToAnyGivenCountry(NetworkCountries networkCountries, Branch branch, Country... countries) {
+        return Arrays.stream(countries).anyMatch(country -> isBranchConnectedToCountry(networkCountries, branch, country));
     }
 
-    private static boolean isBranchConnectedToCountry(Branch branch, Country country) {
-        Optional<Country> country1 = branch.getTerminal1().getVoltageLevel()
-            .getSubstation().flatMap(Substation::getCountry);
-        Optional<Country> country2 = branch.getTerminal2().getVoltageLevel()
-            .getSubstation().flatMap(Substation::getCountry);
+    private static boolean isBranchConnectedToCountry(NetworkCountries networkCountries, Branch branch, Country country) {
+        Optional<Country> country1 = networkCountries.findCountry(branch.getTerminal1());
+        Optional<Country> country2 = networkCountries.findCountry(branch.getTerminal2());
         return country1.isPresent() && country1.get().equals(country) ||
             country2.isPresent() && country2.get().equals(country);
     }
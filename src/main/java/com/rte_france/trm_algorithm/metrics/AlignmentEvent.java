@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@Name("com.rte_france.trm_algorithm.Alignment")
+@Label("TRM Alignment")
+@Category({"TRM", "Alignment"})
+@Description("Alignment of the operational conditions of a market-based network on a reference network")
+final class AlignmentEvent extends jdk.jfr.Event {
+    @Label("Aligner")
+    String alignerName;
+
+    @Label("Reference Network ID")
+    String referenceNetworkId;
+
+    @Label("Market-Based Network ID")
+    String marketBasedNetworkId;
+
+    @Label("Market-Based Variant ID")
+    String variantId;
+
+    @Label("Market-Based Branch Count")
+    int branchCount;
+
+    @Label("Market-Based Generator Count")
+    int generatorCount;
+
+    @Label("Market-Based Load Count")
+    int loadCount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
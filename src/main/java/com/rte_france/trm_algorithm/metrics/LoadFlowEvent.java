@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@Name("com.rte_france.trm_algorithm.LoadFlow")
+@Label("TRM Load Flow")
+@Category({"TRM", "Load Flow"})
+@Description("Load flow run by the TRM computation")
+final class LoadFlowEvent extends jdk.jfr.Event {
+    @Label("Caller")
+    String caller;
+
+    @Label("Network ID")
+    String networkId;
+
+    @Label("Variant ID")
+    String variantId;
+
+    @Label("Bus Count")
+    int busCount;
+
+    @Label("Component Count")
+    int componentCount;
+
+    @Label("Iteration Count")
+    int iterationCount;
+
+    @Label("Status")
+    String status;
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@Name("com.rte_france.trm_algorithm.SensitivityAnalysis")
+@Label("TRM Sensitivity Analysis")
+@Category({"TRM", "Sensitivity Analysis"})
+@Description("Zonal sensitivity analysis run by the TRM computation")
+final class SensitivityAnalysisEvent extends jdk.jfr.Event {
+    @Label("Network ID")
+    String networkId;
+
+    @Label("Variant ID")
+    String variantId;
+
+    @Label("Branch Count")
+    int branchCount;
+
+    @Label("Factor Count")
+    int factorCount;
+
+    @Label("Variable Set Count")
+    int variableSetCount;
+
+    @Label("Value Count")
+    int valueCount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import java.util.Objects;
+
+/**
+ * Resources used by one stage of a TRM computation. Nested stages are named after their parent stage, separated by
+ * a slash, e.g. {@code alignment/PstAligner}.
+ * <p>
+ * CPU time and allocated bytes are measured on the thread running the stage, so that they exclude the work done by
+ * other threads, such as the aligners run concurrently by a parallel pipeline. They are negative when the JVM does
+ * not support their measurement.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class StageMetrics {
+    private final String stageName;
+    private final long wallTimeNanos;
+    private final long cpuTimeNanos;
+    private final long allocatedBytes;
+    private final int loadFlowIterationCount;
+
+    public StageMetrics(String stageName, long wallTimeNanos, long cpuTimeNanos, long allocatedBytes, int loadFlowIterationCount) {
+        this.stageName = Objects.requireNonNull(stageName);
+        this.wallTimeNanos = wallTimeNanos;
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.loadFlowIterationCount = loadFlowIterationCount;
+    }
+
+    public String getStageName() {
+        return stageName;
+    }
+
+    public long getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Newton-Raphson iterations of the load flows run during the stage, including its nested stages.
+     */
+    public int getLoadFlowIterationCount() {
+        return loadFlowIterationCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: wall=%.1f ms, cpu=%.1f ms, allocated=%d B, load flow iterations=%d",
+            stageName, wallTimeNanos / 1e6, cpuTimeNanos / 1e6, allocatedBytes, loadFlowIterationCount);
+    }
+}
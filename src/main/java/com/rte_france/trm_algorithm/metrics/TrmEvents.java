@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.sensitivity.SensitivityAnalysisResult;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the costly steps of a TRM computation inside Java Flight Recorder events, so that recordings show which
+ * aligner, load flow or sensitivity analysis of which network stalled.
+ * <p>
+ * Event fields are only computed when the event is enabled in the recording and exceeds its threshold, so that
+ * running without recording costs nothing but the event allocation.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmEvents {
+    private TrmEvents() {
+        // Utility class
+    }
+
+    public static void align(String alignerName, Network referenceNetwork, Network marketBasedNetwork, Runnable alignment) {
+        AlignmentEvent event = new AlignmentEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            alignment.run();
+            succeeded = true;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.alignerName = alignerName;
+                event.referenceNetworkId = referenceNetwork.getId();
+                event.marketBasedNetworkId = marketBasedNetwork.getId();
+                event.variantId = marketBasedNetwork.getVariantManager().getWorkingVariantId();
+                event.branchCount = marketBasedNetwork.getBranchCount();
+                event.generatorCount = marketBasedNetwork.getGeneratorCount();
+                event.loadCount = marketBasedNetwork.getLoadCount();
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Runs a load flow with the default provider, and reports its iterations to the current {@link TrmMetrics} stage.
+     *
+     * @param caller name of the component running the load flow
+     */
+    public static LoadFlowResult runLoadFlow(String caller, Network network, LoadFlowParameters loadFlowParameters) {
+        LoadFlowEvent event = new LoadFlowEvent();
+        event.begin();
+        LoadFlowResult loadFlowResult = null;
+        try {
+            loadFlowResult = LoadFlow.run(network, loadFlowParameters);
+            TrmMetrics.recordLoadFlowResult(loadFlowResult);
+            return loadFlowResult;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.caller = caller;
+                event.networkId = network.getId();
+                event.variantId = network.getVariantManager().getWorkingVariantId();
+                event.busCount = (int) network.getBusView().getBusStream().count();
+                if (loadFlowResult != null) {
+                    event.componentCount = loadFlowResult.getComponentResults().size();
+                    event.iterationCount = loadFlowResult.getComponentResults().stream().mapToInt(LoadFlowResult.ComponentResult::getIterationCount).sum();
+                    event.status = loadFlowResult.getStatus().name();
+                } else {
+                    event.status = "EXCEPTION";
+                }
+                event.commit();
+            }
+        }
+    }
+
+    public static SensitivityAnalysisResult runSensitivityAnalysis(Network network, int branchCount, int factorCount, int variableSetCount,
+                                                                   Supplier<SensitivityAnalysisResult> sensitivityAnalysis) {
+        SensitivityAnalysisEvent event = new SensitivityAnalysisEvent();
+        event.begin();
+        SensitivityAnalysisResult sensitivityAnalysisResult = null;
+        try {
+            sensitivityAnalysisResult = sensitivityAnalysis.get();
+            return sensitivityAnalysisResult;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.networkId = network.getId();
+                event.variantId = network.getVariantManager().getWorkingVariantId();
+                event.branchCount = branchCount;
+                event.factorCount = factorCount;
+                event.variableSetCount = variableSetCount;
+                event.valueCount = sensitivityAnalysisResult == null ? 0 : sensitivityAnalysisResult.getValues().size();
+                event.succeeded = sensitivityAnalysisResult != null;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import com.powsybl.loadflow.LoadFlowResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Records the wall time, CPU time, allocated bytes and load flow iterations of the stages of a TRM computation.
+ * <p>
+ * The stage running on each thread is tracked, so that code deep in the computation can add nested stages with
+ * {@link #measureNested(String, Runnable)} and report load flow results with {@link #recordLoadFlowResult(LoadFlowResult)}
+ * without being given the recorder. Both do nothing outside of a measured stage. Work handed over to other threads
+ * is attached to the current stage with {@link #inCurrentStage(Runnable)}.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmMetrics {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrmMetrics.class);
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<Stage> CURRENT_STAGE = new ThreadLocal<>();
+
+    private final TrmMetricsListener listener;
+    private final List<StageMetrics> stages = Collections.synchronizedList(new ArrayList<>());
+
+    public TrmMetrics() {
+        this(TrmMetricsListener.NO_OP);
+    }
+
+    public TrmMetrics(TrmMetricsListener listener) {
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    public <T> T measure(String stageName, Supplier<T> stageComputation) {
+        Stage parent = CURRENT_STAGE.get();
+        String fullStageName = Objects.nonNull(parent) && parent.metrics == this ? parent.name + "/" + stageName : stageName;
+        Stage stage = new Stage(this, fullStageName, parent);
+        CURRENT_STAGE.set(stage);
+        try {
+            return stageComputation.get();
+        } finally {
+            CURRENT_STAGE.set(parent);
+            complete(stage);
+        }
+    }
+
+    public void measure(String stageName, Runnable stageComputation) {
+        measure(stageName, () -> {
+            stageComputation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Measures a stage nested in the stage running on the current thread, or only runs it if there is none.
+     */
+    public static void measureNested(String stageName, Runnable stageComputation) {
+        Stage currentStage = CURRENT_STAGE.get();
+        if (Objects.isNull(currentStage)) {
+            stageComputation.run();
+        } else {
+            currentStage.metrics.measure(stageName, stageComputation);
+        }
+    }
+
+    /**
+     * Wraps work to be run by another thread so that its nested stages and load flows are attached to the stage
+     * running on the calling thread.
+     */
+    public static Runnable inCurrentStage(Runnable runnable) {
+        Stage currentStage = CURRENT_STAGE.get();
+        if (Objects.isNull(currentStage)) {
+            return runnable;
+        }
+        return () -> {
+            Stage previousStage = CURRENT_STAGE.get();
+            CURRENT_STAGE.set(currentStage);
+            try {
+                runnable.run();
+            } finally {
+                CURRENT_STAGE.set(previousStage);
+            }
+        };
+    }
+
+    /**
+     * Adds the iterations of a load flow to the stage running on the current thread, if any.
+     */
+    public static void recordLoadFlowResult(LoadFlowResult loadFlowResult) {
+        Stage currentStage = CURRENT_STAGE.get();
+        if (Objects.nonNull(currentStage) && Objects.nonNull(loadFlowResult)) {
+            int iterationCount = loadFlowResult.getComponentResults().stream().mapToInt(LoadFlowResult.ComponentResult::getIterationCount).sum();
+            currentStage.loadFlowIterationCount.addAndGet(iterationCount);
+        }
+    }
+
+    public TrmMetricsReport getReport() {
+        synchronized (stages) {
+            return new TrmMetricsReport(stages);
+        }
+    }
+
+    private void complete(Stage stage) {
+        int loadFlowIterationCount = stage.loadFlowIterationCount.get();
+        if (Objects.nonNull(stage.parent)) {
+            stage.parent.loadFlowIterationCount.addAndGet(loadFlowIterationCount);
+        }
+        StageMetrics stageMetrics = new StageMetrics(stage.name,
+            System.nanoTime() - stage.startWallTimeNanos,
+            difference(getCurrentThreadCpuTime(), stage.startCpuTimeNanos),
+            difference(getCurrentThreadAllocatedBytes(), stage.startAllocatedBytes),
+            loadFlowIterationCount);
+        stages.add(stageMetrics);
+        LOGGER.debug("{}", stageMetrics);
+        try {
+            listener.onStageCompleted(stageMetrics);
+        } catch (RuntimeException e) {
+            // Metrics publication must never make the computation fail
+            LOGGER.warn("Metrics listener failed on stage '{}'", stage.name, e);
+        }
+    }
+
+    private static long difference(long end, long start) {
+        return end < 0 || start < 0 ? -1 : end - start;
+    }
+
+    private static long getCurrentThreadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long getCurrentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean allocationMXBean
+            && allocationMXBean.isThreadAllocatedMemorySupported() && allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    private static final class Stage {
+        private final TrmMetrics metrics;
+        private final String name;
+        private final Stage parent;
+        private final AtomicInteger loadFlowIterationCount = new AtomicInteger();
+        private final long startWallTimeNanos;
+        private final long startCpuTimeNanos;
+        private final long startAllocatedBytes;
+
+        private Stage(TrmMetrics metrics, String name, Stage parent) {
+            this.metrics = metrics;
+            this.name = name;
+            this.parent = parent;
+            this.startAllocatedBytes = getCurrentThreadAllocatedBytes();
+            this.startCpuTimeNanos = getCurrentThreadCpuTime();
+            this.startWallTimeNanos = System.nanoTime();
+        }
+    }
+}
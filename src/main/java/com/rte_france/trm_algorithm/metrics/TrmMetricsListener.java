@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+/**
+ * Receives the metrics of each stage of a TRM computation as soon as the stage completes, e.g. to publish them to a
+ * monitoring system. Listeners may be called concurrently by stages run on different threads.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+@FunctionalInterface
+public interface TrmMetricsListener {
+    TrmMetricsListener NO_OP = stageMetrics -> { };
+
+    void onStageCompleted(StageMetrics stageMetrics);
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Metrics of all the stages of a TRM computation, in completion order.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class TrmMetricsReport {
+    private static final TrmMetricsReport EMPTY = new TrmMetricsReport(List.of());
+
+    private final List<StageMetrics> stages;
+
+    TrmMetricsReport(List<StageMetrics> stages) {
+        this.stages = List.copyOf(stages);
+    }
+
+    public static TrmMetricsReport empty() {
+        return EMPTY;
+    }
+
+    public List<StageMetrics> getStages() {
+        return stages;
+    }
+
+    /**
+     * Metrics of the first stage with the given name.
+     */
+    public Optional<StageMetrics> findStage(String stageName) {
+        return stages.stream().filter(stage -> stage.getStageName().equals(stageName)).findFirst();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("TRM metrics report");
+        stages.forEach(stage -> stringBuilder.append(System.lineSeparator()).append("  ").append(stage));
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Network data read or written by an {@link OperationalConditionAligner}, used to find which aligners may run
+ * concurrently in a {@link ParallelOperationalConditionAlignerPipeline}.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public enum AlignedElementType {
+    /**
+     * Network elements themselves and their connection states. Every aligner looking elements up reads it, and aligners
+     * adding, removing, connecting or disconnecting elements write it.
+     */
+    TOPOLOGY,
+    TAP_CHANGER,
+    HVDC_LINE,
+    DANGLING_LINE,
+    GENERATOR,
+    LOAD,
+    /**
+     * Any other data, such as load flow results or switch positions.
+     */
+    OTHER;
+
+    public static Set<AlignedElementType> all() {
+        return EnumSet.allOf(AlignedElementType.class);
+    }
+}
@@ -10,10 +10,18 @@ package com.rte_france.trm_algorithm.operational_conditions_aligners;
 import com.powsybl.iidm.network.Branch;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.TwoSides;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.NetworkElementMapping;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 /**
  * @author Sébastien Murgey {@literal <sebastien.murgey at rte-france.com>}
@@ -21,57 +29,109 @@ import java.util.Objects;
  */
 public class BranchConnectionStateAligner implements OperationalConditionAligner {
     private static final Logger LOGGER = LoggerFactory.getLogger(BranchConnectionStateAligner.class);
+    private final IdentifiableMapping identifiableMapping;
+
+    public BranchConnectionStateAligner() {
+        this(IdentifiableMapping.empty());
+    }
+
+    public BranchConnectionStateAligner(IdentifiableMapping identifiableMapping) {
+        this.identifiableMapping = Objects.requireNonNull(identifiableMapping);
+    }
+
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY);
+    }
+
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY);
+    }
 
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        NetworkElementMapping elementMapping = NetworkElementMapping.of(referenceNetwork, marketBasedNetwork, identifiableMapping);
+        List<Branch<?>> branches = new ArrayList<>();
+        List<BranchState> branchStates = new ArrayList<>();
+        List<BranchState> referenceBranchStates = new ArrayList<>();
         marketBasedNetwork.getBranches().forEach(branch -> {
             String branchId = branch.getId();
-            Branch<?> referenceBranch = referenceNetwork.getBranch(branchId);
+            Branch<?> referenceBranch = elementMapping.getReferenceElement(branchId, Branch.class);
 
             if (Objects.isNull(referenceBranch)) {
                 LOGGER.debug("Branch with id '{}' not found.", branchId);
             } else {
-                alignBranch(branch, referenceBranch);
+                branches.add(branch);
+                branchStates.add(BranchState.of(branch));
+                referenceBranchStates.add(BranchState.of(referenceBranch));
             }
         });
-    }
 
-    private static void alignBranch(Branch<?> branch, Branch<?> referenceBranch) {
+        // Network implementations are not thread safe, so the diff is computed on the snapshots only
+        List<TerminalChange> terminalChanges = IntStream.range(0, branches.size()).parallel()
+            .mapToObj(index -> getTerminalChanges(index, branchStates.get(index), referenceBranchStates.get(index)))
+            .flatMap(List::stream)
+            .toList();
 
-        Terminal branchTerminal1 = branch.getTerminal1();
-        Terminal branchTerminal2 = branch.getTerminal2();
-        Terminal referenceBranchTerminal1 = referenceBranch.getTerminal1();
-        Terminal referenceBranchTerminal2 = referenceBranch.getTerminal2();
-
-        if (branchTerminal1.getVoltageLevel().getId().equals(referenceBranchTerminal1.getVoltageLevel().getId())) {
-            if (branchTerminal2.getVoltageLevel().getId().equals(referenceBranchTerminal2.getVoltageLevel().getId())) {
-                alignTerminal(branchTerminal1, referenceBranchTerminal1);
-                alignTerminal(branchTerminal2, referenceBranchTerminal2);
+        // Changes are applied after all the states have been read, so that topology caches are not computed in between
+        terminalChanges.forEach(terminalChange -> {
+            Terminal terminal = branches.get(terminalChange.branchIndex()).getTerminal(terminalChange.side());
+            if (terminalChange.connect()) {
+                terminal.connect();
             } else {
-                branchNotFoundLogger(branchTerminal2, branch.getId());
+                terminal.disconnect();
             }
-        } else if (branchTerminal1.getVoltageLevel().getId().equals(referenceBranchTerminal2.getVoltageLevel().getId())) {
-            if (branchTerminal2.getVoltageLevel().getId().equals(referenceBranchTerminal1.getVoltageLevel().getId())) {
-                alignTerminal(branchTerminal1, referenceBranchTerminal2);
-                alignTerminal(branchTerminal2, referenceBranchTerminal1);
-            } else {
-                branchNotFoundLogger(branchTerminal2, branch.getId());
+        });
+        LOGGER.debug("{} terminal connection states changed on {} matched branches", terminalChanges.size(), branches.size());
+    }
+
+    private static List<TerminalChange> getTerminalChanges(int branchIndex, BranchState branchState, BranchState referenceBranchState) {
+        if (branchState.voltageLevelId1().equals(referenceBranchState.voltageLevelId1())) {
+            if (branchState.voltageLevelId2().equals(referenceBranchState.voltageLevelId2())) {
+                return getTerminalChanges(branchIndex, branchState.connected1(), referenceBranchState.connected1(), branchState.connected2(), referenceBranchState.connected2());
             }
+            branchNotFoundLogger(branchState.voltageLevelId2(), branchState.id());
+        } else if (branchState.voltageLevelId1().equals(referenceBranchState.voltageLevelId2())) {
+            if (branchState.voltageLevelId2().equals(referenceBranchState.voltageLevelId1())) {
+                return getTerminalChanges(branchIndex, branchState.connected1(), referenceBranchState.connected2(), branchState.connected2(), referenceBranchState.connected1());
+            }
+            branchNotFoundLogger(branchState.voltageLevelId2(), branchState.id());
         } else {
-            branchNotFoundLogger(branchTerminal1, branch.getId());
+            branchNotFoundLogger(branchState.voltageLevelId1(), branchState.id());
         }
+        return List.of();
     }
 
-    private static void branchNotFoundLogger(Terminal terminal, String branch) {
-        LOGGER.debug("Terminal with voltageLevelId '{}' from branch with id '{}' not found.", terminal.getVoltageLevel().getId(), branch);
+    private static List<TerminalChange> getTerminalChanges(int branchIndex, boolean connected1, boolean referenceConnected1, boolean connected2, boolean referenceConnected2) {
+        if (connected1 == referenceConnected1 && connected2 == referenceConnected2) {
+            return List.of();
+        }
+        List<TerminalChange> terminalChanges = new ArrayList<>(2);
+        if (connected1 != referenceConnected1) {
+            terminalChanges.add(new TerminalChange(branchIndex, TwoSides.ONE, referenceConnected1));
+        }
+        if (connected2 != referenceConnected2) {
+            terminalChanges.add(new TerminalChange(branchIndex, TwoSides.TWO, referenceConnected2));
+        }
+        return terminalChanges;
     }
 
-    private static void alignTerminal(Terminal terminal, Terminal referenceTerminal) {
-        if (terminal.isConnected() != referenceTerminal.isConnected()) {
-            if (terminal.isConnected()) {
-                terminal.disconnect();
-            } else {
-                terminal.connect();
-            }
+    private static void branchNotFoundLogger(String voltageLevelId, String branch) {
+        LOGGER.debug("Terminal with voltageLevelId '{}' from branch with id '{}' not found.", voltageLevelId, branch);
+    }
+
+    /**
+     * Immutable copy of the connection state of a branch, read from the network before computing the diff.
+     */
+    private record BranchState(String id, String voltageLevelId1, String voltageLevelId2, boolean connected1, boolean connected2) {
+        private static BranchState of(Branch<?> branch) {
+            Terminal terminal1 = branch.getTerminal1();
+            Terminal terminal2 = branch.getTerminal2();
+            return new BranchState(branch.getId(), terminal1.getVoltageLevel().getId(), terminal2.getVoltageLevel().getId(),
+                terminal1.isConnected(), terminal2.isConnected());
         }
     }
+
+    private record TerminalChange(int branchIndex, TwoSides side, boolean connect) {
+    }
 }
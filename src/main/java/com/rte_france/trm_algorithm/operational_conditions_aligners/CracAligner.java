@@ -9,15 +9,15 @@ package com.rte_france.trm_algorithm.operational_conditions_aligners;
 
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.data.crac.api.Crac;
-import com.powsybl.openrao.data.crac.api.Identifiable;
 import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
@@ -25,12 +25,19 @@ import java.util.stream.Collectors;
  */
 public class CracAligner implements OperationalConditionAligner {
     private static final Logger LOGGER = LoggerFactory.getLogger(CracAligner.class);
-    private final Crac crac;
+    private final NetworkActionIndex networkActionIndex;
     private Map<String, Boolean> cracAlignementResult = new HashMap<>();
 
     public CracAligner(Crac crac) {
-        Objects.requireNonNull(crac);
-        this.crac = crac;
+        this(new NetworkActionIndex(crac));
+    }
+
+    /**
+     * Aligner sharing an already built network action index, so that timestamps using the same CRAC do not rebuild it.
+     */
+    public CracAligner(NetworkActionIndex networkActionIndex) {
+        Objects.requireNonNull(networkActionIndex);
+        this.networkActionIndex = networkActionIndex;
     }
 
     private static boolean applyNetworkActions(Network referenceNetwork, Network marketBasedNetwork, NetworkAction networkAction) {
@@ -50,14 +57,25 @@ public class CracAligner implements OperationalConditionAligner {
 
     @Override
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
-        if (crac.getNetworkActions().isEmpty()) {
+        if (networkActionIndex.getNetworkActions().isEmpty()) {
             LOGGER.error("Crac does not have any network actions");
         }
         LOGGER.info("Aligning CRAC network actions");
-        cracAlignementResult = crac.getNetworkActions().stream()
-            .collect(Collectors.toMap(
-                Identifiable::getId,
-                networkAction -> applyNetworkActions(referenceNetwork, marketBasedNetwork, networkAction)
-            ));
+        // Network actions only acting on elements with identical states in both networks can never be applied
+        Set<String> elementsWithDifferentState = networkActionIndex.findElementsWithDifferentState(referenceNetwork, marketBasedNetwork);
+        LOGGER.debug("{} network elements out of {} have different states in reference and market-based networks", elementsWithDifferentState.size(), networkActionIndex.getIndexedElementIds().size());
+        Set<NetworkAction> candidateNetworkActions = new HashSet<>();
+        elementsWithDifferentState.forEach(elementId -> candidateNetworkActions.addAll(networkActionIndex.getNetworkActions(elementId)));
+        Map<String, Boolean> result = new HashMap<>();
+        for (NetworkAction networkAction : networkActionIndex.getNetworkActions()) {
+            boolean isApplied = candidateNetworkActions.contains(networkAction) && applyNetworkActions(referenceNetwork, marketBasedNetwork, networkAction);
+            if (isApplied) {
+                // Elements modified by this action may now differ from the reference network
+                networkActionIndex.getNetworkElementIds(networkAction)
+                    .forEach(elementId -> candidateNetworkActions.addAll(networkActionIndex.getNetworkActions(elementId)));
+            }
+            result.put(networkAction.getId(), isApplied);
+        }
+        cracAlignementResult = result;
     }
 }
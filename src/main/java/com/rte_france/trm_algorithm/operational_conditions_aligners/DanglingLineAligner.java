@@ -12,6 +12,8 @@ import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TieLine;
 import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.NetworkElementMapping;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,9 +28,14 @@ public class DanglingLineAligner implements OperationalConditionAligner {
     private static final Logger LOGGER = LoggerFactory.getLogger(DanglingLineAligner.class);
     private Map<String, Status> result = new HashMap<>();
     private final Predicate<DanglingLine> danglingLineFilteringPredicate;
+    private final IdentifiableMapping identifiableMapping;
 
     public DanglingLineAligner() {
-        danglingLineFilteringPredicate = dl -> true;
+        this(IdentifiableMapping.empty());
+    }
+
+    public DanglingLineAligner(IdentifiableMapping identifiableMapping) {
+        this(dl -> true, identifiableMapping);
     }
 
     public DanglingLineAligner(String... manyDanglingLineIds) {
@@ -36,7 +43,19 @@ public class DanglingLineAligner implements OperationalConditionAligner {
     }
 
     public DanglingLineAligner(Set<String> danglingLineIds) {
-        danglingLineFilteringPredicate = dl -> danglingLineIds.contains(dl.getId());
+        this(danglingLineIds, IdentifiableMapping.empty());
+    }
+
+    /**
+     * @param danglingLineIds IDs of the reference dangling lines to align
+     */
+    public DanglingLineAligner(Set<String> danglingLineIds, IdentifiableMapping identifiableMapping) {
+        this(dl -> danglingLineIds.contains(dl.getId()), identifiableMapping);
+    }
+
+    private DanglingLineAligner(Predicate<DanglingLine> danglingLineFilteringPredicate, IdentifiableMapping identifiableMapping) {
+        this.danglingLineFilteringPredicate = danglingLineFilteringPredicate;
+        this.identifiableMapping = Objects.requireNonNull(identifiableMapping);
     }
 
     private static Status align(DanglingLine referenceDanglingLine, DanglingLine marketBasedDanglingLine) {
@@ -51,7 +70,7 @@ public class DanglingLineAligner implements OperationalConditionAligner {
                 LOGGER.info("Reference and market-based dangling lines \"{}\" (\"{}\") are already paired. Market-based dangling line will not be aligned", referenceDanglingLine.getId(), referenceDanglingLine.getNameOrId());
                 return Status.PAIRED_DANGLING_LINE_IN_BOTH_NETWORKS;
             } else {
-                return unpairTieLine(referenceDanglingLine, marketBasedTieLine);
+                return unpairTieLine(referenceDanglingLine, marketBasedDanglingLine, marketBasedTieLine);
             }
         } else {
             Optional<TieLine> optionalReferenceTieLine = referenceDanglingLine.getTieLine();
@@ -65,9 +84,9 @@ public class DanglingLineAligner implements OperationalConditionAligner {
         }
     }
 
-    private static Status unpairTieLine(DanglingLine referenceDanglingLine, TieLine marketBasedTieLine) {
+    private static Status unpairTieLine(DanglingLine referenceDanglingLine, DanglingLine marketBasedDanglingLine, TieLine marketBasedTieLine) {
         marketBasedTieLine.remove();
-        if (marketBasedTieLine.getDanglingLine1().getId().equals(referenceDanglingLine.getId())) {
+        if (marketBasedTieLine.getDanglingLine1().getId().equals(marketBasedDanglingLine.getId())) {
             alignP0AndQ0(referenceDanglingLine, marketBasedTieLine.getDanglingLine1());
             marketBasedTieLine.getDanglingLine2().remove();
         } else {
@@ -88,14 +107,25 @@ public class DanglingLineAligner implements OperationalConditionAligner {
         return result;
     }
 
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY, AlignedElementType.DANGLING_LINE);
+    }
+
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY, AlignedElementType.DANGLING_LINE);
+    }
+
     @Override
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
         LOGGER.info("Aligning dangling lines");
+        NetworkElementMapping elementMapping = NetworkElementMapping.of(referenceNetwork, marketBasedNetwork, identifiableMapping);
         result = referenceNetwork.getDanglingLineStream()
                 .filter(danglingLineFilteringPredicate)
                 .collect(Collectors.toMap(
                     Identifiable::getId,
-                    referenceDanglingLine -> align(referenceDanglingLine, marketBasedNetwork.getDanglingLine(referenceDanglingLine.getId()))
+                    referenceDanglingLine -> align(referenceDanglingLine, elementMapping.getMarketBasedElement(referenceDanglingLine.getId(), DanglingLine.class))
         ));
     }
 
@@ -18,6 +18,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.openrao.commons.EICode;
 import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.metrics.TrmEvents;
 import com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position.ExchangeAndNetPosition;
 import com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position.TargetNetPosition;
 import org.slf4j.Logger;
@@ -80,8 +81,8 @@ public class ExchangeAligner implements OperationalConditionAligner {
             throw new TrmException(String.format("Market based network contains countries %s. It does not contain all reference network countries %s", marketBasedNetwork.getCountries(), referenceNetwork.getCountries()));
         }
 
-        LoadFlow.run(referenceNetwork, balanceComputationParameters.getLoadFlowParameters());
-        LoadFlow.run(marketBasedNetwork, balanceComputationParameters.getLoadFlowParameters());
+        TrmEvents.runLoadFlow("ExchangeAligner", referenceNetwork, balanceComputationParameters.getLoadFlowParameters());
+        TrmEvents.runLoadFlow("ExchangeAligner", marketBasedNetwork, balanceComputationParameters.getLoadFlowParameters());
 
         ExchangeAndNetPosition referenceExchangeAndNetPosition = new ExchangeAndNetPosition(referenceNetwork);
         ExchangeAndNetPosition initialMarketBasedExchangeAndNetPosition = new ExchangeAndNetPosition(marketBasedNetwork);
@@ -8,12 +8,12 @@
 package com.rte_france.trm_algorithm.operational_conditions_aligners;
 
 import com.powsybl.iidm.network.*;
+import com.rte_france.trm_algorithm.NetworkCountries;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.NetworkElementMapping;
 
-import java.util.EnumMap;
-import java.util.Map;
-import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.function.BiPredicate;
 
 /**
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
@@ -21,10 +21,16 @@ import java.util.stream.Collectors;
  */
 public class GeneratorMapShapeAligner implements OperationalConditionAligner {
 
-    private final Predicate<Generator> generatorPredicate;
+    private final BiPredicate<NetworkCountries, Generator> generatorPredicate;
+    private final IdentifiableMapping identifiableMapping;
+    private Map<Country, Double> scalingFactorsByCountry = Map.of();
 
     public GeneratorMapShapeAligner() {
-        generatorPredicate = gen -> true;
+        this(IdentifiableMapping.empty());
+    }
+
+    public GeneratorMapShapeAligner(IdentifiableMapping identifiableMapping) {
+        this((networkCountries, gen) -> true, identifiableMapping);
     }
 
     public GeneratorMapShapeAligner(Country... countries) {
@@ -32,43 +38,56 @@ public class GeneratorMapShapeAligner implements OperationalConditionAligner {
     }
 
     public GeneratorMapShapeAligner(Set<Country> countries) {
-        generatorPredicate = gen -> countries.contains(getInjectionCountry(gen));
+        this(countries, IdentifiableMapping.empty());
     }
 
-    @Override
-    public void align(Network referenceNetwork, Network marketBasedNetwork) {
-        Set<String> gensIds = getAllGensInCommon(referenceNetwork, marketBasedNetwork);
-        Map<Country, Double> totalGenerationsReference = getTotalGenerationByCountry(gensIds, referenceNetwork);
-        Map<Country, Double> totalGenerationsMarketBased = getTotalGenerationByCountry(gensIds, marketBasedNetwork);
+    public GeneratorMapShapeAligner(Set<Country> countries, IdentifiableMapping identifiableMapping) {
+        this((networkCountries, gen) -> countries.contains(InjectionShapeScaling.getInjectionCountry(networkCountries, gen)), identifiableMapping);
+    }
+
+    private GeneratorMapShapeAligner(BiPredicate<NetworkCountries, Generator> generatorPredicate, IdentifiableMapping identifiableMapping) {
+        this.generatorPredicate = generatorPredicate;
+        this.identifiableMapping = Objects.requireNonNull(identifiableMapping);
+    }
 
-        gensIds.stream().map(marketBasedNetwork::getGenerator).forEach(
-                gen -> {
-                    Country genCountry = getInjectionCountry(gen);
-                    gen.setTargetP(referenceNetwork.getGenerator(gen.getId()).getTargetP() * totalGenerationsMarketBased.get(genCountry) / totalGenerationsReference.get(genCountry));
-                }
-        );
+    /**
+     * Scaling factor applied to the matched generators of each country during the last alignment.
+     */
+    public Map<Country, Double> getResult() {
+        return scalingFactorsByCountry;
     }
 
-    private Set<String> getAllGensInCommon(Network referenceNetwork, Network marketBasedNetwork) {
-        return referenceNetwork.getGeneratorStream()
-                .filter(generatorPredicate)
-                .map(Identifiable::getId)
-                .filter(id -> marketBasedNetwork.getGenerator(id) != null)
-                .collect(Collectors.toSet());
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY, AlignedElementType.GENERATOR);
     }
 
-    private static Country getInjectionCountry(Injection<?> injection) {
-        return injection.getTerminal().getVoltageLevel().getSubstation().flatMap(Substation::getCountry).orElse(null);
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        return EnumSet.of(AlignedElementType.GENERATOR);
     }
 
-    private static Map<Country, Double> getTotalGenerationByCountry(Set<String> generatorIds, Network network) {
-        Map<Country, Double> totalGeneration = new EnumMap<>(Country.class);
-        generatorIds.stream().map(network::getGenerator).forEach(
-                gen -> {
-                    Country genCountry = getInjectionCountry(gen);
-                    totalGeneration.put(genCountry, totalGeneration.getOrDefault(genCountry, 0.) + gen.getTargetP());
-                }
-        );
-        return totalGeneration;
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        align(referenceNetwork, marketBasedNetwork, NetworkCountries.of(referenceNetwork), NetworkCountries.of(marketBasedNetwork));
+    }
+
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        NetworkElementMapping elementMapping = NetworkElementMapping.of(referenceNetwork, marketBasedNetwork, identifiableMapping);
+        List<Generator> referenceGenerators = new ArrayList<>();
+        List<Generator> marketBasedGenerators = new ArrayList<>();
+        referenceNetwork.getGeneratorStream()
+                .filter(referenceGen -> generatorPredicate.test(referenceCountries, referenceGen))
+                .forEach(referenceGen -> {
+                    Generator gen = elementMapping.getMarketBasedElement(referenceGen.getId(), Generator.class);
+                    if (gen != null) {
+                        referenceGenerators.add(referenceGen);
+                        marketBasedGenerators.add(gen);
+                    }
+                });
+        scalingFactorsByCountry = InjectionShapeScaling.scale(referenceGenerators, marketBasedGenerators,
+                referenceCountries, marketBasedCountries,
+                Generator::getTargetP, Generator::setTargetP);
     }
 }
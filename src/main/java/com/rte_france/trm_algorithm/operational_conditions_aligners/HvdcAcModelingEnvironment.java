@@ -11,6 +11,7 @@ import com.farao_community.farao.gridcapa_swe_commons.hvdc.HvdcInformation;
 import com.farao_community.farao.gridcapa_swe_commons.hvdc.HvdcLinkProcessor;
 import com.farao_community.farao.gridcapa_swe_commons.hvdc.parameters.HvdcCreationParameters;
 import com.powsybl.iidm.network.*;
+import com.rte_france.trm_algorithm.NetworkCountries;
 import com.rte_france.trm_algorithm.TrmException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,8 +57,13 @@ public class HvdcAcModelingEnvironment implements OperationalConditionAligner {
 
     @Override
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        align(referenceNetwork, marketBasedNetwork, NetworkCountries.of(referenceNetwork), NetworkCountries.of(marketBasedNetwork));
+    }
+
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
         replaceEquivalentModelByHvdc(referenceNetwork, marketBasedNetwork);
-        operationalConditionAligner.align(referenceNetwork, marketBasedNetwork);
+        operationalConditionAligner.align(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries);
         replaceHvdcByEquivalentModel(referenceNetwork, marketBasedNetwork);
     }
 
@@ -11,11 +11,18 @@ import com.powsybl.iidm.network.HvdcLine;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControl;
 import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControlAdder;
+import com.rte_france.trm_algorithm.NetworkCountries;
 import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.NetworkElementMapping;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
@@ -23,6 +30,15 @@ import java.util.Objects;
  */
 public class HvdcAligner implements OperationalConditionAligner {
     private static final Logger LOGGER = LoggerFactory.getLogger(HvdcAligner.class);
+    private final IdentifiableMapping identifiableMapping;
+
+    public HvdcAligner() {
+        this(IdentifiableMapping.empty());
+    }
+
+    public HvdcAligner(IdentifiableMapping identifiableMapping) {
+        this.identifiableMapping = Objects.requireNonNull(identifiableMapping);
+    }
 
     private static void alignAngleDroopActivePowerExtension(HvdcLine referenceHvdcLine, HvdcLine marketBasedHvdcLine) {
         HvdcAngleDroopActivePowerControl referenceExtension = referenceHvdcLine.getExtension(HvdcAngleDroopActivePowerControl.class);
@@ -45,17 +61,41 @@ public class HvdcAligner implements OperationalConditionAligner {
         LOGGER.debug("Aligned market-based HVDC \"{}\" power set point at {} MW", marketBasedHvdcLine.getId(), marketBasedHvdcLine.getActivePowerSetpoint());
     }
 
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY, AlignedElementType.HVDC_LINE);
+    }
+
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        return EnumSet.of(AlignedElementType.HVDC_LINE);
+    }
+
     @Override
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        prepareAlignment(referenceNetwork, marketBasedNetwork).run();
+    }
+
+    @Override
+    public Runnable prepareAlignment(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        return prepareAlignment(referenceNetwork, marketBasedNetwork);
+    }
+
+    private Runnable prepareAlignment(Network referenceNetwork, Network marketBasedNetwork) {
         LOGGER.info("Aligning HVDC power set points and angle droop active power mode");
+        NetworkElementMapping elementMapping = NetworkElementMapping.of(referenceNetwork, marketBasedNetwork, identifiableMapping);
+        List<Runnable> hvdcLineWrites = new ArrayList<>();
         referenceNetwork.getHvdcLineStream().forEach(referenceHvdcLine -> {
             String id = referenceHvdcLine.getId();
-            HvdcLine marketBasedHvdcLine = marketBasedNetwork.getHvdcLine(id);
+            HvdcLine marketBasedHvdcLine = elementMapping.getMarketBasedElement(id, HvdcLine.class);
             if (Objects.isNull(marketBasedHvdcLine)) {
                 throw new TrmException("HvdcLine with id " + id + " not found");
             }
-            alignActivePowerSetpoints(referenceHvdcLine, marketBasedHvdcLine);
-            alignAngleDroopActivePowerExtension(referenceHvdcLine, marketBasedHvdcLine);
+            hvdcLineWrites.add(() -> {
+                alignActivePowerSetpoints(referenceHvdcLine, marketBasedHvdcLine);
+                alignAngleDroopActivePowerExtension(referenceHvdcLine, marketBasedHvdcLine);
+            });
         });
+        return () -> hvdcLineWrites.forEach(Runnable::run);
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Injection;
+import com.rte_france.trm_algorithm.NetworkCountries;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Map shape scaling of matched injections, shared by {@link GeneratorMapShapeAligner} and {@link LoadMapShapeAligner}.
+ * <p>
+ * Setpoints and countries of the matched pairs are read once into parallel arrays, country totals are accumulated
+ * from these arrays, and the scaled setpoints are then written back in a single loop. Each market-based injection
+ * receives the reference setpoint multiplied by the ratio between the market-based and the reference totals of its
+ * country. Injections without country are scaled together.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+final class InjectionShapeScaling {
+    private static final Country[] COUNTRIES = Country.values();
+    private static final int NO_COUNTRY_INDEX = COUNTRIES.length;
+
+    private InjectionShapeScaling() {
+        // Utility class
+    }
+
+    /**
+     * Scales the market-based injections and returns the scaling factor applied in each country.
+     *
+     * @param referenceInjections reference injections, at the same positions as their market-based counterparts
+     * @param marketBasedInjections market-based injections to be scaled
+     */
+    static <T extends Injection<T>> Map<Country, Double> scale(List<T> referenceInjections, List<T> marketBasedInjections,
+                                                               NetworkCountries referenceCountries, NetworkCountries marketBasedCountries,
+                                                               ToDoubleFunction<T> setpointGetter, ObjDoubleConsumer<T> setpointSetter) {
+        int size = marketBasedInjections.size();
+        double[] referenceSetpoints = new double[size];
+        int[] countryIndexes = new int[size];
+        double[] referenceTotals = new double[NO_COUNTRY_INDEX + 1];
+        double[] marketBasedTotals = new double[NO_COUNTRY_INDEX + 1];
+        boolean[] scaledCountries = new boolean[NO_COUNTRY_INDEX + 1];
+
+        for (int i = 0; i < size; i++) {
+            T referenceInjection = referenceInjections.get(i);
+            T marketBasedInjection = marketBasedInjections.get(i);
+            referenceSetpoints[i] = setpointGetter.applyAsDouble(referenceInjection);
+            referenceTotals[getCountryIndex(referenceCountries, referenceInjection)] += referenceSetpoints[i];
+            countryIndexes[i] = getCountryIndex(marketBasedCountries, marketBasedInjection);
+            marketBasedTotals[countryIndexes[i]] += setpointGetter.applyAsDouble(marketBasedInjection);
+            scaledCountries[countryIndexes[i]] = true;
+        }
+
+        double[] scalingFactors = new double[NO_COUNTRY_INDEX + 1];
+        Map<Country, Double> scalingFactorsByCountry = new EnumMap<>(Country.class);
+        for (int countryIndex = 0; countryIndex <= NO_COUNTRY_INDEX; countryIndex++) {
+            scalingFactors[countryIndex] = marketBasedTotals[countryIndex] / referenceTotals[countryIndex];
+            if (scaledCountries[countryIndex] && countryIndex != NO_COUNTRY_INDEX) {
+                scalingFactorsByCountry.put(COUNTRIES[countryIndex], scalingFactors[countryIndex]);
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            setpointSetter.accept(marketBasedInjections.get(i), referenceSetpoints[i] * scalingFactors[countryIndexes[i]]);
+        }
+        return Collections.unmodifiableMap(scalingFactorsByCountry);
+    }
+
+    static Country getInjectionCountry(NetworkCountries networkCountries, Injection<?> injection) {
+        return networkCountries.findCountry(injection.getTerminal()).orElse(null);
+    }
+
+    private static int getCountryIndex(NetworkCountries networkCountries, Injection<?> injection) {
+        Country country = getInjectionCountry(networkCountries, injection);
+        return country == null ? NO_COUNTRY_INDEX : country.ordinal();
+    }
+}
@@ -16,15 +16,18 @@ import com.powsybl.glsk.commons.CountryEICode;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.rte_france.trm_algorithm.CountryGeneratorIndex;
+import com.rte_france.trm_algorithm.NetworkCountries;
 import com.rte_france.trm_algorithm.TrmException;
-import com.rte_france.trm_algorithm.TrmUtils;
+import com.rte_france.trm_algorithm.metrics.TrmEvents;
 import com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position.ExchangeAndNetPosition;
 import com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position.ExchangeAndNetPositionInterface;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position.SplittingFactorsTimeSeries;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.OffsetDateTime;
 import java.util.Map;
 
 import static com.powsybl.iidm.network.Country.*;
@@ -46,18 +49,27 @@ public class ItalyNorthExchangeAligner implements OperationalConditionAligner {
         this.reducedSplittingFactors = reducedSplittingFactors;
     }
 
+    public ItalyNorthExchangeAligner(LoadFlowParameters loadFlowParameters, SplittingFactorsTimeSeries splittingFactorsTimeSeries, OffsetDateTime targetDateTime) {
+        this(loadFlowParameters, splittingFactorsTimeSeries.getReducedSplittingFactors(targetDateTime));
+    }
+
     public ItalyNorthExchangeAlignerResult getResult() {
         return result;
     }
 
     @Override
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        align(referenceNetwork, marketBasedNetwork, NetworkCountries.of(referenceNetwork), NetworkCountries.of(marketBasedNetwork));
+    }
+
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
         LOGGER.info("Aligning North Italian exchanges");
 
         ExchangeAndNetPosition referenceExchangeAndNetPosition = computeExchangeAndNetPosition(referenceNetwork);
         ExchangeAndNetPosition initialMarketBasedExchangeAndNetPosition = computeExchangeAndNetPosition(marketBasedNetwork);
 
-        ZonalData<Scalable> zonalScalable = TrmUtils.getAutoScalable(marketBasedNetwork);
+        ZonalData<Scalable> zonalScalable = CountryGeneratorIndex.of(marketBasedNetwork, marketBasedCountries).getAutoScalable();
 
         ItalyNorthExchangeAlignerResult.Builder builder = ItalyNorthExchangeAlignerResult.builder()
                 .addReferenceExchangeAndNetPosition(referenceExchangeAndNetPosition)
@@ -118,7 +130,7 @@ public class ItalyNorthExchangeAligner implements OperationalConditionAligner {
     }
 
     ExchangeAndNetPosition computeExchangeAndNetPosition(Network network) {
-        LoadFlow.run(network, loadFlowParameters);
+        TrmEvents.runLoadFlow("ItalyNorthExchangeAligner", network, loadFlowParameters);
         return new ExchangeAndNetPosition(network);
     }
 
@@ -8,12 +8,14 @@
 package com.rte_france.trm_algorithm.operational_conditions_aligners;
 
 import com.powsybl.iidm.network.*;
+import com.rte_france.trm_algorithm.NetworkCountries;
 
-import java.util.EnumMap;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.BiPredicate;
 
 /**
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
@@ -21,10 +23,11 @@ import java.util.stream.Collectors;
  */
 public class LoadMapShapeAligner implements OperationalConditionAligner {
 
-    private final Predicate<Load> loadPredicate;
+    private final BiPredicate<NetworkCountries, Load> loadPredicate;
+    private Map<Country, Double> scalingFactorsByCountry = Map.of();
 
     public LoadMapShapeAligner() {
-        loadPredicate = load -> true;
+        loadPredicate = (networkCountries, load) -> true;
     }
 
     public LoadMapShapeAligner(Country... countries) {
@@ -32,43 +35,46 @@ public class LoadMapShapeAligner implements OperationalConditionAligner {
     }
 
     public LoadMapShapeAligner(Set<Country> countries) {
-        loadPredicate = load -> countries.contains(getInjectionCountry(load));
+        loadPredicate = (networkCountries, load) -> countries.contains(InjectionShapeScaling.getInjectionCountry(networkCountries, load));
     }
 
-    @Override
-    public void align(Network referenceNetwork, Network marketBasedNetwork) {
-        Set<String> loadsIds = getAllLoadsInCommon(referenceNetwork, marketBasedNetwork);
-        Map<Country, Double> totalLoadsReference = getTotalLoadByCountry(loadsIds, referenceNetwork);
-        Map<Country, Double> totalLoadsMarketBased = getTotalLoadByCountry(loadsIds, marketBasedNetwork);
+    /**
+     * Scaling factor applied to the common loads of each country during the last alignment.
+     */
+    public Map<Country, Double> getResult() {
+        return scalingFactorsByCountry;
+    }
 
-        loadsIds.stream().map(marketBasedNetwork::getLoad).forEach(
-                load -> {
-                    Country loadCountry = getInjectionCountry(load);
-                    load.setP0(referenceNetwork.getLoad(load.getId()).getP0() * totalLoadsMarketBased.get(loadCountry) / totalLoadsReference.get(loadCountry));
-                }
-        );
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY, AlignedElementType.LOAD);
     }
 
-    private Set<String> getAllLoadsInCommon(Network referenceNetwork, Network marketBasedNetwork) {
-        return referenceNetwork.getLoadStream()
-                .filter(loadPredicate)
-                .map(Identifiable::getId)
-                .filter(id -> marketBasedNetwork.getLoad(id) != null)
-                .collect(Collectors.toSet());
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        return EnumSet.of(AlignedElementType.LOAD);
     }
 
-    private static Country getInjectionCountry(Injection<?> injection) {
-        return injection.getTerminal().getVoltageLevel().getSubstation().flatMap(Substation::getCountry).orElse(null);
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        align(referenceNetwork, marketBasedNetwork, NetworkCountries.of(referenceNetwork), NetworkCountries.of(marketBasedNetwork));
     }
 
-    private static Map<Country, Double> getTotalLoadByCountry(Set<String> loadsIds, Network network) {
-        Map<Country, Double> totalLoad = new EnumMap<>(Country.class);
-        loadsIds.stream().map(network::getLoad).forEach(
-                load -> {
-                    Country loadCountry = getInjectionCountry(load);
-                    totalLoad.put(loadCountry, totalLoad.getOrDefault(loadCountry, 0.) + load.getP0());
-                }
-        );
-        return totalLoad;
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        List<Load> referenceLoads = new ArrayList<>();
+        List<Load> marketBasedLoads = new ArrayList<>();
+        referenceNetwork.getLoadStream()
+                .filter(referenceLoad -> loadPredicate.test(referenceCountries, referenceLoad))
+                .forEach(referenceLoad -> {
+                    Load load = marketBasedNetwork.getLoad(referenceLoad.getId());
+                    if (load != null) {
+                        referenceLoads.add(referenceLoad);
+                        marketBasedLoads.add(load);
+                    }
+                });
+        scalingFactorsByCountry = InjectionShapeScaling.scale(referenceLoads, marketBasedLoads,
+                referenceCountries, marketBasedCountries,
+                Load::getP0, Load::setP0);
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.NetworkElement;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Inverted index from network element IDs to the CRAC network actions acting on them.
+ * It is built once per CRAC and can be shared by all the timestamps using this CRAC.
+ *
+ * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class NetworkActionIndex {
+    private final List<NetworkAction> networkActions;
+    private final Map<String, Set<String>> elementIdsByNetworkActionId;
+    private final Map<String, List<NetworkAction>> networkActionsByElementId;
+
+    public NetworkActionIndex(Crac crac) {
+        Objects.requireNonNull(crac);
+        this.networkActions = List.copyOf(crac.getNetworkActions());
+        this.elementIdsByNetworkActionId = new HashMap<>();
+        this.networkActionsByElementId = new HashMap<>();
+        networkActions.forEach(networkAction -> {
+            Set<String> elementIds = networkAction.getNetworkElements().stream().map(NetworkElement::getId).collect(Collectors.toUnmodifiableSet());
+            elementIdsByNetworkActionId.put(networkAction.getId(), elementIds);
+            elementIds.forEach(elementId -> networkActionsByElementId.computeIfAbsent(elementId, id -> new ArrayList<>()).add(networkAction));
+        });
+    }
+
+    public List<NetworkAction> getNetworkActions() {
+        return networkActions;
+    }
+
+    public Set<String> getNetworkElementIds(NetworkAction networkAction) {
+        return elementIdsByNetworkActionId.getOrDefault(networkAction.getId(), Collections.emptySet());
+    }
+
+    public Set<String> getIndexedElementIds() {
+        return Collections.unmodifiableSet(networkActionsByElementId.keySet());
+    }
+
+    public List<NetworkAction> getNetworkActions(String elementId) {
+        return networkActionsByElementId.getOrDefault(elementId, Collections.emptyList());
+    }
+
+    /**
+     * Indexed network elements whose switch, connection, tap or set point state differs between both networks.
+     * Elements missing from one of the networks are considered as different.
+     */
+    public Set<String> findElementsWithDifferentState(Network referenceNetwork, Network marketBasedNetwork) {
+        return networkActionsByElementId.keySet().stream()
+            .filter(elementId -> !haveSameState(referenceNetwork.getIdentifiable(elementId), marketBasedNetwork.getIdentifiable(elementId)))
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    static boolean haveSameState(Identifiable<?> referenceElement, Identifiable<?> marketBasedElement) {
+        if (Objects.isNull(referenceElement) || Objects.isNull(marketBasedElement) || referenceElement.getType() != marketBasedElement.getType()) {
+            return false;
+        }
+        return switch (referenceElement) {
+            case Switch referenceSwitch -> referenceSwitch.isOpen() == ((Switch) marketBasedElement).isOpen();
+            case TwoWindingsTransformer referenceTransformer -> haveSameTerminalsState(referenceTransformer.getTerminals(), ((TwoWindingsTransformer) marketBasedElement).getTerminals())
+                && haveSameTapPositions(referenceTransformer, (TwoWindingsTransformer) marketBasedElement);
+            case ThreeWindingsTransformer referenceTransformer -> haveSameTerminalsState(referenceTransformer.getTerminals(), ((ThreeWindingsTransformer) marketBasedElement).getTerminals())
+                && haveSameTapPositions(referenceTransformer, (ThreeWindingsTransformer) marketBasedElement);
+            case TieLine referenceTieLine -> haveSameTerminalsState(List.of(referenceTieLine.getTerminal1(), referenceTieLine.getTerminal2()),
+                List.of(((TieLine) marketBasedElement).getTerminal1(), ((TieLine) marketBasedElement).getTerminal2()));
+            case Generator referenceGenerator -> haveSameTerminalsState(referenceGenerator.getTerminals(), ((Generator) marketBasedElement).getTerminals())
+                && haveSameSetPoints(referenceGenerator, (Generator) marketBasedElement);
+            case Load referenceLoad -> haveSameTerminalsState(referenceLoad.getTerminals(), ((Load) marketBasedElement).getTerminals())
+                && referenceLoad.getP0() == ((Load) marketBasedElement).getP0()
+                && referenceLoad.getQ0() == ((Load) marketBasedElement).getQ0();
+            case DanglingLine referenceDanglingLine -> haveSameTerminalsState(referenceDanglingLine.getTerminals(), ((DanglingLine) marketBasedElement).getTerminals())
+                && referenceDanglingLine.getP0() == ((DanglingLine) marketBasedElement).getP0()
+                && referenceDanglingLine.getQ0() == ((DanglingLine) marketBasedElement).getQ0();
+            case ShuntCompensator referenceShunt -> haveSameTerminalsState(referenceShunt.getTerminals(), ((ShuntCompensator) marketBasedElement).getTerminals())
+                && referenceShunt.getSectionCount() == ((ShuntCompensator) marketBasedElement).getSectionCount();
+            case HvdcLine referenceHvdcLine -> referenceHvdcLine.getActivePowerSetpoint() == ((HvdcLine) marketBasedElement).getActivePowerSetpoint()
+                && referenceHvdcLine.getConvertersMode() == ((HvdcLine) marketBasedElement).getConvertersMode();
+            case Connectable<?> referenceConnectable -> haveSameTerminalsState(referenceConnectable.getTerminals(), ((Connectable<?>) marketBasedElement).getTerminals());
+            default -> false;
+        };
+    }
+
+    private static boolean haveSameTerminalsState(List<? extends Terminal> referenceTerminals, List<? extends Terminal> marketBasedTerminals) {
+        if (referenceTerminals.size() != marketBasedTerminals.size()) {
+            return false;
+        }
+        for (int i = 0; i < referenceTerminals.size(); i++) {
+            if (referenceTerminals.get(i).isConnected() != marketBasedTerminals.get(i).isConnected()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean haveSameTapPositions(TwoWindingsTransformer referenceTransformer, TwoWindingsTransformer marketBasedTransformer) {
+        return haveSameTapPositions(referenceTransformer.getRatioTapChanger(), marketBasedTransformer.getRatioTapChanger())
+            && haveSameTapPositions(referenceTransformer.getPhaseTapChanger(), marketBasedTransformer.getPhaseTapChanger());
+    }
+
+    private static boolean haveSameTapPositions(ThreeWindingsTransformer referenceTransformer, ThreeWindingsTransformer marketBasedTransformer) {
+        for (ThreeSides side : ThreeSides.values()) {
+            ThreeWindingsTransformer.Leg referenceLeg = referenceTransformer.getLeg(side);
+            ThreeWindingsTransformer.Leg marketBasedLeg = marketBasedTransformer.getLeg(side);
+            if (!haveSameTapPositions(referenceLeg.getRatioTapChanger(), marketBasedLeg.getRatioTapChanger())
+                || !haveSameTapPositions(referenceLeg.getPhaseTapChanger(), marketBasedLeg.getPhaseTapChanger())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean haveSameTapPositions(TapChanger<?, ?, ?, ?> referenceTapChanger, TapChanger<?, ?, ?, ?> marketBasedTapChanger) {
+        if (Objects.isNull(referenceTapChanger) || Objects.isNull(marketBasedTapChanger)) {
+            return Objects.isNull(referenceTapChanger) && Objects.isNull(marketBasedTapChanger);
+        }
+        return referenceTapChanger.getTapPosition() == marketBasedTapChanger.getTapPosition();
+    }
+
+    private static boolean haveSameSetPoints(Generator referenceGenerator, Generator marketBasedGenerator) {
+        return referenceGenerator.getTargetP() == marketBasedGenerator.getTargetP()
+            && referenceGenerator.isVoltageRegulatorOn() == marketBasedGenerator.isVoltageRegulatorOn()
+            && Double.compare(referenceGenerator.getTargetV(), marketBasedGenerator.getTargetV()) == 0;
+    }
+}
@@ -8,10 +8,60 @@
 package com.rte_france.trm_algorithm.operational_conditions_aligners;
 
 import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.NetworkCountries;
+
+import java.util.Set;
 
 /**
  * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
  */
 public interface OperationalConditionAligner {
     void align(Network referenceNetwork, Network marketBasedNetwork);
+
+    /**
+     * Aligns with the country caches of both networks, shared with the other components of the computation. Aligners
+     * resolving countries override it, the others ignore the caches.
+     */
+    default void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        align(referenceNetwork, marketBasedNetwork);
+    }
+
+    /**
+     * Reads both networks and returns the writes of the alignment, to be run right after. This lets a
+     * {@link ParallelOperationalConditionAlignerPipeline} read concurrently while running the writes one at a time.
+     * Aligners not overriding it defer their whole alignment to the returned writes.
+     */
+    default Runnable prepareAlignment(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        return () -> align(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries);
+    }
+
+    /**
+     * Name of the aligner in metrics and logs.
+     */
+    default String getName() {
+        String simpleName = getClass().getSimpleName();
+        return simpleName.isEmpty() ? getClass().getName() : simpleName;
+    }
+
+    /**
+     * Stable description of the aligner and of the aligners it runs, e.g. to fingerprint the inputs of a computation.
+     * Parameters of the aligner, e.g. its CRAC, are not part of it unless the aligner overrides it.
+     */
+    default String getConfiguration() {
+        return getName();
+    }
+
+    /**
+     * Data of both networks read by the alignment. Aligners not overriding it are considered to read everything.
+     */
+    default Set<AlignedElementType> getReadElementTypes() {
+        return AlignedElementType.all();
+    }
+
+    /**
+     * Data of both networks written by the alignment. Aligners not overriding it are considered to write everything.
+     */
+    default Set<AlignedElementType> getWrittenElementTypes() {
+        return AlignedElementType.all();
+    }
 }
@@ -8,6 +8,14 @@
 package com.rte_france.trm_algorithm.operational_conditions_aligners;
 
 import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.NetworkCountries;
+import com.rte_france.trm_algorithm.metrics.TrmEvents;
+import com.rte_france.trm_algorithm.metrics.TrmMetrics;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
@@ -21,8 +29,63 @@ public class OperationalConditionAlignerPipeline implements OperationalCondition
 
     @Override
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        align(referenceNetwork, marketBasedNetwork, NetworkCountries.of(referenceNetwork), NetworkCountries.of(marketBasedNetwork));
+    }
+
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        for (OperationalConditionAligner operationalConditionAligner : operationalConditionAlignerList) {
+            alignMonitored(operationalConditionAligner, referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries);
+        }
+    }
+
+    /**
+     * Aligns within a nested metrics stage and a JFR alignment event, both named after the aligner.
+     */
+    static void alignMonitored(OperationalConditionAligner operationalConditionAligner, Network referenceNetwork, Network marketBasedNetwork,
+                               NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        runMonitored(operationalConditionAligner, referenceNetwork, marketBasedNetwork,
+            () -> operationalConditionAligner.align(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries));
+    }
+
+    /**
+     * Runs the given alignment of an aligner within a nested metrics stage and a JFR alignment event, both named after
+     * the aligner.
+     */
+    static void runMonitored(OperationalConditionAligner operationalConditionAligner, Network referenceNetwork, Network marketBasedNetwork, Runnable alignment) {
+        String alignerName = operationalConditionAligner.getName();
+        TrmMetrics.measureNested(alignerName, () -> TrmEvents.align(alignerName, referenceNetwork, marketBasedNetwork, alignment));
+    }
+
+    @Override
+    public String getConfiguration() {
+        return getConfiguration(getName(), operationalConditionAlignerList);
+    }
+
+    /**
+     * Configuration of a pipeline: its name followed by the configurations of its aligners, in order.
+     */
+    static String getConfiguration(String pipelineName, OperationalConditionAligner[] operationalConditionAlignerList) {
+        return Arrays.stream(operationalConditionAlignerList)
+            .map(OperationalConditionAligner::getConfiguration)
+            .collect(Collectors.joining(",", pipelineName + "(", ")"));
+    }
+
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        Set<AlignedElementType> readElementTypes = EnumSet.noneOf(AlignedElementType.class);
+        for (OperationalConditionAligner operationalConditionAligner : operationalConditionAlignerList) {
+            readElementTypes.addAll(operationalConditionAligner.getReadElementTypes());
+        }
+        return readElementTypes;
+    }
+
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        Set<AlignedElementType> writtenElementTypes = EnumSet.noneOf(AlignedElementType.class);
         for (OperationalConditionAligner operationalConditionAligner : operationalConditionAlignerList) {
-            operationalConditionAligner.align(referenceNetwork, marketBasedNetwork);
+            writtenElementTypes.addAll(operationalConditionAligner.getWrittenElementTypes());
         }
+        return writtenElementTypes;
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners;
+
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.NetworkCountries;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.metrics.TrmMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pipeline running aligners concurrently when they do not access the same network data.
+ * <p>
+ * Each aligner waits for all the previous aligners of the list it conflicts with, i.e. which write data it reads or
+ * writes, or which read data it writes. Conflicting aligners are therefore run in the list order, and aligners
+ * running concurrently only modify disjoint data, so that the networks end up in the same state as with the
+ * sequential {@link OperationalConditionAlignerPipeline}. Aligners not declaring their element types conflict with
+ * all the others.
+ * </p>
+ * <p>
+ * Only reads are concurrent. An IIDM network is not thread-safe, and its network-level state is shared by all its
+ * elements, e.g. its validation level and its listeners. The writes of each aligner, returned by
+ * {@link OperationalConditionAligner#prepareAlignment}, therefore run one at a time under a single lock per alignment.
+ * Aligners not overriding it, e.g. the {@link GeneratorMapShapeAligner}, run entirely under this lock. The
+ * {@link PstAligner} and {@link HvdcAligner} read without holding it.
+ * </p>
+ * <p>
+ * Reads may overlap with writes of other element types, as writing attributes leaves the elements of the network
+ * unchanged. Topology writes are the exception, since they invalidate the buses read through the terminals. The
+ * {@link DanglingLineAligner} declares a {@link AlignedElementType#TOPOLOGY} write, and the {@link PstAligner} and
+ * {@link HvdcAligner} read the topology, so it never overlaps with them.
+ * </p>
+ * <p>
+ * If an aligner fails, the aligners depending on it are not run, and the exception of the first failing aligner of
+ * the list is thrown once all the running aligners have completed. Unlike with the sequential pipeline, independent
+ * aligners placed after the failing one may have been run.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public class ParallelOperationalConditionAlignerPipeline implements OperationalConditionAligner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelOperationalConditionAlignerPipeline.class);
+    private final Executor executor;
+    private final OperationalConditionAligner[] operationalConditionAlignerList;
+
+    public ParallelOperationalConditionAlignerPipeline(OperationalConditionAligner... operationalConditionAlignerList) {
+        this(ForkJoinPool.commonPool(), operationalConditionAlignerList);
+    }
+
+    public ParallelOperationalConditionAlignerPipeline(Executor executor, OperationalConditionAligner... operationalConditionAlignerList) {
+        this.executor = Objects.requireNonNull(executor);
+        this.operationalConditionAlignerList = operationalConditionAlignerList;
+    }
+
+    static boolean areConflicting(OperationalConditionAligner aligner, OperationalConditionAligner otherAligner) {
+        return intersects(aligner.getWrittenElementTypes(), otherAligner.getReadElementTypes())
+            || intersects(aligner.getWrittenElementTypes(), otherAligner.getWrittenElementTypes())
+            || intersects(aligner.getReadElementTypes(), otherAligner.getWrittenElementTypes());
+    }
+
+    private static boolean intersects(Set<AlignedElementType> elementTypes, Set<AlignedElementType> otherElementTypes) {
+        return !Collections.disjoint(elementTypes, otherElementTypes);
+    }
+
+    /**
+     * Indexes of the previous aligners each aligner has to wait for.
+     */
+    List<List<Integer>> getDependencies() {
+        List<List<Integer>> dependencies = new ArrayList<>(operationalConditionAlignerList.length);
+        for (int i = 0; i < operationalConditionAlignerList.length; i++) {
+            List<Integer> alignerDependencies = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                if (areConflicting(operationalConditionAlignerList[j], operationalConditionAlignerList[i])) {
+                    alignerDependencies.add(j);
+                }
+            }
+            dependencies.add(alignerDependencies);
+        }
+        return dependencies;
+    }
+
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        align(referenceNetwork, marketBasedNetwork, NetworkCountries.of(referenceNetwork), NetworkCountries.of(marketBasedNetwork));
+    }
+
+    @Override
+    public void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        List<List<Integer>> dependencies = getDependencies();
+        Object writeLock = new Object();
+        List<CompletableFuture<Void>> alignments = new ArrayList<>(operationalConditionAlignerList.length);
+        for (int i = 0; i < operationalConditionAlignerList.length; i++) {
+            OperationalConditionAligner operationalConditionAligner = operationalConditionAlignerList[i];
+            CompletableFuture<?>[] previousAlignments = dependencies.get(i).stream().map(alignments::get).toArray(CompletableFuture[]::new);
+            LOGGER.debug("Aligner {} ({}) waits for aligners {}", i, operationalConditionAligner.getName(), dependencies.get(i));
+            Runnable alignment = TrmMetrics.inCurrentStage(() -> OperationalConditionAlignerPipeline.runMonitored(operationalConditionAligner, referenceNetwork, marketBasedNetwork, () -> {
+                Runnable writes = operationalConditionAligner.prepareAlignment(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries);
+                synchronized (writeLock) {
+                    writes.run();
+                }
+            }));
+            alignments.add(CompletableFuture.allOf(previousAlignments).thenRunAsync(alignment, executor));
+        }
+        waitForCompletion(alignments);
+    }
+
+    private static void waitForCompletion(List<CompletableFuture<Void>> alignments) {
+        try {
+            CompletableFuture.allOf(alignments.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            // Dependent aligners fail with the same exception: the first failing aligner of the list is the actual cause
+            Throwable failure = alignments.stream()
+                .filter(CompletableFuture::isCompletedExceptionally)
+                .findFirst()
+                .map(CompletableFuture::exceptionNow)
+                .orElse(e.getCause());
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            throw new TrmException((Exception) failure);
+        }
+    }
+
+    @Override
+    public String getConfiguration() {
+        return OperationalConditionAlignerPipeline.getConfiguration(getName(), operationalConditionAlignerList);
+    }
+
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        return new OperationalConditionAlignerPipeline(operationalConditionAlignerList).getReadElementTypes();
+    }
+
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        return new OperationalConditionAlignerPipeline(operationalConditionAlignerList).getWrittenElementTypes();
+    }
+}
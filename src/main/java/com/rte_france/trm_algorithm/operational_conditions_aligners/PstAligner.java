@@ -8,12 +8,21 @@
 package com.rte_france.trm_algorithm.operational_conditions_aligners;
 
 import com.powsybl.iidm.network.*;
+import com.rte_france.trm_algorithm.NetworkCountries;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.NetworkElementMapping;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
@@ -21,78 +30,135 @@ import java.util.stream.Collectors;
  */
 public class PstAligner implements OperationalConditionAligner {
     private static final Logger LOGGER = LoggerFactory.getLogger(PstAligner.class);
+    private final IdentifiableMapping identifiableMapping;
     private Result result = null;
 
-    private static Map<String, Boolean> alignRatioTapChanger(Network referenceNetwork, Network marketBasedNetwork) {
-        return referenceNetwork.getTwoWindingsTransformerStream()
-            .filter(RatioTapChangerHolder::hasRatioTapChanger)
-            .collect(Collectors.toMap(
-                Identifiable::getId,
-                referenceTwoWindingsTransformer -> alignRatio(marketBasedNetwork, referenceTwoWindingsTransformer)
-            ));
+    public PstAligner() {
+        this(IdentifiableMapping.empty());
     }
 
-    private static boolean alignRatio(Network marketBasedNetwork, TwoWindingsTransformer referenceTwoWindingsTransformer) {
-        int referenceTapPosition = referenceTwoWindingsTransformer.getRatioTapChanger().getTapPosition();
-        String id = referenceTwoWindingsTransformer.getId();
-        TwoWindingsTransformer twoWindingsTransformer = marketBasedNetwork.getTwoWindingsTransformer(id);
-        if (Objects.isNull(twoWindingsTransformer)) {
-            LOGGER.error("Reference two windings transformer '{}' not found in market based network", id);
-            return false;
-        }
-        if (!twoWindingsTransformer.hasRatioTapChanger()) {
-            LOGGER.error("Reference two windings transformer '{}' does not have a ratio tap changer in the market-based network", id);
-            return false;
-        }
-        twoWindingsTransformer.getRatioTapChanger().setTapPosition(referenceTapPosition);
-        return true;
+    public PstAligner(IdentifiableMapping identifiableMapping) {
+        this.identifiableMapping = Objects.requireNonNull(identifiableMapping);
+    }
+
+    private static void alignTwoWindingsTransformers(NetworkElementMapping elementMapping, Result.Builder builder, Consumer<Runnable> tapPositionWrites) {
+        elementMapping.getReferenceNetwork().getTwoWindingsTransformerStream()
+            .filter(PstAligner::hasTapChanger)
+            .forEach(referenceTwoWindingsTransformer -> {
+                String id = referenceTwoWindingsTransformer.getId();
+                TwoWindingsTransformer twoWindingsTransformer = elementMapping.getMarketBasedElement(id, TwoWindingsTransformer.class);
+                if (Objects.isNull(twoWindingsTransformer)) {
+                    LOGGER.error("Reference two windings transformer '{}' not found in market based network", id);
+                }
+                alignTapChangers(referenceTwoWindingsTransformer, twoWindingsTransformer, "two windings transformer '" + id + "'", tapPositionWrites,
+                    ratioAligned -> builder.ratioTapChangerResults.put(id, ratioAligned),
+                    phaseAligned -> builder.phaseTapChangerResults.put(id, phaseAligned));
+            });
     }
 
-    private static Map<String, Boolean> alignPhaseTapChanger(Network referenceNetwork, Network marketBasedNetwork) {
-        return referenceNetwork.getTwoWindingsTransformerStream()
-            .filter(PhaseTapChangerHolder::hasPhaseTapChanger)
-            .collect(Collectors.toMap(
-                Identifiable::getId,
-                referenceTwoWindingsTransformer -> alignPhase(marketBasedNetwork, referenceTwoWindingsTransformer)
-            ));
+    private static void alignThreeWindingsTransformers(NetworkElementMapping elementMapping, Result.Builder builder, Consumer<Runnable> tapPositionWrites) {
+        elementMapping.getReferenceNetwork().getThreeWindingsTransformerStream()
+            .filter(referenceThreeWindingsTransformer -> referenceThreeWindingsTransformer.getLegStream().anyMatch(PstAligner::hasTapChanger))
+            .forEach(referenceThreeWindingsTransformer -> {
+                String id = referenceThreeWindingsTransformer.getId();
+                ThreeWindingsTransformer threeWindingsTransformer = elementMapping.getMarketBasedElement(id, ThreeWindingsTransformer.class);
+                if (Objects.isNull(threeWindingsTransformer)) {
+                    LOGGER.error("Reference three windings transformer '{}' not found in market based network", id);
+                }
+                for (ThreeSides side : ThreeSides.values()) {
+                    ThreeWindingsTransformer.Leg referenceLeg = referenceThreeWindingsTransformer.getLeg(side);
+                    ThreeWindingsTransformer.Leg leg = Objects.isNull(threeWindingsTransformer) ? null : threeWindingsTransformer.getLeg(side);
+                    alignTapChangers(referenceLeg, leg, "three windings transformer '" + id + "' leg " + side, tapPositionWrites,
+                        ratioAligned -> builder.threeWindingsTransformerRatioTapChangerResults.computeIfAbsent(id, k -> new EnumMap<>(ThreeSides.class)).put(side, ratioAligned),
+                        phaseAligned -> builder.threeWindingsTransformerPhaseTapChangerResults.computeIfAbsent(id, k -> new EnumMap<>(ThreeSides.class)).put(side, phaseAligned));
+                }
+            });
     }
 
-    private static boolean alignPhase(Network marketBasedNetwork, TwoWindingsTransformer referenceTwoWindingsTransformer) {
-        int referenceTapPosition = referenceTwoWindingsTransformer.getPhaseTapChanger().getTapPosition();
-        String id = referenceTwoWindingsTransformer.getId();
-        TwoWindingsTransformer twoWindingsTransformer = marketBasedNetwork.getTwoWindingsTransformer(id);
-        if (Objects.isNull(twoWindingsTransformer)) {
-            LOGGER.error("Two windings transformer '{}' not found in market based network", id);
-            return false;
+    private static <T extends RatioTapChangerHolder & PhaseTapChangerHolder> boolean hasTapChanger(T tapChangerHolder) {
+        return tapChangerHolder.hasRatioTapChanger() || tapChangerHolder.hasPhaseTapChanger();
+    }
+
+    /**
+     * Aligns both tap changers of a matched pair of transformers or legs, the market-based one being null when not found.
+     * Tap positions are not written but passed as writes to the given consumer.
+     */
+    private static <T extends RatioTapChangerHolder & PhaseTapChangerHolder> void alignTapChangers(T reference, T marketBased, String description, Consumer<Runnable> tapPositionWrites,
+                                                                                                   Consumer<Boolean> ratioResultConsumer, Consumer<Boolean> phaseResultConsumer) {
+        if (reference.hasRatioTapChanger()) {
+            boolean aligned = Objects.nonNull(marketBased) && marketBased.hasRatioTapChanger();
+            if (aligned) {
+                RatioTapChanger ratioTapChanger = marketBased.getRatioTapChanger();
+                int tapPosition = reference.getRatioTapChanger().getTapPosition();
+                tapPositionWrites.accept(() -> ratioTapChanger.setTapPosition(tapPosition));
+            } else if (Objects.nonNull(marketBased)) {
+                LOGGER.error("Reference {} does not have a ratio tap changer in the market-based network", description);
+            }
+            ratioResultConsumer.accept(aligned);
         }
-        if (!twoWindingsTransformer.hasPhaseTapChanger()) {
-            LOGGER.error("Reference two windings transformer '{}' does not have a phase tap changer in the market-based network", id);
-            return false;
+        if (reference.hasPhaseTapChanger()) {
+            boolean aligned = Objects.nonNull(marketBased) && marketBased.hasPhaseTapChanger();
+            if (aligned) {
+                PhaseTapChanger phaseTapChanger = marketBased.getPhaseTapChanger();
+                int tapPosition = reference.getPhaseTapChanger().getTapPosition();
+                tapPositionWrites.accept(() -> phaseTapChanger.setTapPosition(tapPosition));
+            } else if (Objects.nonNull(marketBased)) {
+                LOGGER.error("Reference {} does not have a phase tap changer in the market-based network", description);
+            }
+            phaseResultConsumer.accept(aligned);
         }
-        twoWindingsTransformer.getPhaseTapChanger().setTapPosition(referenceTapPosition);
-        return true;
     }
 
     public Result getResult() {
         return result;
     }
 
+    @Override
+    public Set<AlignedElementType> getReadElementTypes() {
+        return EnumSet.of(AlignedElementType.TOPOLOGY, AlignedElementType.TAP_CHANGER);
+    }
+
+    @Override
+    public Set<AlignedElementType> getWrittenElementTypes() {
+        return EnumSet.of(AlignedElementType.TAP_CHANGER);
+    }
+
     @Override
     public void align(Network referenceNetwork, Network marketBasedNetwork) {
+        prepareAlignment(referenceNetwork, marketBasedNetwork).run();
+    }
+
+    @Override
+    public Runnable prepareAlignment(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+        return prepareAlignment(referenceNetwork, marketBasedNetwork);
+    }
+
+    private Runnable prepareAlignment(Network referenceNetwork, Network marketBasedNetwork) {
         LOGGER.info("Aligning PSTs tap positions");
-        result = Result.builder()
-            .addRatioTapChangerResults(alignRatioTapChanger(referenceNetwork, marketBasedNetwork))
-            .addPhaseTapChangerResults(alignPhaseTapChanger(referenceNetwork, marketBasedNetwork))
-            .build();
+        NetworkElementMapping elementMapping = NetworkElementMapping.of(referenceNetwork, marketBasedNetwork, identifiableMapping);
+        Result.Builder builder = Result.builder();
+        List<Runnable> tapPositionWrites = new ArrayList<>();
+        alignTwoWindingsTransformers(elementMapping, builder, tapPositionWrites::add);
+        alignThreeWindingsTransformers(elementMapping, builder, tapPositionWrites::add);
+        result = builder.build();
+        return () -> tapPositionWrites.forEach(Runnable::run);
     }
 
+    /**
+     * Alignment status of each tap changer of the reference network, two windings transformers being keyed by ID and
+     * three windings transformers by ID and leg side.
+     */
     public static final class Result {
         private final Map<String, Boolean> ratioTapChangerResults;
         private final Map<String, Boolean> phaseTapChangerResults;
-
-        private Result(Map<String, Boolean> ratioTapChangerResults, Map<String, Boolean> phaseTapChangerResults) {
-            this.ratioTapChangerResults = ratioTapChangerResults;
-            this.phaseTapChangerResults = phaseTapChangerResults;
+        private final Map<String, Map<ThreeSides, Boolean>> threeWindingsTransformerRatioTapChangerResults;
+        private final Map<String, Map<ThreeSides, Boolean>> threeWindingsTransformerPhaseTapChangerResults;
+
+        private Result(Builder builder) {
+            this.ratioTapChangerResults = builder.ratioTapChangerResults;
+            this.phaseTapChangerResults = builder.phaseTapChangerResults;
+            this.threeWindingsTransformerRatioTapChangerResults = builder.threeWindingsTransformerRatioTapChangerResults;
+            this.threeWindingsTransformerPhaseTapChangerResults = builder.threeWindingsTransformerPhaseTapChangerResults;
         }
 
         public static Builder builder() {
@@ -107,9 +173,19 @@ public class PstAligner implements OperationalConditionAligner {
             return phaseTapChangerResults;
         }
 
+        public Map<String, Map<ThreeSides, Boolean>> getThreeWindingsTransformerRatioTapChangerResults() {
+            return threeWindingsTransformerRatioTapChangerResults;
+        }
+
+        public Map<String, Map<ThreeSides, Boolean>> getThreeWindingsTransformerPhaseTapChangerResults() {
+            return threeWindingsTransformerPhaseTapChangerResults;
+        }
+
         public static final class Builder {
-            private Map<String, Boolean> ratioTapChangerResults;
-            private Map<String, Boolean> phaseTapChangerResults;
+            private Map<String, Boolean> ratioTapChangerResults = new HashMap<>();
+            private Map<String, Boolean> phaseTapChangerResults = new HashMap<>();
+            private Map<String, Map<ThreeSides, Boolean>> threeWindingsTransformerRatioTapChangerResults = new HashMap<>();
+            private Map<String, Map<ThreeSides, Boolean>> threeWindingsTransformerPhaseTapChangerResults = new HashMap<>();
 
             private Builder() {
                 // Builder pattern
@@ -125,10 +201,22 @@ public class PstAligner implements OperationalConditionAligner {
                 return this;
             }
 
+            public Builder addThreeWindingsTransformerRatioTapChangerResults(Map<String, Map<ThreeSides, Boolean>> threeWindingsTransformerRatioTapChangerResults) {
+                this.threeWindingsTransformerRatioTapChangerResults = threeWindingsTransformerRatioTapChangerResults;
+                return this;
+            }
+
+            public Builder addThreeWindingsTransformerPhaseTapChangerResults(Map<String, Map<ThreeSides, Boolean>> threeWindingsTransformerPhaseTapChangerResults) {
+                this.threeWindingsTransformerPhaseTapChangerResults = threeWindingsTransformerPhaseTapChangerResults;
+                return this;
+            }
+
             public Result build() {
                 Objects.requireNonNull(ratioTapChangerResults);
                 Objects.requireNonNull(phaseTapChangerResults);
-                return new Result(ratioTapChangerResults, phaseTapChangerResults);
+                Objects.requireNonNull(threeWindingsTransformerRatioTapChangerResults);
+                Objects.requireNonNull(threeWindingsTransformerPhaseTapChangerResults);
+                return new Result(this);
             }
         }
     }
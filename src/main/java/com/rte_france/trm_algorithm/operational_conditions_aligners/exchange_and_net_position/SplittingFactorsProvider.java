@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position;
+
+import com.farao_community.farao.cse.data.DataUtil;
+import com.farao_community.farao.cse.data.xsd.NTCAnnualDocument;
+import com.farao_community.farao.cse.data.xsd.NTCReductionsDocument;
+import com.rte_france.trm_algorithm.TrmException;
+import jakarta.xml.bind.JAXBException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Provides reduced splitting factors for many timestamps while parsing the yearly NTC document only once and each
+ * daily NTC reductions document only once per day. Unmarshalled daily documents are kept in a bounded LRU cache.
+ * Days are identified by the date of the requested timestamp in the {@code Europe/Brussels} time zone, as the daily
+ * documents of the CSE region cover a CET day, e.g. from 23:00Z the day before in winter.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class SplittingFactorsProvider {
+    public static final int DEFAULT_MAX_CACHED_DAILY_DOCUMENTS = 7;
+    static final ZoneId NTC_DOCUMENTS_ZONE_ID = ZoneId.of("Europe/Brussels");
+
+    private final NtcDocumentsCache<?, ?> ntcDocumentsCache;
+
+    private SplittingFactorsProvider(NtcDocumentsCache<?, ?> ntcDocumentsCache) {
+        this.ntcDocumentsCache = ntcDocumentsCache;
+    }
+
+    public static SplittingFactorsProvider fromNtcDocs(Supplier<InputStream> ntcAnnualSupplier, Function<LocalDate, InputStream> ntcReductionsProvider) {
+        return fromNtcDocs(ntcAnnualSupplier, ntcReductionsProvider, DEFAULT_MAX_CACHED_DAILY_DOCUMENTS);
+    }
+
+    public static SplittingFactorsProvider fromNtcDocs(Supplier<InputStream> ntcAnnualSupplier, Function<LocalDate, InputStream> ntcReductionsProvider, int maxCachedDailyDocuments) {
+        return new SplittingFactorsProvider(new NtcDocumentsCache<>(
+            "NTC", NTCAnnualDocument.class, NTCReductionsDocument.class,
+            SplittingFactorsUtils::computeReducedSplittingFactorsFromNtcDocs,
+            ntcAnnualSupplier, ntcReductionsProvider, maxCachedDailyDocuments));
+    }
+
+    public static SplittingFactorsProvider fromAdaptedNtcDocs(Supplier<InputStream> ntcAnnualSupplier, Function<LocalDate, InputStream> ntcReductionsProvider) {
+        return fromAdaptedNtcDocs(ntcAnnualSupplier, ntcReductionsProvider, DEFAULT_MAX_CACHED_DAILY_DOCUMENTS);
+    }
+
+    public static SplittingFactorsProvider fromAdaptedNtcDocs(Supplier<InputStream> ntcAnnualSupplier, Function<LocalDate, InputStream> ntcReductionsProvider, int maxCachedDailyDocuments) {
+        return new SplittingFactorsProvider(new NtcDocumentsCache<>(
+            "adapted NTC", com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument.class, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument.class,
+            SplittingFactorsUtils::computeReducedSplittingFactorsFromAdaptedNtcDocs,
+            ntcAnnualSupplier, ntcReductionsProvider, maxCachedDailyDocuments));
+    }
+
+    public Map<String, Double> getReducedSplittingFactors(OffsetDateTime targetDateTime) {
+        return ntcDocumentsCache.getReducedSplittingFactors(targetDateTime);
+    }
+
+    int getNumberOfCachedDailyDocuments() {
+        return ntcDocumentsCache.getNumberOfCachedDailyDocuments();
+    }
+
+    @FunctionalInterface
+    interface ReducedSplittingFactorsComputer<Y, D> {
+        Map<String, Double> compute(OffsetDateTime targetDateTime, Y ntcAnnualDocument, D ntcReductionsDocument);
+    }
+
+    private static final class NtcDocumentsCache<Y, D> {
+        private final String documentsDescription;
+        private final Class<Y> ntcAnnualDocumentClass;
+        private final Class<D> ntcReductionsDocumentClass;
+        private final ReducedSplittingFactorsComputer<Y, D> reducedSplittingFactorsComputer;
+        private final Supplier<InputStream> ntcAnnualSupplier;
+        private final Function<LocalDate, InputStream> ntcReductionsProvider;
+        private final Map<LocalDate, D> ntcReductionsDocuments;
+        private Y ntcAnnualDocument;
+
+        private NtcDocumentsCache(String documentsDescription, Class<Y> ntcAnnualDocumentClass, Class<D> ntcReductionsDocumentClass,
+                                  ReducedSplittingFactorsComputer<Y, D> reducedSplittingFactorsComputer,
+                                  Supplier<InputStream> ntcAnnualSupplier, Function<LocalDate, InputStream> ntcReductionsProvider, int maxCachedDailyDocuments) {
+            Objects.requireNonNull(ntcAnnualSupplier);
+            Objects.requireNonNull(ntcReductionsProvider);
+            if (maxCachedDailyDocuments < 1) {
+                throw new TrmException("Maximum number of cached daily NTC documents must be positive: " + maxCachedDailyDocuments);
+            }
+            this.documentsDescription = documentsDescription;
+            this.ntcAnnualDocumentClass = ntcAnnualDocumentClass;
+            this.ntcReductionsDocumentClass = ntcReductionsDocumentClass;
+            this.reducedSplittingFactorsComputer = reducedSplittingFactorsComputer;
+            this.ntcAnnualSupplier = ntcAnnualSupplier;
+            this.ntcReductionsProvider = ntcReductionsProvider;
+            this.ntcReductionsDocuments = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalDate, D> eldest) {
+                    return size() > maxCachedDailyDocuments;
+                }
+            };
+        }
+
+        synchronized Map<String, Double> getReducedSplittingFactors(OffsetDateTime targetDateTime) {
+            if (Objects.isNull(ntcAnnualDocument)) {
+                ntcAnnualDocument = unmarshal(ntcAnnualSupplier.get(), ntcAnnualDocumentClass, targetDateTime);
+            }
+            D ntcReductionsDocument = ntcReductionsDocuments.computeIfAbsent(targetDateTime.atZoneSameInstant(NTC_DOCUMENTS_ZONE_ID).toLocalDate(),
+                date -> unmarshal(ntcReductionsProvider.apply(date), ntcReductionsDocumentClass, targetDateTime));
+            return reducedSplittingFactorsComputer.compute(targetDateTime, ntcAnnualDocument, ntcReductionsDocument);
+        }
+
+        synchronized int getNumberOfCachedDailyDocuments() {
+            return ntcReductionsDocuments.size();
+        }
+
+        private <T> T unmarshal(InputStream inputStream, Class<T> documentClass, OffsetDateTime targetDateTime) {
+            if (Objects.isNull(inputStream)) {
+                throw new TrmException("No " + documentsDescription + " document available for " + targetDateTime);
+            }
+            try (InputStream closeableInputStream = inputStream) {
+                return DataUtil.unmarshalFromInputStream(closeableInputStream, documentClass);
+            } catch (JAXBException | IOException e) {
+                throw new TrmException("An error occurred in the " + documentsDescription + " files import for " + targetDateTime + ": " + e);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position;
+
+import com.rte_france.trm_algorithm.TrmException;
+
+import java.io.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Reduced splitting factors of a time range, stored as a compact table indexed by timestamp and country EIC code.
+ * Missing values are stored as NaN and are not returned by {@link #getReducedSplittingFactors(OffsetDateTime)}.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class SplittingFactorsTimeSeries {
+    private static final int BINARY_FORMAT_MAGIC_NUMBER = 0x54524d53; // "TRMS"
+    private static final int BINARY_FORMAT_VERSION = 1;
+
+    private final Instant start;
+    private final Duration step;
+    private final List<String> countryEicCodes;
+    private final double[] values;
+
+    SplittingFactorsTimeSeries(Instant start, Duration step, List<String> countryEicCodes, double[] values) {
+        Objects.requireNonNull(start);
+        Objects.requireNonNull(step);
+        Objects.requireNonNull(countryEicCodes);
+        Objects.requireNonNull(values);
+        if (step.isNegative() || step.isZero()) {
+            throw new TrmException("Splitting factors time series step must be positive: " + step);
+        }
+        if (countryEicCodes.isEmpty() ? values.length != 0 : values.length % countryEicCodes.size() != 0) {
+            throw new TrmException(String.format("Splitting factors time series of %d values is inconsistent with %d countries", values.length, countryEicCodes.size()));
+        }
+        this.start = start;
+        this.step = step;
+        this.countryEicCodes = List.copyOf(countryEicCodes);
+        this.values = values;
+    }
+
+    static SplittingFactorsTimeSeries of(Instant start, Duration step, List<Map<String, Double>> reducedSplittingFactorsByTimestamp) {
+        List<String> countryEicCodes = reducedSplittingFactorsByTimestamp.stream()
+            .flatMap(reducedSplittingFactors -> reducedSplittingFactors.keySet().stream())
+            .distinct()
+            .sorted()
+            .toList();
+        double[] values = new double[reducedSplittingFactorsByTimestamp.size() * countryEicCodes.size()];
+        for (int timestampIndex = 0; timestampIndex < reducedSplittingFactorsByTimestamp.size(); timestampIndex++) {
+            Map<String, Double> reducedSplittingFactors = reducedSplittingFactorsByTimestamp.get(timestampIndex);
+            for (int countryIndex = 0; countryIndex < countryEicCodes.size(); countryIndex++) {
+                values[timestampIndex * countryEicCodes.size() + countryIndex] = reducedSplittingFactors.getOrDefault(countryEicCodes.get(countryIndex), Double.NaN);
+            }
+        }
+        return new SplittingFactorsTimeSeries(start, step, countryEicCodes, values);
+    }
+
+    public Instant getStart() {
+        return start;
+    }
+
+    public Duration getStep() {
+        return step;
+    }
+
+    public List<String> getCountryEicCodes() {
+        return countryEicCodes;
+    }
+
+    public int getTimestampCount() {
+        return countryEicCodes.isEmpty() ? 0 : values.length / countryEicCodes.size();
+    }
+
+    public boolean contains(OffsetDateTime targetDateTime) {
+        Duration sinceStart = Duration.between(start, targetDateTime.toInstant());
+        return !sinceStart.isNegative() && sinceStart.dividedBy(step) < getTimestampCount();
+    }
+
+    /**
+     * Reduced splitting factors of the time step containing the target date time.
+     */
+    public Map<String, Double> getReducedSplittingFactors(OffsetDateTime targetDateTime) {
+        if (!contains(targetDateTime)) {
+            throw new TrmException(String.format("No splitting factors available for %s in time series starting at %s with %d steps of %s", targetDateTime, start, getTimestampCount(), step));
+        }
+        int timestampIndex = (int) Duration.between(start, targetDateTime.toInstant()).dividedBy(step);
+        Map<String, Double> reducedSplittingFactors = new HashMap<>();
+        for (int countryIndex = 0; countryIndex < countryEicCodes.size(); countryIndex++) {
+            double value = values[timestampIndex * countryEicCodes.size() + countryIndex];
+            if (!Double.isNaN(value)) {
+                reducedSplittingFactors.put(countryEicCodes.get(countryIndex), value);
+            }
+        }
+        return reducedSplittingFactors;
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        dataOutputStream.writeInt(BINARY_FORMAT_MAGIC_NUMBER);
+        dataOutputStream.writeInt(BINARY_FORMAT_VERSION);
+        dataOutputStream.writeLong(start.getEpochSecond());
+        dataOutputStream.writeLong(step.getSeconds());
+        dataOutputStream.writeInt(countryEicCodes.size());
+        for (String countryEicCode : countryEicCodes) {
+            dataOutputStream.writeUTF(countryEicCode);
+        }
+        dataOutputStream.writeInt(values.length);
+        for (double value : values) {
+            dataOutputStream.writeDouble(value);
+        }
+        dataOutputStream.flush();
+    }
+
+    public static SplittingFactorsTimeSeries read(InputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        if (dataInputStream.readInt() != BINARY_FORMAT_MAGIC_NUMBER) {
+            throw new TrmException("Input is not a splitting factors time series");
+        }
+        int version = dataInputStream.readInt();
+        if (version != BINARY_FORMAT_VERSION) {
+            throw new TrmException("Unsupported splitting factors time series version: " + version);
+        }
+        Instant start = Instant.ofEpochSecond(dataInputStream.readLong());
+        Duration step = Duration.ofSeconds(dataInputStream.readLong());
+        int countryCount = dataInputStream.readInt();
+        List<String> countryEicCodes = new ArrayList<>(countryCount);
+        for (int i = 0; i < countryCount; i++) {
+            countryEicCodes.add(dataInputStream.readUTF());
+        }
+        double[] values = new double[dataInputStream.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = dataInputStream.readDouble();
+        }
+        return new SplittingFactorsTimeSeries(start, step, countryEicCodes, values);
+    }
+}
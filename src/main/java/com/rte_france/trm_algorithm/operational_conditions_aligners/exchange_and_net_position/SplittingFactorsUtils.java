@@ -9,20 +9,27 @@ package com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_an
 
 import com.farao_community.farao.cse.data.DataUtil;
 import com.farao_community.farao.cse.data.ntc.*;
+import com.farao_community.farao.cse.data.xsd.NTCAnnualDocument;
+import com.farao_community.farao.cse.data.xsd.NTCReductionsDocument;
 import com.powsybl.glsk.commons.CountryEICode;
 import com.powsybl.iidm.network.Country;
 import com.rte_france.trm_algorithm.TrmException;
 import jakarta.xml.bind.JAXBException;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
  */
 public final class SplittingFactorsUtils {
+    public static final Duration SPLITTING_FACTORS_TIME_STEP = Duration.ofHours(1);
 
     private SplittingFactorsUtils() {
         // Utility class
@@ -30,41 +37,101 @@ public final class SplittingFactorsUtils {
 
     public static Map<String, Double> importSplittingFactorsFromAdaptedNtcDocs(OffsetDateTime targetDateTime, InputStream ntcAnnualPath, InputStream ntcReductionsPath) {
 
-        YearlyNtcDocumentAdapted yearlyNtcDocument;
-        DailyNtcDocumentAdapted dailyNtcDocument;
+        com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument ntcAnnualDocument;
+        com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument ntcReductionsDocument;
         try {
-            yearlyNtcDocument = new YearlyNtcDocumentAdapted(targetDateTime, DataUtil.unmarshalFromInputStream(ntcAnnualPath, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument.class));
-            dailyNtcDocument = new DailyNtcDocumentAdapted(targetDateTime, DataUtil.unmarshalFromInputStream(ntcReductionsPath, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument.class));
+            ntcAnnualDocument = DataUtil.unmarshalFromInputStream(ntcAnnualPath, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument.class);
+            ntcReductionsDocument = DataUtil.unmarshalFromInputStream(ntcReductionsPath, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument.class);
 
         } catch (JAXBException e) {
             throw new TrmException("An error occurred in the adapted NTC files import for " + targetDateTime + ": " + e);
         }
 
-        Ntc ntc = new Ntc(yearlyNtcDocument, dailyNtcDocument, true);
-        Map<String, Double> reducedSplittingFactors = new HashMap<>();
-        ntc.computeReducedSplittingFactors().forEach((country, value) -> reducedSplittingFactors.put(new CountryEICode(Country.valueOf(country)).getCode(), value));
-
-        return reducedSplittingFactors;
+        return computeReducedSplittingFactorsFromAdaptedNtcDocs(targetDateTime, ntcAnnualDocument, ntcReductionsDocument);
 
     }
 
     public static Map<String, Double> importSplittingFactorsFromNtcDocs(OffsetDateTime targetDateTime, InputStream ntcAnnualPath, InputStream ntcReductionsPath) {
 
-        YearlyNtcDocument yearlyNtcDocument;
-        DailyNtcDocument dailyNtcDocument;
+        NTCAnnualDocument ntcAnnualDocument;
+        NTCReductionsDocument ntcReductionsDocument;
         try {
-            yearlyNtcDocument = new YearlyNtcDocument(targetDateTime, DataUtil.unmarshalFromInputStream(ntcAnnualPath, com.farao_community.farao.cse.data.xsd.NTCAnnualDocument.class));
-            dailyNtcDocument = new DailyNtcDocument(targetDateTime, DataUtil.unmarshalFromInputStream(ntcReductionsPath, com.farao_community.farao.cse.data.xsd.NTCReductionsDocument.class));
+            ntcAnnualDocument = DataUtil.unmarshalFromInputStream(ntcAnnualPath, NTCAnnualDocument.class);
+            ntcReductionsDocument = DataUtil.unmarshalFromInputStream(ntcReductionsPath, NTCReductionsDocument.class);
 
         } catch (JAXBException e) {
             throw new TrmException("An error occurred in the NTC files import for " + targetDateTime + ": " + e);
         }
 
-        Ntc ntc = new Ntc(yearlyNtcDocument, dailyNtcDocument, false);
+        return computeReducedSplittingFactorsFromNtcDocs(targetDateTime, ntcAnnualDocument, ntcReductionsDocument);
+
+    }
+
+    /**
+     * Reduced splitting factors of every hour of [start, end), with NTC documents parsed only once.
+     */
+    public static SplittingFactorsTimeSeries importSplittingFactorsTimeSeriesFromAdaptedNtcDocs(OffsetDateTime start, OffsetDateTime end, InputStream ntcAnnualPath, InputStream ntcReductionsPath) {
+        com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument ntcAnnualDocument;
+        com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument ntcReductionsDocument;
+        try {
+            ntcAnnualDocument = DataUtil.unmarshalFromInputStream(ntcAnnualPath, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument.class);
+            ntcReductionsDocument = DataUtil.unmarshalFromInputStream(ntcReductionsPath, com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument.class);
+        } catch (JAXBException e) {
+            throw new TrmException("An error occurred in the adapted NTC files import for " + start + "/" + end + ": " + e);
+        }
+        return computeSplittingFactorsTimeSeries(start, end, targetDateTime -> computeReducedSplittingFactorsFromAdaptedNtcDocs(targetDateTime, ntcAnnualDocument, ntcReductionsDocument));
+    }
+
+    /**
+     * Reduced splitting factors of every hour of [start, end), with NTC documents parsed only once.
+     */
+    public static SplittingFactorsTimeSeries importSplittingFactorsTimeSeriesFromNtcDocs(OffsetDateTime start, OffsetDateTime end, InputStream ntcAnnualPath, InputStream ntcReductionsPath) {
+        NTCAnnualDocument ntcAnnualDocument;
+        NTCReductionsDocument ntcReductionsDocument;
+        try {
+            ntcAnnualDocument = DataUtil.unmarshalFromInputStream(ntcAnnualPath, NTCAnnualDocument.class);
+            ntcReductionsDocument = DataUtil.unmarshalFromInputStream(ntcReductionsPath, NTCReductionsDocument.class);
+        } catch (JAXBException e) {
+            throw new TrmException("An error occurred in the NTC files import for " + start + "/" + end + ": " + e);
+        }
+        return computeSplittingFactorsTimeSeries(start, end, targetDateTime -> computeReducedSplittingFactorsFromNtcDocs(targetDateTime, ntcAnnualDocument, ntcReductionsDocument));
+    }
+
+    /**
+     * Reduced splitting factors of every hour of [start, end), for periods covered by several daily NTC reductions documents.
+     */
+    public static SplittingFactorsTimeSeries computeSplittingFactorsTimeSeries(OffsetDateTime start, OffsetDateTime end, SplittingFactorsProvider splittingFactorsProvider) {
+        return computeSplittingFactorsTimeSeries(start, end, splittingFactorsProvider::getReducedSplittingFactors);
+    }
+
+    private static SplittingFactorsTimeSeries computeSplittingFactorsTimeSeries(OffsetDateTime start, OffsetDateTime end, Function<OffsetDateTime, Map<String, Double>> reducedSplittingFactorsComputer) {
+        if (!end.isAfter(start)) {
+            throw new TrmException("Splitting factors time series end " + end + " must be after its start " + start);
+        }
+        List<Map<String, Double>> reducedSplittingFactorsByTimestamp = new ArrayList<>();
+        for (OffsetDateTime targetDateTime = start; targetDateTime.isBefore(end); targetDateTime = targetDateTime.plus(SPLITTING_FACTORS_TIME_STEP)) {
+            reducedSplittingFactorsByTimestamp.add(reducedSplittingFactorsComputer.apply(targetDateTime));
+        }
+        return SplittingFactorsTimeSeries.of(start.toInstant(), SPLITTING_FACTORS_TIME_STEP, reducedSplittingFactorsByTimestamp);
+    }
+
+    static Map<String, Double> computeReducedSplittingFactorsFromAdaptedNtcDocs(OffsetDateTime targetDateTime,
+                                                                               com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCAnnualDocument ntcAnnualDocument,
+                                                                               com.farao_community.farao.cse.data.xsd.ntc_adapted.NTCReductionsDocument ntcReductionsDocument) {
+        YearlyNtcDocumentAdapted yearlyNtcDocument = new YearlyNtcDocumentAdapted(targetDateTime, ntcAnnualDocument);
+        DailyNtcDocumentAdapted dailyNtcDocument = new DailyNtcDocumentAdapted(targetDateTime, ntcReductionsDocument);
+        return toEicCodes(new Ntc(yearlyNtcDocument, dailyNtcDocument, true));
+    }
+
+    static Map<String, Double> computeReducedSplittingFactorsFromNtcDocs(OffsetDateTime targetDateTime, NTCAnnualDocument ntcAnnualDocument, NTCReductionsDocument ntcReductionsDocument) {
+        YearlyNtcDocument yearlyNtcDocument = new YearlyNtcDocument(targetDateTime, ntcAnnualDocument);
+        DailyNtcDocument dailyNtcDocument = new DailyNtcDocument(targetDateTime, ntcReductionsDocument);
+        return toEicCodes(new Ntc(yearlyNtcDocument, dailyNtcDocument, false));
+    }
+
+    private static Map<String, Double> toEicCodes(Ntc ntc) {
         Map<String, Double> reducedSplittingFactors = new HashMap<>();
         ntc.computeReducedSplittingFactors().forEach((country, value) -> reducedSplittingFactors.put(new CountryEICode(Country.valueOf(country)).getCode(), value));
-
         return reducedSplittingFactors;
-
     }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.modification.scalable.Scalable;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class CountryGeneratorIndexTest {
+    private static final double EPSILON = 1e-3;
+
+    @Test
+    void testGlskAndScalableFromSameIndex() {
+        Network network = TestUtils.importNetwork("simple_networks/NETWORK_SINGLE_LOAD_TWO_GENERATORS_WITH_COUNTRIES.uct");
+        network.getGenerator("FGEN1 11_generator").getTerminal().disconnect();
+
+        CountryGeneratorIndex countryGeneratorIndex = CountryGeneratorIndex.of(network);
+        ZonalData<SensitivityVariableSet> zonalGlsks = countryGeneratorIndex.getAutoGlsk();
+        ZonalData<Scalable> zonalScalables = countryGeneratorIndex.getAutoScalable();
+
+        assertEquals(Set.of(Country.BE, Country.FR), countryGeneratorIndex.getCountries());
+        assertEquals(1, countryGeneratorIndex.getGenerators(Country.BE).size());
+        assertTrue(countryGeneratorIndex.getGenerators(Country.FR).isEmpty());
+        assertTrue(countryGeneratorIndex.getGenerators(Country.DE).isEmpty());
+        assertEquals(1.0, zonalGlsks.getData("BE").getVariable("BGEN2 11_generator").getWeight(), EPSILON);
+        assertTrue(zonalGlsks.getData("FR").getVariables().isEmpty());
+        assertEquals(1000.0, zonalScalables.getData("10YBE----------2").maximumValue(network), EPSILON);
+    }
+
+    @Test
+    void testTargetPowersReadWhenComputingGlsks() {
+        Network network = TestUtils.importNetwork("simple_networks/NETWORK_SINGLE_LOAD_TWO_GENERATORS_WITH_COUNTRIES.uct");
+        CountryGeneratorIndex countryGeneratorIndex = CountryGeneratorIndex.of(network);
+
+        network.getGenerator("FGEN1 11_generator").setTargetP(0.0);
+
+        assertEquals(1.0, countryGeneratorIndex.getAutoGlsk().getData("FR").getVariable("FGEN1 11_generator").getWeight(), EPSILON);
+        assertEquals(TrmUtils.getAutoGlsk(network).getDataPerZone().keySet(), countryGeneratorIndex.getAutoGlsk().getDataPerZone().keySet());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.TopologyKind;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.test.FourSubstationsNodeBreakerFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class NetworkCountriesTest {
+    @Test
+    void testCountriesOfUcteNetwork() {
+        Network network = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        NetworkCountries networkCountries = NetworkCountries.of(network);
+        network.getVoltageLevelStream().forEach(voltageLevel ->
+            assertEquals(voltageLevel.getSubstation().orElseThrow().getCountry(), networkCountries.findCountry(voltageLevel)));
+    }
+
+    @Test
+    void testMissingCountry() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        Terminal terminal = network.getLine("LINE_S2S3").getTerminal1();
+        NetworkCountries networkCountries = NetworkCountries.of(network);
+        assertEquals(Optional.empty(), networkCountries.findCountry(terminal));
+        Exception exception = assertThrows(TrmException.class, () -> networkCountries.getCountry(terminal));
+        assertEquals("Optional country of substation 'S2' is empty", exception.getMessage());
+    }
+
+    @Test
+    void testInvalidate() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        Terminal terminal = network.getLine("LINE_S2S3").getTerminal1();
+        NetworkCountries networkCountries = NetworkCountries.of(network);
+        assertEquals(Optional.empty(), networkCountries.findCountry(terminal));
+
+        // Resolved countries are kept until invalidated
+        network.getSubstation("S2").setCountry(Country.FR);
+        assertEquals(Optional.empty(), networkCountries.findCountry(terminal));
+        networkCountries.invalidate();
+        assertEquals(Optional.of(Country.FR), networkCountries.findCountry(terminal));
+        assertEquals(Country.FR, networkCountries.getCountry(terminal));
+    }
+
+    @Test
+    void testCountriesResolvedOnFirstUse() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        Terminal terminal = network.getLine("LINE_S2S3").getTerminal1();
+        NetworkCountries networkCountries = NetworkCountries.of(network);
+        network.getSubstation("S2").setCountry(Country.FR);
+        assertEquals(Optional.of(Country.FR), networkCountries.findCountry(terminal));
+    }
+
+    @Test
+    void testVoltageLevelAddedAfterCreation() {
+        Network network = FourSubstationsNodeBreakerFactory.create();
+        network.getSubstation("S2").setCountry(Country.BE);
+        NetworkCountries networkCountries = NetworkCountries.of(network);
+        VoltageLevel voltageLevel = network.getSubstation("S2").newVoltageLevel()
+            .setId("S2VL2")
+            .setNominalV(225)
+            .setTopologyKind(TopologyKind.BUS_BREAKER)
+            .add();
+        assertEquals(Optional.of(Country.BE), networkCountries.findCountry(voltageLevel));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class NetworkSnapshotCacheTest {
+    @TempDir
+    Path tempDir;
+
+    private Path copyNetworkFile(String networkResourcePath, String fileName) throws IOException {
+        Path networkFile = tempDir.resolve(fileName);
+        try (InputStream inputStream = getClass().getResourceAsStream(networkResourcePath)) {
+            Files.copy(Objects.requireNonNull(inputStream), networkFile);
+        }
+        return networkFile;
+    }
+
+    private long countSnapshots(Path snapshotDirectory) throws IOException {
+        try (Stream<Path> snapshotFiles = Files.list(snapshotDirectory)) {
+            return snapshotFiles.count();
+        }
+    }
+
+    private static List<String> getBranchIds(Network network) {
+        return network.getBranchStream().map(Identifiable::getId).sorted().toList();
+    }
+
+    @Test
+    void testSnapshotReused() throws IOException {
+        Path snapshotDirectory = tempDir.resolve("snapshots");
+        Path networkFile = copyNetworkFile("operational_conditions_aligners/hvdc/TestCase16NodesWithHvdc.xiidm", "TestCase16NodesWithHvdc.xiidm");
+        NetworkSnapshotCache snapshotCache = new NetworkSnapshotCache(snapshotDirectory);
+        Network network = snapshotCache.load(networkFile);
+        assertEquals(1, countSnapshots(snapshotDirectory));
+
+        // The same file is read from the snapshot
+        Network snapshotNetwork = new NetworkSnapshotCache(snapshotDirectory).load(networkFile);
+        assertNotSame(network, snapshotNetwork);
+        assertEquals(network.getId(), snapshotNetwork.getId());
+        assertEquals(network.getCaseDate(), snapshotNetwork.getCaseDate());
+        assertEquals(getBranchIds(network), getBranchIds(snapshotNetwork));
+        network.getGenerators().forEach(generator -> assertEquals(generator.getTargetP(), snapshotNetwork.getGenerator(generator.getId()).getTargetP()));
+        assertEquals(network.getHvdcLineCount(), snapshotNetwork.getHvdcLineCount());
+        assertEquals(1, countSnapshots(snapshotDirectory));
+
+        snapshotCache.load(copyNetworkFile("operational_conditions_aligners/hvdc/TestCase16Nodes.xiidm", "TestCase16Nodes.xiidm"));
+        assertEquals(2, countSnapshots(snapshotDirectory));
+    }
+
+    @Test
+    void testSnapshotNotReusedForAnotherFileName() throws IOException {
+        Path snapshotDirectory = tempDir.resolve("snapshots");
+        NetworkSnapshotCache snapshotCache = new NetworkSnapshotCache(snapshotDirectory);
+        Path networkFile = copyNetworkFile("TestCase12Nodes/TestCase12Nodes.uct", "20170322_1844_SN3_FR2.uct");
+        Network network = snapshotCache.load(networkFile);
+
+        // The UCTE importer takes the network ID and case date from the file name
+        Path renamedNetworkFile = Files.copy(networkFile, tempDir.resolve("20170323_0930_SN3_FR2.uct"));
+        Network renamedNetwork = snapshotCache.load(renamedNetworkFile);
+        assertEquals(2, countSnapshots(snapshotDirectory));
+        assertNotEquals(network.getId(), renamedNetwork.getId());
+        assertNotEquals(network.getCaseDate(), renamedNetwork.getCaseDate());
+        Network renamedSnapshotNetwork = snapshotCache.load(renamedNetworkFile);
+        assertEquals(renamedNetwork.getId(), renamedSnapshotNetwork.getId());
+        assertEquals(renamedNetwork.getCaseDate(), renamedSnapshotNetwork.getCaseDate());
+        assertEquals(2, countSnapshots(snapshotDirectory));
+    }
+
+    @Test
+    void testMissingNetworkFile() {
+        NetworkSnapshotCache snapshotCache = new NetworkSnapshotCache(tempDir);
+        Path missingFile = tempDir.resolve("missing.uct");
+        TrmException exception = assertThrows(TrmException.class, () -> snapshotCache.load(missingFile));
+        assertTrue(exception.getMessage().startsWith("Unable to read input file " + missingFile));
+    }
+}
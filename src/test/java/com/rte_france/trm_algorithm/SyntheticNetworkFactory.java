@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.glsk.commons.ZonalDataImpl;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControlAdder;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.powsybl.sensitivity.WeightedSensitivityVariable;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * Deterministic generator of UCTE-like multi-country networks, for scalability tests and benchmarks without any
+ * external data.
+ * <p>
+ * Each country holds {@value #SITES_PER_COUNTRY} sites per unit of scale, meshed by internal lines around a ring.
+ * Neighbouring countries are linked by interconnection lines, tie lines and VSC HVDC lines, and each country has
+ * dangling lines towards countries outside the network. Some sites hold a PST between two bus bars.
+ * Identifiers follow the UCTE conventions of the UCTE importer, so that {@link com.rte_france.trm_algorithm.id_mapping.UcteMapper}
+ * can map the generated networks.
+ * </p>
+ * <p>
+ * The market-based network has the same elements as the reference network, with shifted injections, PST taps and
+ * HVDC set points, and a few disconnected internal lines. Two factories with the same parameters create identical
+ * networks.
+ * </p>
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+public final class SyntheticNetworkFactory {
+    static final int SITES_PER_COUNTRY = 25;
+    private static final int PST_SITE_PERIOD = 10;
+    private static final int INTERCONNECTION_SITE_PERIOD = 8;
+    private static final int TIE_LINE_SITE_PERIOD = 25;
+    private static final int HVDC_SITE_PERIOD = 50;
+    private static final int BOUNDARY_DANGLING_LINE_SITE_PERIOD = 25;
+    private static final double MESH_PROBABILITY = 0.3;
+    private static final double GENERATOR_PROBABILITY = 0.5;
+    private static final double DISCONNECTION_PROBABILITY = 0.02;
+    private static final double NOMINAL_V = 380.;
+    private static final double TARGET_V = 400.;
+    private static final double MAX_P = 9000.;
+    private static final double HVDC_MAX_P = 2000.;
+    private static final double PST_ALPHA_STEP = 0.389;
+    private static final int PST_LOW_TAP_POSITION = -16;
+    private static final int PST_HIGH_TAP_POSITION = 16;
+    private static final ZonedDateTime CASE_DATE = ZonedDateTime.of(2026, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC);
+    private static final Map<Country, Character> UCTE_COUNTRY_CODES = Map.of(
+        Country.AT, 'A', Country.BE, 'B', Country.CH, 'C', Country.DE, 'D', Country.ES, 'E',
+        Country.FR, 'F', Country.IT, 'I', Country.NL, 'N', Country.PT, 'P');
+
+    private final long seed;
+    private final int scale;
+    private final List<Country> countries;
+
+    private SyntheticNetworkFactory(Builder builder) {
+        this.seed = builder.seed;
+        this.scale = builder.scale;
+        this.countries = builder.countries;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Network createReferenceNetwork() {
+        return new Generation(false).create();
+    }
+
+    public Network createMarketBasedNetwork() {
+        return new Generation(true).create();
+    }
+
+    /**
+     * GLSK of each country, keyed by country name as {@link TrmUtils#getAutoGlsk(Network)}, proportional to the
+     * target power of the generators of the given network.
+     */
+    public static ZonalData<SensitivityVariableSet> createGlsk(Network network) {
+        Map<Country, List<Generator>> generatorsByCountry = new EnumMap<>(Country.class);
+        network.getGeneratorStream()
+            .sorted(Comparator.comparing(Identifiable::getId))
+            .forEach(generator -> generatorsByCountry.computeIfAbsent(TrmUtils.getCountry(generator.getTerminal()), country -> new ArrayList<>()).add(generator));
+        Map<String, SensitivityVariableSet> glsks = new HashMap<>();
+        generatorsByCountry.forEach((country, generators) -> {
+            double totalTargetP = generators.stream().mapToDouble(Generator::getTargetP).sum();
+            List<WeightedSensitivityVariable> variables = generators.stream()
+                .map(generator -> new WeightedSensitivityVariable(generator.getId(), generator.getTargetP() / totalTargetP))
+                .toList();
+            glsks.put(country.name(), new SensitivityVariableSet(country.name(), variables));
+        });
+        return new ZonalDataImpl<>(glsks);
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public int getSiteCountPerCountry() {
+        return SITES_PER_COUNTRY * scale;
+    }
+
+    private static String toBase36(int value, int length) {
+        String code = Integer.toString(value, Character.MAX_RADIX).toUpperCase(Locale.ROOT);
+        if (code.length() > length) {
+            throw new TrmException(String.format("Value %d cannot be written with %d characters", value, length));
+        }
+        return "0".repeat(length - code.length()) + code;
+    }
+
+    private static int randomTapPosition(Random random, int tapPosition, int maxShift) {
+        int shiftedTapPosition = tapPosition + random.nextInt(-maxShift, maxShift + 1);
+        return Math.clamp(shiftedTapPosition, PST_LOW_TAP_POSITION, PST_HIGH_TAP_POSITION);
+    }
+
+    /**
+     * State of the creation of one network. The reference random generator drives the structure and the reference
+     * values, so it is consumed the same way for both networks, while market-based shifts have their own generator.
+     */
+    private final class Generation {
+        private final boolean marketBased;
+        private final Random random = new Random(seed);
+        private final Random shifts = new Random(~seed);
+        private final Network network;
+        private final Map<Country, List<Bus>> busesByCountry = new EnumMap<>(Country.class);
+        private final Map<String, Integer> orderCodesByNodes = new HashMap<>();
+        private final Set<String> sitesWithHvdc = new HashSet<>();
+
+        private Generation(boolean marketBased) {
+            this.marketBased = marketBased;
+            this.network = Network.create(String.format("synthetic_%d_x%d_%s", seed, scale, marketBased ? "market_based" : "reference"), "UCTE");
+            network.setCaseDate(CASE_DATE);
+        }
+
+        private Network create() {
+            countries.forEach(this::createCountry);
+            for (int i = 0; i < getBorderCount(); i++) {
+                createBorder(countries.get(i), countries.get((i + 1) % countries.size()));
+            }
+            countries.forEach(this::createBoundaryDanglingLines);
+            return network;
+        }
+
+        private int getBorderCount() {
+            // Countries are linked in a ring, a single border is enough for two countries
+            return countries.size() < 3 ? countries.size() - 1 : countries.size();
+        }
+
+        private void createCountry(Country country) {
+            int siteCount = getSiteCountPerCountry();
+            List<Bus> buses = new ArrayList<>(siteCount);
+            for (int site = 0; site < siteCount; site++) {
+                buses.add(createSite(country, site));
+            }
+            busesByCountry.put(country, buses);
+            createGenerators(buses);
+            for (int site = 0; site < siteCount; site++) {
+                // Ring ensures connectivity, only meshing lines are disconnected in the market-based network
+                createLine(buses.get(site), buses.get((site + 1) % siteCount), false);
+                if (random.nextDouble() < MESH_PROBABILITY) {
+                    createLine(buses.get(site), buses.get((site + 2 + random.nextInt(5)) % siteCount), true);
+                }
+            }
+            for (int site = PST_SITE_PERIOD / 2; site < siteCount; site += PST_SITE_PERIOD) {
+                createPst(buses.get(site), buses.get((site + siteCount / 2) % siteCount));
+            }
+        }
+
+        private Bus createSite(Country country, int site) {
+            String siteCode = UCTE_COUNTRY_CODES.get(country) + country.name() + toBase36(site, 3);
+            Substation substation = network.newSubstation().setId(siteCode).setCountry(country).add();
+            VoltageLevel voltageLevel = substation.newVoltageLevel()
+                .setId(siteCode + "1")
+                .setNominalV(NOMINAL_V)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+            Bus bus = voltageLevel.getBusBreakerView().newBus().setId(siteCode + "11").add();
+            double p0 = 100. + random.nextInt(500);
+            if (marketBased) {
+                p0 *= 1. + shifts.nextDouble(-0.05, 0.05);
+            }
+            voltageLevel.newLoad().setId(bus.getId() + "_load").setBus(bus.getId()).setConnectableBus(bus.getId()).setP0(p0).setQ0(0.).add();
+            return bus;
+        }
+
+        private void createGenerators(List<Bus> buses) {
+            double totalLoad = buses.stream().mapToDouble(bus -> network.getLoad(bus.getId() + "_load").getP0()).sum();
+            double totalGeneration = totalLoad * (1. + random.nextDouble(-0.1, 0.1));
+            if (marketBased) {
+                totalGeneration *= 1. + shifts.nextDouble(-0.1, 0.1);
+            }
+            Map<Bus, Double> weights = new LinkedHashMap<>();
+            for (int site = 0; site < buses.size(); site++) {
+                if (site == 0 || random.nextDouble() < GENERATOR_PROBABILITY) {
+                    weights.put(buses.get(site), 1. + random.nextInt(10));
+                }
+            }
+            double totalWeight = weights.values().stream().mapToDouble(Double::doubleValue).sum();
+            double finalTotalGeneration = totalGeneration;
+            weights.forEach((bus, weight) -> bus.getVoltageLevel().newGenerator()
+                .setId(bus.getId() + "_generator")
+                .setBus(bus.getId())
+                .setConnectableBus(bus.getId())
+                .setEnergySource(EnergySource.OTHER)
+                .setMinP(-MAX_P)
+                .setMaxP(MAX_P)
+                .setTargetP(finalTotalGeneration * weight / totalWeight)
+                .setTargetQ(0.)
+                .setTargetV(TARGET_V)
+                .setVoltageRegulatorOn(true)
+                .add());
+        }
+
+        private Optional<String> nextElementId(String node1, String node2) {
+            int orderCode = orderCodesByNodes.merge(node1 + " " + node2, 1, Integer::sum);
+            // UCTE order codes are single characters
+            return orderCode > 9 ? Optional.empty() : Optional.of(node1 + " " + node2 + " " + orderCode);
+        }
+
+        private void createLine(Bus bus1, Bus bus2, boolean disconnectable) {
+            if (bus1 == bus2) {
+                return;
+            }
+            nextElementId(bus1.getId(), bus2.getId()).ifPresent(id -> {
+                Line line = network.newLine()
+                    .setId(id)
+                    .setVoltageLevel1(bus1.getVoltageLevel().getId())
+                    .setBus1(bus1.getId())
+                    .setConnectableBus1(bus1.getId())
+                    .setVoltageLevel2(bus2.getVoltageLevel().getId())
+                    .setBus2(bus2.getId())
+                    .setConnectableBus2(bus2.getId())
+                    .setR(0.)
+                    .setX(5. + random.nextInt(11))
+                    .setG1(0.)
+                    .setB1(0.)
+                    .setG2(0.)
+                    .setB2(0.)
+                    .add();
+                if (marketBased && disconnectable && shifts.nextDouble() < DISCONNECTION_PROBABILITY) {
+                    line.getTerminal1().disconnect();
+                    line.getTerminal2().disconnect();
+                }
+            });
+        }
+
+        private void createPst(Bus bus, Bus otherSiteBus) {
+            VoltageLevel voltageLevel = bus.getVoltageLevel();
+            Bus pstBus = voltageLevel.getBusBreakerView().newBus().setId(voltageLevel.getId() + "2").add();
+            TwoWindingsTransformer pst = voltageLevel.getSubstation().orElseThrow().newTwoWindingsTransformer()
+                .setId(bus.getId() + " " + pstBus.getId() + " 1")
+                .setVoltageLevel1(voltageLevel.getId())
+                .setBus1(bus.getId())
+                .setConnectableBus1(bus.getId())
+                .setVoltageLevel2(voltageLevel.getId())
+                .setBus2(pstBus.getId())
+                .setConnectableBus2(pstBus.getId())
+                .setRatedU1(TARGET_V)
+                .setRatedU2(TARGET_V)
+                .setR(0.)
+                .setX(10.)
+                .setG(0.)
+                .setB(0.)
+                .add();
+            pst.setProperty("elementName", "PST");
+            int tapPosition = randomTapPosition(random, 0, 5);
+            if (marketBased) {
+                tapPosition = randomTapPosition(shifts, tapPosition, 3);
+            }
+            PhaseTapChangerAdder phaseTapChangerAdder = pst.newPhaseTapChanger()
+                .setLowTapPosition(PST_LOW_TAP_POSITION)
+                .setTapPosition(tapPosition)
+                .setRegulating(false);
+            for (int step = PST_LOW_TAP_POSITION; step <= PST_HIGH_TAP_POSITION; step++) {
+                phaseTapChangerAdder.beginStep().setR(0.).setX(0.).setG(0.).setB(0.).setRho(1.).setAlpha(step * PST_ALPHA_STEP).endStep();
+            }
+            phaseTapChangerAdder.add();
+            // The PST carries the flow of a line towards the opposite site of the ring
+            createLine(pstBus, otherSiteBus, false);
+        }
+
+        private void createBorder(Country country1, Country country2) {
+            List<Bus> buses1 = busesByCountry.get(country1);
+            List<Bus> buses2 = busesByCountry.get(country2);
+            int siteCount = getSiteCountPerCountry();
+            for (int i = 0; i < Math.max(1, siteCount / INTERCONNECTION_SITE_PERIOD); i++) {
+                createLine(randomBus(buses1), randomBus(buses2), false);
+            }
+            for (int i = 0; i < Math.max(1, siteCount / TIE_LINE_SITE_PERIOD); i++) {
+                String xNode = "X" + country1.name() + country2.name() + toBase36(i, 2) + "1";
+                createTieLine(randomBus(buses1), xNode, randomBus(buses2));
+            }
+            for (int i = 0; i < Math.max(1, siteCount / HVDC_SITE_PERIOD); i++) {
+                createHvdcLine(randomBusWithoutHvdc(buses1), randomBusWithoutHvdc(buses2));
+            }
+        }
+
+        private Bus randomBus(List<Bus> buses) {
+            return buses.get(random.nextInt(buses.size()));
+        }
+
+        private Bus randomBusWithoutHvdc(List<Bus> buses) {
+            // A country takes part in two borders, so that there are always far more sites than HVDC lines
+            Bus bus;
+            do {
+                bus = randomBus(buses);
+            } while (!sitesWithHvdc.add(bus.getVoltageLevel().getId()));
+            return bus;
+        }
+
+        private DanglingLine createDanglingLine(Bus bus, String id, String xNode, double x, double p0) {
+            return bus.getVoltageLevel().newDanglingLine()
+                .setId(id)
+                .setBus(bus.getId())
+                .setConnectableBus(bus.getId())
+                .setPairingKey(xNode)
+                .setR(0.)
+                .setX(x)
+                .setG(0.)
+                .setB(0.)
+                .setP0(p0)
+                .setQ0(0.)
+                .add();
+        }
+
+        private void createTieLine(Bus bus1, String xNode, Bus bus2) {
+            double x = 5. + random.nextInt(11);
+            DanglingLine danglingLine1 = createDanglingLine(bus1, bus1.getId() + " " + xNode + " 1", xNode, x / 2, 0.);
+            DanglingLine danglingLine2 = createDanglingLine(bus2, xNode + " " + bus2.getId() + " 1", xNode, x / 2, 0.);
+            network.newTieLine()
+                .setId(danglingLine1.getId() + " + " + danglingLine2.getId())
+                .setDanglingLine1(danglingLine1.getId())
+                .setDanglingLine2(danglingLine2.getId())
+                .add();
+        }
+
+        private void createBoundaryDanglingLines(Country country) {
+            List<Bus> buses = busesByCountry.get(country);
+            for (int i = 0; i < Math.max(1, getSiteCountPerCountry() / BOUNDARY_DANGLING_LINE_SITE_PERIOD); i++) {
+                String xNode = "X" + country.name() + "XX" + toBase36(i, 2) + "1";
+                Bus bus = randomBus(buses);
+                double p0 = random.nextInt(-200, 201);
+                if (marketBased) {
+                    p0 *= 1. + shifts.nextDouble(-0.2, 0.2);
+                }
+                createDanglingLine(bus, bus.getId() + " " + xNode + " 1", xNode, 5. + random.nextInt(11), p0);
+            }
+        }
+
+        private void createHvdcLine(Bus bus1, Bus bus2) {
+            VscConverterStation converterStation1 = createConverterStation(bus1);
+            VscConverterStation converterStation2 = createConverterStation(bus2);
+            double referenceActivePowerSetpoint = random.nextInt(500);
+            boolean referenceAngleDroop = random.nextBoolean();
+            Optional<String> id = nextElementId(bus1.getId(), bus2.getId());
+            if (id.isEmpty()) {
+                return;
+            }
+            double activePowerSetpoint = marketBased ? Math.clamp(referenceActivePowerSetpoint + shifts.nextInt(-200, 201), 0., HVDC_MAX_P) : referenceActivePowerSetpoint;
+            HvdcLine hvdcLine = network.newHvdcLine()
+                .setId(id.get())
+                .setR(0.25)
+                .setNominalV(1000.)
+                .setConvertersMode(HvdcLine.ConvertersMode.SIDE_1_RECTIFIER_SIDE_2_INVERTER)
+                .setActivePowerSetpoint(activePowerSetpoint)
+                .setMaxP(HVDC_MAX_P)
+                .setConverterStationId1(converterStation1.getId())
+                .setConverterStationId2(converterStation2.getId())
+                .add();
+            if (referenceAngleDroop && (!marketBased || shifts.nextBoolean())) {
+                hvdcLine.newExtension(HvdcAngleDroopActivePowerControlAdder.class)
+                    .withP0((float) activePowerSetpoint)
+                    .withDroop(180f)
+                    .withEnabled(true)
+                    .add();
+            }
+        }
+
+        private VscConverterStation createConverterStation(Bus bus) {
+            return bus.getVoltageLevel().newVscConverterStation()
+                .setId(bus.getVoltageLevel().getId() + "_vsc")
+                .setBus(bus.getId())
+                .setConnectableBus(bus.getId())
+                .setLossFactor(1f)
+                .setVoltageRegulatorOn(false)
+                .setReactivePowerSetpoint(0.)
+                .add();
+        }
+    }
+
+    public static final class Builder {
+        private long seed;
+        private int scale = 1;
+        private List<Country> countries = List.of(Country.FR, Country.BE, Country.NL, Country.DE);
+
+        private Builder() {
+        }
+
+        public Builder addSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @param scale multiplier of the number of sites per country, and of the number of cross-border elements
+         */
+        public Builder addScale(int scale) {
+            this.scale = scale;
+            return this;
+        }
+
+        public Builder addCountries(Country... countries) {
+            this.countries = List.of(countries);
+            return this;
+        }
+
+        public SyntheticNetworkFactory build() {
+            if (scale < 1) {
+                throw new TrmException(String.format("Scale must be positive, got %d", scale));
+            }
+            if (countries.size() < 2 || !UCTE_COUNTRY_CODES.keySet().containsAll(countries) || new HashSet<>(countries).size() != countries.size()) {
+                throw new TrmException(String.format("At least two distinct countries among %s are expected, got %s", new TreeSet<>(UCTE_COUNTRY_CODES.keySet()), countries));
+            }
+            return new SyntheticNetworkFactory(this);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.*;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.powsybl.sensitivity.WeightedSensitivityVariable;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.UcteMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class SyntheticNetworkFactoryTest {
+    private static Set<String> getElementIds(Network network) {
+        return network.getIdentifiables().stream()
+            .filter(identifiable -> identifiable != network)
+            .map(Identifiable::getId)
+            .collect(Collectors.toSet());
+    }
+
+    @Test
+    void testSameParametersCreateSameNetworks() {
+        Network network = SyntheticNetworkFactory.builder().addSeed(42).build().createReferenceNetwork();
+        Network otherNetwork = SyntheticNetworkFactory.builder().addSeed(42).build().createReferenceNetwork();
+        assertEquals(getElementIds(network), getElementIds(otherNetwork));
+        network.getGenerators().forEach(generator -> assertEquals(generator.getTargetP(), otherNetwork.getGenerator(generator.getId()).getTargetP()));
+        network.getLines().forEach(line -> assertEquals(line.getX(), otherNetwork.getLine(line.getId()).getX()));
+
+        Network networkOfOtherSeed = SyntheticNetworkFactory.builder().addSeed(43).build().createReferenceNetwork();
+        assertNotEquals(getElementIds(network), getElementIds(networkOfOtherSeed));
+    }
+
+    @Test
+    void testScale() {
+        SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().addScale(10).addCountries(Country.FR, Country.BE, Country.DE).build();
+        Network network = syntheticNetworkFactory.createReferenceNetwork();
+        assertEquals(10, syntheticNetworkFactory.getScale());
+        assertEquals(3 * 10 * SyntheticNetworkFactory.SITES_PER_COUNTRY, network.getSubstationCount());
+        assertEquals(3 * 10 * SyntheticNetworkFactory.SITES_PER_COUNTRY, network.getLoadCount());
+        assertEquals(Set.of(Country.FR, Country.BE, Country.DE), network.getCountries());
+        assertTrue(network.getBusBreakerView().getBusStream().count() > 750);
+        assertTrue(network.getLineCount() > 750);
+        assertTrue(network.getTwoWindingsTransformerStream().allMatch(TwoWindingsTransformer::hasPhaseTapChanger));
+        assertTrue(network.getTwoWindingsTransformerCount() > 0);
+        assertTrue(network.getHvdcLineCount() > 0);
+        assertTrue(network.getTieLineCount() > 0);
+        assertTrue(network.getDanglingLineStream(DanglingLineFilter.UNPAIRED).count() > 0);
+    }
+
+    @Test
+    void testMarketBasedNetworkIsPerturbedTwin() {
+        SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().addSeed(1).addScale(2).build();
+        Network referenceNetwork = syntheticNetworkFactory.createReferenceNetwork();
+        Network marketBasedNetwork = syntheticNetworkFactory.createMarketBasedNetwork();
+        assertNotEquals(referenceNetwork.getId(), marketBasedNetwork.getId());
+        assertEquals(getElementIds(referenceNetwork), getElementIds(marketBasedNetwork));
+        assertTrue(referenceNetwork.getGeneratorStream()
+            .anyMatch(generator -> generator.getTargetP() != marketBasedNetwork.getGenerator(generator.getId()).getTargetP()));
+        assertTrue(referenceNetwork.getLoadStream()
+            .anyMatch(load -> load.getP0() != marketBasedNetwork.getLoad(load.getId()).getP0()));
+        assertTrue(referenceNetwork.getTwoWindingsTransformerStream()
+            .anyMatch(pst -> pst.getPhaseTapChanger().getTapPosition() != marketBasedNetwork.getTwoWindingsTransformer(pst.getId()).getPhaseTapChanger().getTapPosition()));
+        assertTrue(referenceNetwork.getHvdcLineStream()
+            .anyMatch(hvdcLine -> hvdcLine.getActivePowerSetpoint() != marketBasedNetwork.getHvdcLine(hvdcLine.getId()).getActivePowerSetpoint()));
+        assertTrue(referenceNetwork.getLineStream().allMatch(line -> line.getTerminal1().isConnected()));
+        assertTrue(marketBasedNetwork.getLineStream().anyMatch(line -> !line.getTerminal1().isConnected()));
+    }
+
+    @Test
+    void testUcteMapping() {
+        SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().build();
+        Network referenceNetwork = syntheticNetworkFactory.createReferenceNetwork();
+        Network marketBasedNetwork = syntheticNetworkFactory.createMarketBasedNetwork();
+        IdentifiableMapping identifiableMapping = UcteMapper.mapNetworks(referenceNetwork, marketBasedNetwork);
+        referenceNetwork.getLines().forEach(line -> assertEquals(line.getId(), identifiableMapping.idInReference(line.getId())));
+        referenceNetwork.getTwoWindingsTransformers().forEach(pst -> assertEquals(pst.getId(), identifiableMapping.idInReference(pst.getId())));
+        referenceNetwork.getDanglingLines(DanglingLineFilter.ALL).forEach(danglingLine -> assertEquals(danglingLine.getId(), identifiableMapping.idInReference(danglingLine.getId())));
+    }
+
+    @Test
+    void testGlsk() {
+        Network network = SyntheticNetworkFactory.builder().build().createReferenceNetwork();
+        ZonalData<SensitivityVariableSet> glsk = SyntheticNetworkFactory.createGlsk(network);
+        assertEquals(Set.of("FR", "BE", "NL", "DE"), glsk.getDataPerZone().keySet());
+        glsk.getDataPerZone().values().forEach(variableSet -> {
+            assertEquals(1., variableSet.getVariables().stream().mapToDouble(WeightedSensitivityVariable::getWeight).sum(), 1e-9);
+            variableSet.getVariables().forEach(variable -> assertNotNull(network.getGenerator(variable.getId())));
+        });
+    }
+
+    @Test
+    void testLoadFlowConverges() {
+        SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().addScale(2).build();
+        assertEquals(LoadFlowResult.Status.FULLY_CONVERGED, LoadFlow.run(syntheticNetworkFactory.createReferenceNetwork()).getStatus());
+        assertEquals(LoadFlowResult.Status.FULLY_CONVERGED, LoadFlow.run(syntheticNetworkFactory.createMarketBasedNetwork()).getStatus());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        SyntheticNetworkFactory.Builder builder = SyntheticNetworkFactory.builder();
+        assertThrows(TrmException.class, () -> builder.addScale(0).build());
+        builder.addScale(1);
+        assertThrows(TrmException.class, () -> builder.addCountries(Country.FR).build());
+        assertThrows(TrmException.class, () -> builder.addCountries(Country.FR, Country.GR).build());
+        assertThrows(TrmException.class, () -> builder.addCountries(Country.FR, Country.FR).build());
+    }
+}
@@ -19,6 +19,7 @@ import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.glsk.cse.CseGlskDocument;
 import com.powsybl.iidm.modification.scalable.Scalable;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -26,10 +27,15 @@ import com.powsybl.openrao.data.crac.api.CracFactory;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.io.fbconstraint.parameters.FbConstraintCracCreationParameters;
 import com.powsybl.sensitivity.SensitivityVariableSet;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.metrics.StageMetrics;
+import com.rte_france.trm_algorithm.metrics.TrmMetricsReport;
 import com.rte_france.trm_algorithm.operational_conditions_aligners.*;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
@@ -75,6 +81,96 @@ class TrmAlgorithmTest {
         assertEquals(0.0, result.get("NNL2AA1  BBE3AA1  1").getUncertainty(), EPSILON);
     }
 
+    @Test
+    void testSyntheticNetworks() {
+        SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().addSeed(7).build();
+        Network referenceNetwork = syntheticNetworkFactory.createReferenceNetwork();
+        Network marketBasedNetwork = syntheticNetworkFactory.createMarketBasedNetwork();
+        ZonalData<SensitivityVariableSet> zonalGlsks = SyntheticNetworkFactory.createGlsk(referenceNetwork);
+        OperationalConditionAligner operationalConditionAligner = new OperationalConditionAlignerPipeline(new BranchConnectionStateAligner(), new HvdcAligner(), new PstAligner());
+        TrmAlgorithm trmAlgorithm = new TrmAlgorithm(LoadFlowParameters.load(), operationalConditionAligner);
+        TrmResults trmResults = trmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(), zonalGlsks);
+
+        assertFalse(trmResults.getUncertaintiesMap().isEmpty());
+        referenceNetwork.getTwoWindingsTransformers().forEach(pst -> assertEquals(pst.getPhaseTapChanger().getTapPosition(),
+            marketBasedNetwork.getTwoWindingsTransformer(pst.getId()).getPhaseTapChanger().getTapPosition()));
+    }
+
+    @Test
+    void testMetricsReport() {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        ZonalData<SensitivityVariableSet> zonalGlsks = TrmUtils.getAutoGlsk(referenceNetwork);
+        List<String> completedStageNames = Collections.synchronizedList(new ArrayList<>());
+        OperationalConditionAligner operationalConditionAligner = new OperationalConditionAlignerPipeline(new HvdcAligner(), new PstAligner());
+        TrmAlgorithm trmAlgorithm = new TrmAlgorithm(LoadFlowParameters.load(), operationalConditionAligner, new ArrayList<>(),
+            stageMetrics -> completedStageNames.add(stageMetrics.getStageName()));
+        TrmResults trmResults = trmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(), zonalGlsks);
+
+        TrmMetricsReport metricsReport = trmResults.getMetricsReport();
+        assertEquals(List.of("selectCriticalNetworkElements", "alignment/HvdcAligner", "alignment/PstAligner", "alignment", "extractMarketBasedFlows", "computeReferenceZonalSensitivities", "computeUncertainties"),
+            metricsReport.getStages().stream().map(StageMetrics::getStageName).toList());
+        assertEquals(completedStageNames, metricsReport.getStages().stream().map(StageMetrics::getStageName).toList());
+        assertTrue(metricsReport.findStage("extractMarketBasedFlows").orElseThrow().getLoadFlowIterationCount() > 0);
+        assertEquals(0, metricsReport.findStage("alignment").orElseThrow().getLoadFlowIterationCount());
+        metricsReport.getStages().forEach(stageMetrics -> assertTrue(stageMetrics.getWallTimeNanos() >= 0));
+    }
+
+    @Test
+    void testResultCache(@TempDir Path tempDir) {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        ZonalData<SensitivityVariableSet> zonalGlsks = TrmUtils.getAutoGlsk(referenceNetwork);
+        OperationalConditionAligner operationalConditionAligner = new OperationalConditionAlignerPipeline(new HvdcAligner(), new PstAligner());
+        TrmAlgorithm trmAlgorithm = new TrmAlgorithm(LoadFlowParameters.load(), operationalConditionAligner);
+        TrmResultCache resultCache = new TrmResultCache(tempDir);
+        TrmInputFingerprint inputFingerprint = TrmInputFingerprint.builder()
+            .addParameter("referenceNetwork", "TestCase12Nodes")
+            .addOperationalConditionAligner(operationalConditionAligner)
+            .addLoadFlowParameters(LoadFlowParameters.load())
+            .build();
+        XnecProvider xnecProviderByIds = XnecProviderByIds.builder()
+            .addNetworkElementsOnBasecase(Set.of("BBE2AA1  FFR3AA1  1", "FFR2AA1  DDE3AA1  1"))
+            .build();
+
+        TrmResults firstResults = trmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, xnecProviderByIds, zonalGlsks, IdentifiableMapping.empty(), resultCache, inputFingerprint);
+        assertEquals(Set.of("BBE2AA1  FFR3AA1  1", "FFR2AA1  DDE3AA1  1"), firstResults.getUncertaintiesMap().keySet());
+
+        TrmResults secondResults = trmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(), zonalGlsks, IdentifiableMapping.empty(), resultCache, inputFingerprint);
+        assertEquals(4, secondResults.getUncertaintiesMap().size());
+        assertEquals(firstResults.getUncertaintiesMap().get("BBE2AA1  FFR3AA1  1").getUncertainty(), secondResults.getUncertaintiesMap().get("BBE2AA1  FFR3AA1  1").getUncertainty(), EPSILON);
+
+        TrmResults cachedResults = trmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(), zonalGlsks, IdentifiableMapping.empty(), resultCache, inputFingerprint);
+        assertEquals(List.of("selectCriticalNetworkElements"), cachedResults.getMetricsReport().getStages().stream().map(StageMetrics::getStageName).toList());
+        secondResults.getUncertaintiesMap().forEach((branchId, uncertaintyResult) -> {
+            UncertaintyResult cachedResult = cachedResults.getUncertaintiesMap().get(branchId);
+            assertEquals(uncertaintyResult.getUncertainty(), cachedResult.getUncertainty(), EPSILON);
+            assertEquals(uncertaintyResult.getReferenceCountry(TwoSides.ONE), cachedResult.getReferenceCountry(TwoSides.ONE));
+        });
+    }
+
+    @Test
+    void testResultCacheMissedWithOtherCountryRestriction(@TempDir Path tempDir) {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        ZonalData<SensitivityVariableSet> zonalGlsks = TrmUtils.getAutoGlsk(referenceNetwork);
+        OperationalConditionAligner operationalConditionAligner = new OperationalConditionAlignerPipeline(new HvdcAligner(), new PstAligner());
+        TrmResultCache resultCache = new TrmResultCache(tempDir);
+        TrmInputFingerprint inputFingerprint = TrmInputFingerprint.builder()
+            .addParameter("referenceNetwork", "TestCase12Nodes")
+            .addOperationalConditionAligner(operationalConditionAligner)
+            .build();
+        TrmAlgorithm trmAlgorithm = new TrmAlgorithm(LoadFlowParameters.load(), operationalConditionAligner, new ArrayList<>());
+        TrmAlgorithm restrictedTrmAlgorithm = new TrmAlgorithm(LoadFlowParameters.load(), operationalConditionAligner, List.of("10YFR-RTE------C"));
+
+        trmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(), zonalGlsks, IdentifiableMapping.empty(), resultCache, inputFingerprint);
+        TrmResults restrictedResults = restrictedTrmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(), zonalGlsks, IdentifiableMapping.empty(), resultCache, inputFingerprint);
+        assertTrue(restrictedResults.getMetricsReport().findStage("computeReferenceZonalSensitivities").isPresent());
+
+        TrmResults cachedResults = restrictedTrmAlgorithm.computeUncertainties(referenceNetwork, marketBasedNetwork, new XnecProviderInterconnection(), zonalGlsks, IdentifiableMapping.empty(), resultCache, inputFingerprint);
+        assertEquals(List.of("selectCriticalNetworkElements"), cachedResults.getMetricsReport().getStages().stream().map(StageMetrics::getStageName).toList());
+    }
+
     @Test
     void testSameNetwork12NodesAutoGlskAndZonalPtdfSelection() {
         Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.rte_france.trm_algorithm.id_mapping.IdentifiableMapping;
+import com.rte_france.trm_algorithm.id_mapping.UcteMapper;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmInputFingerprintTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testFingerprintDoesNotDependOnInputOrderNorFileName() throws IOException {
+        Path networkFile = Files.writeString(tempDir.resolve("network.uct"), "network");
+        Path renamedNetworkFile = Files.writeString(tempDir.resolve("renamed.uct"), "network");
+        TrmInputFingerprint fingerprint = TrmInputFingerprint.builder()
+            .addFile("referenceNetwork", networkFile)
+            .addParameter("pipeline", "PstAligner")
+            .build();
+        TrmInputFingerprint otherFingerprint = TrmInputFingerprint.builder()
+            .addParameter("pipeline", "PstAligner")
+            .addFile("referenceNetwork", renamedNetworkFile)
+            .build();
+        assertEquals(fingerprint, otherFingerprint);
+        assertEquals(fingerprint.hashCode(), otherFingerprint.hashCode());
+        assertEquals(64, fingerprint.getValue().length());
+        assertEquals(List.of("pipeline", "referenceNetwork"), List.copyOf(fingerprint.getInputHashes().keySet()));
+    }
+
+    @Test
+    void testFingerprintChangesWithInputs() throws IOException {
+        Path networkFile = Files.writeString(tempDir.resolve("network.uct"), "network");
+        TrmInputFingerprint fingerprint = TrmInputFingerprint.builder()
+            .addFile("referenceNetwork", networkFile)
+            .addLoadFlowParameters(new LoadFlowParameters())
+            .build();
+
+        Files.writeString(networkFile, "modified network");
+        TrmInputFingerprint modifiedFileFingerprint = TrmInputFingerprint.builder()
+            .addFile("referenceNetwork", networkFile)
+            .addLoadFlowParameters(new LoadFlowParameters())
+            .build();
+        assertNotEquals(fingerprint, modifiedFileFingerprint);
+        assertEquals(fingerprint.getInputHashes().get("loadFlowParameters"), modifiedFileFingerprint.getInputHashes().get("loadFlowParameters"));
+
+        TrmInputFingerprint modifiedParametersFingerprint = TrmInputFingerprint.builder()
+            .addFile("referenceNetwork", networkFile)
+            .addLoadFlowParameters(new LoadFlowParameters().setDc(true))
+            .build();
+        assertNotEquals(modifiedFileFingerprint, modifiedParametersFingerprint);
+    }
+
+    @Test
+    void testFingerprintChangesWithPipelineAligners() {
+        OperationalConditionAligner pipeline = new OperationalConditionAlignerPipeline(new HvdcAligner(), new PstAligner());
+        OperationalConditionAligner otherPipeline = new OperationalConditionAlignerPipeline(new DanglingLineAligner(), new BranchConnectionStateAligner());
+        OperationalConditionAligner reorderedPipeline = new OperationalConditionAlignerPipeline(new PstAligner(), new HvdcAligner());
+        OperationalConditionAligner nestedPipeline = new OperationalConditionAlignerPipeline(new OperationalConditionAlignerPipeline(new HvdcAligner()), new PstAligner());
+        assertEquals("OperationalConditionAlignerPipeline(OperationalConditionAlignerPipeline(HvdcAligner),PstAligner)", nestedPipeline.getConfiguration());
+
+        List<TrmInputFingerprint> fingerprints = Stream.of(pipeline, otherPipeline, reorderedPipeline, nestedPipeline)
+            .map(aligner -> TrmInputFingerprint.builder().addOperationalConditionAligner(aligner).build())
+            .toList();
+        assertEquals(4, Set.copyOf(fingerprints).size());
+        assertEquals(fingerprints.get(0), TrmInputFingerprint.builder()
+            .addOperationalConditionAligner(new OperationalConditionAlignerPipeline(new HvdcAligner(), new PstAligner()))
+            .build());
+    }
+
+    @Test
+    void testFingerprintChangesWithIdentifiableMappingAndNestedFingerprint() {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes_NewId.uct");
+        TrmInputFingerprint inputFingerprint = TrmInputFingerprint.builder().addParameter("pipeline", "PstAligner").build();
+        TrmInputFingerprint otherInputFingerprint = TrmInputFingerprint.builder().addParameter("pipeline", "HvdcAligner").build();
+
+        TrmInputFingerprint fingerprint = TrmInputFingerprint.builder()
+            .addFingerprint("inputs", inputFingerprint)
+            .addIdentifiableMapping(IdentifiableMapping.empty())
+            .build();
+        assertEquals(fingerprint, TrmInputFingerprint.builder()
+            .addFingerprint("inputs", TrmInputFingerprint.builder().addParameter("pipeline", "PstAligner").build())
+            .addIdentifiableMapping(IdentifiableMapping.empty())
+            .build());
+        assertNotEquals(fingerprint, TrmInputFingerprint.builder()
+            .addFingerprint("inputs", otherInputFingerprint)
+            .addIdentifiableMapping(IdentifiableMapping.empty())
+            .build());
+        assertNotEquals(fingerprint, TrmInputFingerprint.builder()
+            .addFingerprint("inputs", inputFingerprint)
+            .addIdentifiableMapping(UcteMapper.mapNetworks(referenceNetwork, marketBasedNetwork))
+            .build());
+    }
+
+    @Test
+    void testDuplicatedInput() {
+        TrmInputFingerprint.Builder builder = TrmInputFingerprint.builder().addParameter("pipeline", "PstAligner");
+        TrmException exception = assertThrows(TrmException.class, () -> builder.addParameter("pipeline", "HvdcAligner"));
+        assertEquals("Input 'pipeline' is already part of the fingerprint", exception.getMessage());
+    }
+
+    @Test
+    void testNoInput() {
+        TrmInputFingerprint.Builder builder = TrmInputFingerprint.builder();
+        TrmException exception = assertThrows(TrmException.class, builder::build);
+        assertEquals("Input fingerprint without any input", exception.getMessage());
+    }
+
+    @Test
+    void testMissingFile() {
+        TrmInputFingerprint.Builder builder = TrmInputFingerprint.builder();
+        Path missingFile = tempDir.resolve("missing.uct");
+        TrmException exception = assertThrows(TrmException.class, () -> builder.addFile("referenceNetwork", missingFile));
+        assertTrue(exception.getMessage().startsWith("Unable to read input file " + missingFile));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.TwoSides;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmResultCacheTest {
+    private static final TrmInputFingerprint INPUT_FINGERPRINT = TrmInputFingerprint.builder().addParameter("referenceNetwork", "network").build();
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void testPutAndGet() {
+        TrmResultCache resultCache = new TrmResultCache(cacheDirectory);
+        assertTrue(resultCache.get(INPUT_FINGERPRINT).isEmpty());
+        resultCache.put(INPUT_FINGERPRINT, Map.of("line1", new UncertaintyResult("Line 1", Country.FR, Country.BE, 100., 150., 0.5)));
+        resultCache.put(INPUT_FINGERPRINT, Map.of("line2", new UncertaintyResult("Line 2", Country.FR, null, 10., 20., 0.1)));
+
+        // A new cache instance reads the persisted entry
+        Map<String, UncertaintyResult> uncertaintiesMap = new TrmResultCache(cacheDirectory).get(INPUT_FINGERPRINT);
+        assertEquals(Set.of("line1", "line2"), uncertaintiesMap.keySet());
+        UncertaintyResult uncertaintyResult = uncertaintiesMap.get("line1");
+        assertEquals("Line 1", uncertaintyResult.getReferenceBranchName());
+        assertEquals(Country.BE, uncertaintyResult.getReferenceCountry(TwoSides.TWO));
+        assertEquals(-100., uncertaintyResult.getUncertainty());
+        assertNull(uncertaintiesMap.get("line2").getReferenceCountry(TwoSides.TWO));
+
+        TrmInputFingerprint otherInputFingerprint = TrmInputFingerprint.builder().addParameter("referenceNetwork", "other network").build();
+        assertTrue(resultCache.get(otherInputFingerprint).isEmpty());
+    }
+
+    @Test
+    void testInvalidCacheFile() throws IOException {
+        Files.writeString(cacheDirectory.resolve(INPUT_FINGERPRINT.getValue() + ".results.gz"), "invalid");
+        TrmResultCache resultCache = new TrmResultCache(cacheDirectory);
+        TrmException exception = assertThrows(TrmException.class, () -> resultCache.get(INPUT_FINGERPRINT));
+        assertTrue(exception.getMessage().startsWith("Unable to read result cache file"));
+    }
+}
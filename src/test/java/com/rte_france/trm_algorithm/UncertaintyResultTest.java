@@ -39,4 +39,13 @@ class UncertaintyResultTest {
         UncertaintyResult uncertaintyResult = new UncertaintyResult(network.getBranch("FGEN1 11 BLOAD 11 1"), 100., 112., 0.);
         assertEquals(Double.NEGATIVE_INFINITY, uncertaintyResult.getUncertainty());
     }
+
+    @Test
+    void computeUncertaintyWithoutNetwork() {
+        UncertaintyResult uncertaintyResult = new UncertaintyResult("FGEN1 11 BLOAD 11 1", Country.FR, Country.BE, 100., 112., -1.);
+        assertEquals(12., uncertaintyResult.getUncertainty());
+        assertEquals("FGEN1 11 BLOAD 11 1", uncertaintyResult.getReferenceBranchName());
+        assertEquals(Country.FR, uncertaintyResult.getReferenceCountry(TwoSides.ONE));
+        assertEquals(Country.BE, uncertaintyResult.getReferenceCountry(TwoSides.TWO));
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.aggregation;
+
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.SyntheticNetworkFactory;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class ExactTrmAggregatorTest {
+    private static final Network NETWORK = SyntheticNetworkFactory.builder().build().createReferenceNetwork();
+    private static final List<Line> LINES = NETWORK.getLineStream().limit(20).toList();
+
+    @TempDir
+    Path tempDir;
+
+    private static TrmResults createTrmResults(Random random) {
+        return TrmResults.builder().addUncertainties(LINES.stream().collect(Collectors.toMap(
+            Line::getId,
+            line -> new UncertaintyResult(line, random.nextGaussian() * 100, 0., 1.))))
+            .build();
+    }
+
+    private static void addTrmResults(List<ExactTrmAggregator> aggregators, int resultCount) {
+        Random random = new Random(7);
+        for (int i = 0; i < resultCount; i++) {
+            TrmResults trmResults = createTrmResults(random);
+            aggregators.forEach(aggregator -> aggregator.add(trmResults));
+        }
+    }
+
+    @Test
+    void testSelect() {
+        Random random = new Random(11);
+        for (int length : new int[] {1, 2, 3, 10, 1000}) {
+            // Few distinct values to check duplicates
+            double[] values = random.ints(length, 0, 20).asDoubleStream().toArray();
+            double[] sortedValues = values.clone();
+            Arrays.sort(sortedValues);
+            for (int rank = 0; rank < length; rank++) {
+                assertEquals(sortedValues[rank], ExactTrmAggregator.select(values.clone(), rank));
+            }
+        }
+    }
+
+    @Test
+    void testExactPercentiles() {
+        ExactTrmAggregator exactTrmAggregator = new ExactTrmAggregator();
+        TrmAggregator trmAggregator = new TrmAggregator();
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            TrmResults trmResults = createTrmResults(random);
+            exactTrmAggregator.add(trmResults);
+            trmAggregator.add(trmResults);
+        }
+        assertEquals(1000, exactTrmAggregator.getResultCount());
+        assertEquals(1000, exactTrmAggregator.getUncertaintyCount(LINES.get(0).getId()));
+        assertEquals(0, exactTrmAggregator.getUncertaintyCount("unknown"));
+        Map<String, Double> exactTrm = exactTrmAggregator.getBranchTrm(95);
+        Map<String, Double> approximateTrm = trmAggregator.getBranchTrm(95);
+        assertEquals(approximateTrm.keySet(), exactTrm.keySet());
+        exactTrm.forEach((branchId, trm) -> assertEquals(trm, approximateTrm.get(branchId), 0.01 * Math.abs(trm)));
+        assertEquals(0, exactTrmAggregator.getSpillCount());
+    }
+
+    @Test
+    void testSpilledUncertaintiesGiveSamePercentiles() throws IOException {
+        ExactTrmAggregator inMemoryAggregator = new ExactTrmAggregator();
+        ExactTrmAggregator spillingAggregator = new ExactTrmAggregator(64 * 1024, tempDir);
+        addTrmResults(List.of(inMemoryAggregator, spillingAggregator), 2000);
+        assertTrue(spillingAggregator.getSpillCount() > 1);
+        try (Stream<Path> spillFiles = Files.list(tempDir)) {
+            assertEquals(LINES.size(), spillFiles.count());
+        }
+        for (double percentile : new double[] {1, 50, 90, 95, 100}) {
+            assertEquals(inMemoryAggregator.getBranchTrm(percentile), spillingAggregator.getBranchTrm(percentile));
+        }
+        assertEquals(2000, spillingAggregator.getUncertaintyCount(LINES.get(0).getId()));
+        spillingAggregator.close();
+        try (Stream<Path> spillFiles = Files.list(tempDir)) {
+            assertEquals(0, spillFiles.count());
+        }
+    }
+
+    @Test
+    void testSpillDirectoryShared() throws IOException {
+        // Files left by a previous aggregator which was not closed
+        for (int i = 0; i < LINES.size(); i++) {
+            Files.write(tempDir.resolve("uncertainties-" + i + ".bin"), new byte[64 * 1024]);
+        }
+        ExactTrmAggregator inMemoryAggregator = new ExactTrmAggregator();
+        try (ExactTrmAggregator spillingAggregator = new ExactTrmAggregator(16 * 1024, tempDir);
+             ExactTrmAggregator otherSpillingAggregator = new ExactTrmAggregator(16 * 1024, tempDir)) {
+            addTrmResults(List.of(inMemoryAggregator, spillingAggregator, otherSpillingAggregator), 1000);
+            assertTrue(spillingAggregator.getSpillCount() > 1);
+            assertEquals(inMemoryAggregator.getBranchTrm(95), spillingAggregator.getBranchTrm(95));
+            assertEquals(inMemoryAggregator.getBranchTrm(95), otherSpillingAggregator.getBranchTrm(95));
+        }
+        try (Stream<Path> spillFiles = Files.list(tempDir)) {
+            assertEquals(LINES.size(), spillFiles.count());
+        }
+    }
+
+    @Test
+    void testBudgetBelowInitialCapacities() {
+        try (ExactTrmAggregator spillingAggregator = new ExactTrmAggregator(1, tempDir)) {
+            // Uncertainties fitting in the initial capacity of the buffers are never spilled
+            addTrmResults(List.of(spillingAggregator), UncertaintyBuffer.INITIAL_CAPACITY);
+            assertEquals(0, spillingAggregator.getSpillCount());
+            addTrmResults(List.of(spillingAggregator), 1);
+            assertEquals(1, spillingAggregator.getSpillCount());
+            addTrmResults(List.of(spillingAggregator), UncertaintyBuffer.INITIAL_CAPACITY - 1);
+            assertEquals(1, spillingAggregator.getSpillCount());
+        }
+    }
+
+    @Test
+    void testInfiniteUncertaintiesAreIgnored() {
+        Line line = LINES.get(0);
+        ExactTrmAggregator exactTrmAggregator = new ExactTrmAggregator();
+        exactTrmAggregator.add(TrmResults.builder().addUncertainties(Map.of(line.getId(), new UncertaintyResult(line, 100., 112., 0.))).build());
+        exactTrmAggregator.add(TrmResults.builder().addUncertainties(Map.of(line.getId(), new UncertaintyResult(line, 100., 112., 2.))).build());
+        assertEquals(1, exactTrmAggregator.getIgnoredUncertaintyCount());
+        assertEquals(Map.of(line.getId(), -6.), exactTrmAggregator.getBranchTrm(90));
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(TrmException.class, () -> new ExactTrmAggregator(0, tempDir));
+        Path missingDirectory = tempDir.resolve("missing");
+        assertThrows(TrmException.class, () -> new ExactTrmAggregator(1024, missingDirectory));
+        ExactTrmAggregator exactTrmAggregator = new ExactTrmAggregator();
+        assertThrows(TrmException.class, () -> exactTrmAggregator.getBranchTrm(0));
+        assertThrows(TrmException.class, () -> exactTrmAggregator.getBranchTrm(100.5));
+    }
+}
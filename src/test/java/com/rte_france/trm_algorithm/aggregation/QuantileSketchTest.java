@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.aggregation;
+
+import com.rte_france.trm_algorithm.TrmException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class QuantileSketchTest {
+    private static final double[] PERCENTILES = {1, 5, 10, 50, 90, 95, 99, 100};
+
+    private static double getExactPercentile(double[] sortedValues, double percentile) {
+        return sortedValues[Math.max(0, (int) Math.ceil(percentile / 100 * sortedValues.length) - 1)];
+    }
+
+    private static double[] createUncertainties(long seed, int count) {
+        Random random = new Random(seed);
+        return DoubleStream.generate(() -> random.nextGaussian() * 300 + 50).limit(count).toArray();
+    }
+
+    @Test
+    void testRelativeAccuracy() {
+        double[] uncertainties = createUncertainties(3, 100_000);
+        QuantileSketch sketch = new QuantileSketch(0.01, QuantileSketch.DEFAULT_MAX_BUCKET_COUNT);
+        Arrays.stream(uncertainties).forEach(sketch::add);
+        Arrays.sort(uncertainties);
+        for (double percentile : PERCENTILES) {
+            double exactPercentile = getExactPercentile(uncertainties, percentile);
+            assertEquals(exactPercentile, sketch.getValueAtPercentile(percentile), 0.01 * Math.abs(exactPercentile));
+        }
+        assertEquals(100_000, sketch.getCount());
+        assertEquals(uncertainties[0], sketch.getMin());
+        assertEquals(uncertainties[uncertainties.length - 1], sketch.getMax());
+        assertFalse(sketch.isCollapsed());
+    }
+
+    @Test
+    void testMergeIsSameAsAddingAllValues() {
+        double[] uncertainties = createUncertainties(5, 10_000);
+        QuantileSketch sketch = new QuantileSketch();
+        QuantileSketch evenSketch = new QuantileSketch();
+        QuantileSketch oddSketch = new QuantileSketch();
+        for (int i = 0; i < uncertainties.length; i++) {
+            sketch.add(uncertainties[i]);
+            (i % 2 == 0 ? evenSketch : oddSketch).add(uncertainties[i]);
+        }
+        evenSketch.merge(oddSketch);
+        evenSketch.merge(new QuantileSketch());
+        assertEquals(sketch.getCount(), evenSketch.getCount());
+        for (double percentile : PERCENTILES) {
+            assertEquals(sketch.getValueAtPercentile(percentile), evenSketch.getValueAtPercentile(percentile));
+        }
+    }
+
+    @Test
+    void testSignsAndZero() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(-100);
+        sketch.add(0);
+        sketch.add(1e-12);
+        sketch.add(100);
+        assertEquals(-100, sketch.getValueAtPercentile(25), 1);
+        assertEquals(0, sketch.getValueAtPercentile(50));
+        assertEquals(0, sketch.getValueAtPercentile(75));
+        assertEquals(100, sketch.getValueAtPercentile(100), 1);
+    }
+
+    @Test
+    void testEmptySketch() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.getValueAtPercentile(95)));
+    }
+
+    @Test
+    void testBoundedMemoryCollapsesSmallestMagnitudes() {
+        QuantileSketch sketch = new QuantileSketch(0.01, 100);
+        for (int i = 1; i <= 1000; i++) {
+            sketch.add(i);
+        }
+        assertTrue(sketch.isCollapsed());
+        assertEquals(990, sketch.getValueAtPercentile(99), 0.01 * 990);
+        assertEquals(1000, sketch.getCount());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(TrmException.class, () -> new QuantileSketch(0, 10));
+        assertThrows(TrmException.class, () -> new QuantileSketch(1, 10));
+        assertThrows(TrmException.class, () -> new QuantileSketch(0.01, 0));
+        QuantileSketch sketch = new QuantileSketch();
+        assertThrows(TrmException.class, () -> sketch.add(Double.NaN));
+        assertThrows(TrmException.class, () -> sketch.add(Double.NEGATIVE_INFINITY));
+        assertThrows(TrmException.class, () -> sketch.getValueAtPercentile(0));
+        assertThrows(TrmException.class, () -> sketch.getValueAtPercentile(101));
+        QuantileSketch otherSketch = new QuantileSketch(0.02, 10);
+        assertThrows(TrmException.class, () -> sketch.merge(otherSketch));
+    }
+}
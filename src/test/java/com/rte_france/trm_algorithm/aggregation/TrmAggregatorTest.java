@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.aggregation;
+
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
+import com.rte_france.trm_algorithm.SyntheticNetworkFactory;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.TrmUtils;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmAggregatorTest {
+    private static final Network NETWORK = SyntheticNetworkFactory.builder().build().createReferenceNetwork();
+    private static final Branch<?> INTERNAL_BRANCH = NETWORK.getLineStream()
+        .filter(line -> TrmUtils.getCountry(line.getTerminal1()) == TrmUtils.getCountry(line.getTerminal2()))
+        .findFirst().orElseThrow();
+    private static final Branch<?> INTERCONNECTION = NETWORK.getLineStream()
+        .filter(line -> TrmUtils.getCountry(line.getTerminal1()) != TrmUtils.getCountry(line.getTerminal2()))
+        .findFirst().orElseThrow();
+
+    private static TrmResults createTrmResults(double internalUncertainty, double interconnectionUncertainty) {
+        return TrmResults.builder().addUncertainties(Map.of(
+            INTERNAL_BRANCH.getId(), new UncertaintyResult(INTERNAL_BRANCH, internalUncertainty, 0., 1.),
+            INTERCONNECTION.getId(), new UncertaintyResult(INTERCONNECTION, interconnectionUncertainty, 0., 1.)))
+            .build();
+    }
+
+    private static String getInterconnectionBorder() {
+        return TrmAggregator.getBorder(TrmUtils.getCountry(INTERCONNECTION.getTerminal(TwoSides.ONE)), TrmUtils.getCountry(INTERCONNECTION.getTerminal(TwoSides.TWO)));
+    }
+
+    @Test
+    void testBranchAndBorderTrm() {
+        TrmAggregator trmAggregator = new TrmAggregator();
+        for (int hour = 1; hour <= 100; hour++) {
+            trmAggregator.add(createTrmResults(hour, -hour));
+        }
+        assertEquals(100, trmAggregator.getResultCount());
+        assertEquals(Set.of(INTERNAL_BRANCH.getId(), INTERCONNECTION.getId()), trmAggregator.getBranchTrm(90).keySet());
+        assertEquals(90., trmAggregator.getBranchTrm(90).get(INTERNAL_BRANCH.getId()), 0.01 * 90);
+        assertEquals(95., trmAggregator.getBranchTrm(95).get(INTERNAL_BRANCH.getId()), 0.01 * 95);
+        assertEquals(-11., trmAggregator.getBranchTrm(90).get(INTERCONNECTION.getId()), 0.01 * 11);
+        assertEquals(Set.of(getInterconnectionBorder()), trmAggregator.getBorderTrm(90).keySet());
+        assertEquals(-11., trmAggregator.getBorderTrm(90).get(getInterconnectionBorder()), 0.01 * 11);
+        assertEquals(100, trmAggregator.getBorderSketches().get(getInterconnectionBorder()).getCount());
+    }
+
+    @Test
+    void testMergeOfParallelAggregators() {
+        TrmAggregator trmAggregator = new TrmAggregator();
+        List<TrmAggregator> workerAggregators = List.of(new TrmAggregator(), new TrmAggregator(), new TrmAggregator());
+        for (int hour = 1; hour <= 300; hour++) {
+            trmAggregator.add(createTrmResults(hour, hour * 2.));
+            workerAggregators.get(hour % 3).add(createTrmResults(hour, hour * 2.));
+        }
+        TrmAggregator mergedAggregator = new TrmAggregator();
+        workerAggregators.forEach(mergedAggregator::merge);
+        assertEquals(trmAggregator.getResultCount(), mergedAggregator.getResultCount());
+        assertEquals(trmAggregator.getBranchTrm(95), mergedAggregator.getBranchTrm(95));
+        assertEquals(trmAggregator.getBorderTrm(95), mergedAggregator.getBorderTrm(95));
+    }
+
+    @Test
+    void testInfiniteUncertaintiesAreIgnored() {
+        TrmAggregator trmAggregator = new TrmAggregator();
+        trmAggregator.add(TrmResults.builder().addUncertainties(Map.of(
+            INTERNAL_BRANCH.getId(), new UncertaintyResult(INTERNAL_BRANCH, 100., 112., 0.))).build());
+        trmAggregator.add(createTrmResults(10, 20));
+        assertEquals(2, trmAggregator.getResultCount());
+        assertEquals(1, trmAggregator.getIgnoredUncertaintyCount());
+        assertEquals(1, trmAggregator.getBranchSketches().get(INTERNAL_BRANCH.getId()).getCount());
+    }
+
+    @Test
+    void testBorder() {
+        assertEquals("BE-FR", TrmAggregator.getBorder(Country.FR, Country.BE));
+        assertEquals("BE-FR", TrmAggregator.getBorder(Country.BE, Country.FR));
+        assertNull(TrmAggregator.getBorder(Country.FR, Country.FR));
+        assertNull(TrmAggregator.getBorder(null, Country.FR));
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(TrmException.class, () -> new TrmAggregator(0, 10));
+        TrmAggregator trmAggregator = new TrmAggregator();
+        TrmAggregator otherAggregator = new TrmAggregator(0.05, 10);
+        assertThrows(TrmException.class, () -> trmAggregator.merge(otherAggregator));
+    }
+}
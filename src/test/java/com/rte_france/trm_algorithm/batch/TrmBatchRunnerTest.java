@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.powsybl.flow_decomposition.xnec_provider.XnecProviderInterconnection;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.rte_france.trm_algorithm.SyntheticNetworkFactory;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.OperationalConditionAlignerPipeline;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.PstAligner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmBatchRunnerTest {
+    private static final ZonedDateTime FIRST_CASE_DATE = ZonedDateTime.of(2026, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private TrmBatchCase createBatchCase(int hour, String inputFingerprint, boolean failing) {
+        return new TrmBatchCase(FIRST_CASE_DATE.plusHours(hour), inputFingerprint, () -> {
+            loadCount.incrementAndGet();
+            if (failing) {
+                throw new TrmException("Load flow diverged");
+            }
+            SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().addSeed(hour).build();
+            Network referenceNetwork = syntheticNetworkFactory.createReferenceNetwork();
+            return TrmCaseInputs.builder()
+                .addReferenceNetwork(referenceNetwork)
+                .addMarketBasedNetwork(syntheticNetworkFactory.createMarketBasedNetwork())
+                .addReferenceZonalGlsks(SyntheticNetworkFactory.createGlsk(referenceNetwork))
+                .addXnecProvider(new XnecProviderInterconnection())
+                .addOperationalConditionAligner(new OperationalConditionAlignerPipeline(new PstAligner()))
+                .addAlignerStatusSupplier(() -> "PST_ALIGNED")
+                .build();
+        });
+    }
+
+    @Test
+    void testRestartedBatchSkipsCompletedTimestamps() {
+        Path journalFile = tempDir.resolve("journal.bin");
+        List<TrmJournalEntry> entries = new ArrayList<>();
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            TrmBatchReport report = new TrmBatchRunner(LoadFlowParameters.load(), journal).run(List.of(
+                createBatchCase(0, "inputs0", false),
+                createBatchCase(1, "inputs1", true),
+                createBatchCase(2, "inputs2", false)), entries::add);
+            assertEquals(List.of(FIRST_CASE_DATE, FIRST_CASE_DATE.plusHours(2)), report.getComputedCaseDates());
+            assertTrue(report.getResumedCaseDates().isEmpty());
+            assertEquals("Load flow diverged", report.getFailures().get(FIRST_CASE_DATE.plusHours(1)));
+        }
+        assertEquals(2, entries.size());
+        assertEquals("PST_ALIGNED", entries.get(0).getAlignerStatus());
+        assertEquals(2, entries.get(1).getCaseIndex());
+        assertFalse(entries.get(1).getTrmResults().getUncertaintiesMap().isEmpty());
+
+        loadCount.set(0);
+        List<TrmJournalEntry> resumedEntries = new ArrayList<>();
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            TrmBatchReport report = new TrmBatchRunner(LoadFlowParameters.load(), journal).run(List.of(
+                createBatchCase(0, "inputs0", false),
+                createBatchCase(1, "inputs1", false),
+                createBatchCase(2, "inputs2-modified", false)), resumedEntries::add);
+            assertEquals(List.of(FIRST_CASE_DATE.plusHours(1), FIRST_CASE_DATE.plusHours(2)), report.getComputedCaseDates());
+            assertEquals(List.of(FIRST_CASE_DATE), report.getResumedCaseDates());
+            assertTrue(report.getFailures().isEmpty());
+            assertEquals(3, journal.getCaseDates().size());
+            assertEquals("inputs2-modified", journal.findInputFingerprint(FIRST_CASE_DATE.plusHours(2)).orElseThrow());
+        }
+        assertEquals(2, loadCount.get());
+        assertEquals(entries.get(0).getTrmResults().getUncertaintiesMap().keySet(), resumedEntries.get(0).getTrmResults().getUncertaintiesMap().keySet());
+        entries.get(0).getTrmResults().getUncertaintiesMap().forEach((branchId, uncertaintyResult) ->
+            assertEquals(uncertaintyResult.getUncertainty(), resumedEntries.get(0).getTrmResults().getUncertaintiesMap().get(branchId).getUncertainty()));
+    }
+
+    @Test
+    void testLookAheadGivesSameResults() {
+        List<TrmBatchCase> batchCases = List.of(
+            createBatchCase(0, "inputs0", false),
+            createBatchCase(1, "inputs1", true),
+            createBatchCase(2, "inputs2", false),
+            createBatchCase(3, "inputs3", false));
+        List<TrmJournalEntry> entries = new ArrayList<>();
+        try (TrmResultJournal journal = TrmResultJournal.open(tempDir.resolve("journal.bin"))) {
+            new TrmBatchRunner(LoadFlowParameters.load(), journal).run(batchCases, entries::add);
+        }
+        List<TrmJournalEntry> lookAheadEntries = new ArrayList<>();
+        try (TrmResultJournal journal = TrmResultJournal.open(tempDir.resolve("lookAheadJournal.bin"))) {
+            TrmBatchReport report = new TrmBatchRunner(LoadFlowParameters.load(), journal, 2).run(batchCases, lookAheadEntries::add);
+            assertEquals(List.of(FIRST_CASE_DATE, FIRST_CASE_DATE.plusHours(2), FIRST_CASE_DATE.plusHours(3)), report.getComputedCaseDates());
+            assertEquals("Load flow diverged", report.getFailures().get(FIRST_CASE_DATE.plusHours(1)));
+        }
+        assertEquals(entries.stream().map(TrmJournalEntry::getCaseIndex).toList(), lookAheadEntries.stream().map(TrmJournalEntry::getCaseIndex).toList());
+        for (int i = 0; i < entries.size(); i++) {
+            Map<String, UncertaintyResult> lookAheadUncertaintiesMap = lookAheadEntries.get(i).getTrmResults().getUncertaintiesMap();
+            entries.get(i).getTrmResults().getUncertaintiesMap().forEach((branchId, uncertaintyResult) ->
+                assertEquals(uncertaintyResult.getUncertainty(), lookAheadUncertaintiesMap.get(branchId).getUncertainty()));
+        }
+    }
+
+    @Test
+    void testNegativeLookAhead() {
+        try (TrmResultJournal journal = TrmResultJournal.open(tempDir.resolve("journal.bin"))) {
+            LoadFlowParameters loadFlowParameters = LoadFlowParameters.load();
+            TrmException exception = assertThrows(TrmException.class, () -> new TrmBatchRunner(loadFlowParameters, journal, -1));
+            assertEquals("Look-ahead case count must be positive or zero: -1", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.powsybl.flow_decomposition.xnec_provider.XnecProviderInterconnection;
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.SyntheticNetworkFactory;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.OperationalConditionAlignerPipeline;
+import com.rte_france.trm_algorithm.operational_conditions_aligners.PstAligner;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmInputsPrefetcherTest {
+    private static final ZonedDateTime FIRST_CASE_DATE = ZonedDateTime.of(2026, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+
+    private final SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().build();
+    private final Network referenceNetwork = syntheticNetworkFactory.createReferenceNetwork();
+    private final Network marketBasedNetwork = syntheticNetworkFactory.createMarketBasedNetwork();
+    private final AtomicInteger startedLoadCount = new AtomicInteger();
+    private final List<Thread> loadingThreads = Collections.synchronizedList(new ArrayList<>());
+
+    private List<TrmBatchCase> createBatchCases(int caseCount, int failingCaseIndex) {
+        return IntStream.range(0, caseCount).mapToObj(caseIndex -> new TrmBatchCase(FIRST_CASE_DATE.plusHours(caseIndex), "inputs" + caseIndex, () -> {
+            startedLoadCount.incrementAndGet();
+            loadingThreads.add(Thread.currentThread());
+            if (caseIndex == failingCaseIndex) {
+                throw new TrmException("Missing GLSK file");
+            }
+            return TrmCaseInputs.builder()
+                .addReferenceNetwork(referenceNetwork)
+                .addMarketBasedNetwork(marketBasedNetwork)
+                .addReferenceZonalGlsks(SyntheticNetworkFactory.createGlsk(referenceNetwork))
+                .addXnecProvider(new XnecProviderInterconnection())
+                .addOperationalConditionAligner(new OperationalConditionAlignerPipeline(new PstAligner()))
+                .addAlignerStatusSupplier(() -> "case" + caseIndex)
+                .build();
+        })).toList();
+    }
+
+    @Test
+    void testInputsLoadedAheadInOrder() {
+        try (TrmInputsPrefetcher inputsPrefetcher = new TrmInputsPrefetcher(createBatchCases(5, -1), 2)) {
+            for (int caseIndex = 0; caseIndex < 5; caseIndex++) {
+                assertEquals("case" + caseIndex, inputsPrefetcher.next().getAlignerStatus());
+                // Inputs of the taken timestamp and of the two next ones at most
+                assertTrue(startedLoadCount.get() <= caseIndex + 3);
+            }
+            assertThrows(NoSuchElementException.class, inputsPrefetcher::next);
+        }
+        assertEquals(5, startedLoadCount.get());
+        loadingThreads.forEach(thread -> assertTrue(thread.isVirtual()));
+    }
+
+    @Test
+    void testFailedLoadDoesNotStopNextOnes() {
+        try (TrmInputsPrefetcher inputsPrefetcher = new TrmInputsPrefetcher(createBatchCases(3, 1), 1)) {
+            assertEquals("case0", inputsPrefetcher.next().getAlignerStatus());
+            TrmException exception = assertThrows(TrmException.class, inputsPrefetcher::next);
+            assertEquals("Missing GLSK file", exception.getMessage());
+            assertEquals("case2", inputsPrefetcher.next().getAlignerStatus());
+        }
+    }
+
+    @Test
+    void testInputsLoadedOnCallingThreadWithoutLookAhead() {
+        try (TrmInputsPrefetcher inputsPrefetcher = new TrmInputsPrefetcher(createBatchCases(2, -1), 0)) {
+            assertEquals(0, startedLoadCount.get());
+            assertEquals("case0", inputsPrefetcher.next().getAlignerStatus());
+            assertEquals(1, startedLoadCount.get());
+            assertEquals("case1", inputsPrefetcher.next().getAlignerStatus());
+        }
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), loadingThreads);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.batch;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.TwoSides;
+import com.rte_france.trm_algorithm.TrmException;
+import com.rte_france.trm_algorithm.TrmResults;
+import com.rte_france.trm_algorithm.UncertaintyResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmResultJournalTest {
+    private static final ZonedDateTime FIRST_CASE_DATE = ZonedDateTime.of(2026, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private static TrmResults createTrmResults(double marketBasedFlow) {
+        return TrmResults.builder().addUncertainties(Map.of(
+            "FFR1AA1  BBE1AA1  1", new UncertaintyResult("FR-BE", Country.FR, Country.BE, marketBasedFlow, 100., 0.5),
+            "FFR1AA1  FFR2AA1  1", new UncertaintyResult("FFR1AA1  FFR2AA1  1", Country.FR, Country.FR, 10., 20., 0.1)))
+            .build();
+    }
+
+    @Test
+    void testAppendedEntriesAreReadAfterReopening() {
+        Path journalFile = tempDir.resolve("journal.bin");
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            TrmJournalEntry entry = journal.append(0, FIRST_CASE_DATE, "fingerprint0", "ALIGNED", createTrmResults(150.));
+            assertEquals(100., entry.getTrmResults().getUncertaintiesMap().get("FFR1AA1  BBE1AA1  1").getUncertainty());
+            journal.append(1, FIRST_CASE_DATE.plusHours(1), "fingerprint1", "NOT_ALIGNED", createTrmResults(200.));
+        }
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            assertEquals(Set.of(FIRST_CASE_DATE, FIRST_CASE_DATE.plusHours(1)), journal.getCaseDates());
+            assertEquals("fingerprint1", journal.findInputFingerprint(FIRST_CASE_DATE.plusHours(1)).orElseThrow());
+            TrmJournalEntry entry = journal.findEntry(FIRST_CASE_DATE.plusHours(1)).orElseThrow();
+            assertEquals(1, entry.getCaseIndex());
+            assertEquals(FIRST_CASE_DATE.plusHours(1), entry.getCaseDate());
+            assertEquals("NOT_ALIGNED", entry.getAlignerStatus());
+            UncertaintyResult uncertaintyResult = entry.getTrmResults().getUncertaintiesMap().get("FFR1AA1  BBE1AA1  1");
+            assertEquals(200., uncertaintyResult.getUncertainty());
+            assertEquals(200., uncertaintyResult.getMarketBasedFlow());
+            assertEquals(100., uncertaintyResult.getReferenceFlow());
+            assertEquals(0.5, uncertaintyResult.getReferenceZonalPtdf());
+            assertEquals("FR-BE", uncertaintyResult.getReferenceBranchName());
+            assertEquals(Country.FR, uncertaintyResult.getReferenceCountry(TwoSides.ONE));
+            assertEquals(Country.BE, uncertaintyResult.getReferenceCountry(TwoSides.TWO));
+            assertEquals(2, entry.getTrmResults().getUncertaintiesMap().size());
+            assertTrue(journal.findEntry(FIRST_CASE_DATE.plusHours(2)).isEmpty());
+        }
+    }
+
+    @Test
+    void testLatestEntryOfCaseDateTakesPrecedence() {
+        try (TrmResultJournal journal = TrmResultJournal.open(tempDir.resolve("journal.bin"))) {
+            journal.append(0, FIRST_CASE_DATE, "fingerprint0", "ALIGNED", createTrmResults(150.));
+            journal.append(0, FIRST_CASE_DATE, "fingerprint1", "ALIGNED", createTrmResults(200.));
+            assertEquals("fingerprint1", journal.findInputFingerprint(FIRST_CASE_DATE).orElseThrow());
+            assertEquals(200., journal.findEntry(FIRST_CASE_DATE).orElseThrow().getTrmResults().getUncertaintiesMap().get("FFR1AA1  BBE1AA1  1").getUncertainty());
+        }
+    }
+
+    @Test
+    void testIncompleteLastRecordIsTruncated() throws IOException {
+        Path journalFile = tempDir.resolve("journal.bin");
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            journal.append(0, FIRST_CASE_DATE, "fingerprint0", "ALIGNED", createTrmResults(150.));
+        }
+        long completeSize = Files.size(journalFile);
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            journal.append(1, FIRST_CASE_DATE.plusHours(1), "fingerprint1", "ALIGNED", createTrmResults(200.));
+        }
+        // Crash while writing the second record
+        byte[] bytes = Files.readAllBytes(journalFile);
+        Files.write(journalFile, Arrays.copyOf(bytes, bytes.length - 5));
+
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            assertEquals(Set.of(FIRST_CASE_DATE), journal.getCaseDates());
+            assertEquals(completeSize, Files.size(journalFile));
+            journal.append(1, FIRST_CASE_DATE.plusHours(1), "fingerprint1", "ALIGNED", createTrmResults(200.));
+        }
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            assertEquals(Set.of(FIRST_CASE_DATE, FIRST_CASE_DATE.plusHours(1)), journal.getCaseDates());
+        }
+    }
+
+    @Test
+    void testCorruptedLastRecordIsTruncated() throws IOException {
+        Path journalFile = tempDir.resolve("journal.bin");
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            journal.append(0, FIRST_CASE_DATE, "fingerprint0", "ALIGNED", createTrmResults(150.));
+            journal.append(1, FIRST_CASE_DATE.plusHours(1), "fingerprint1", "ALIGNED", createTrmResults(200.));
+        }
+        byte[] bytes = Files.readAllBytes(journalFile);
+        bytes[bytes.length - 20] ^= 0x1;
+        Files.write(journalFile, bytes);
+
+        try (TrmResultJournal journal = TrmResultJournal.open(journalFile)) {
+            assertEquals(Set.of(FIRST_CASE_DATE), journal.getCaseDates());
+        }
+    }
+
+    @Test
+    void testInvalidJournalFile() throws IOException {
+        Path journalFile = tempDir.resolve("journal.bin");
+        Files.writeString(journalFile, "Case date;Branch ID", StandardOpenOption.CREATE);
+        assertThrows(TrmException.class, () -> TrmResultJournal.open(journalFile));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.daemon;
+
+import com.rte_france.trm_algorithm.TrmException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Stand-in client submitting jobs to a {@link TrmWorker} through its job directory.
+ *
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+final class LocalTrmJobClient {
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final Path jobDirectory;
+
+    LocalTrmJobClient(Path jobDirectory) {
+        this.jobDirectory = jobDirectory;
+    }
+
+    void submit(String jobName, Map<String, String> jobProperties) throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(jobProperties);
+        // Moved into the job directory, so that the worker never reads a partial job file
+        Path temporaryFile = Files.createTempFile(jobDirectory, jobName, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+        Files.move(temporaryFile, jobDirectory.resolve(jobName + TrmWorker.JOB_FILE_EXTENSION), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Result file of the job, or error file if it failed.
+     */
+    Path awaitOutput(String jobName, Duration timeout) throws InterruptedException {
+        Path resultFile = jobDirectory.resolve(jobName + TrmWorker.RESULT_FILE_EXTENSION);
+        Path errorFile = jobDirectory.resolve(jobName + TrmWorker.ERROR_FILE_EXTENSION);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (Files.exists(resultFile)) {
+                return resultFile;
+            }
+            if (Files.exists(errorFile)) {
+                return errorFile;
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new TrmException("No output of job " + jobName + " after " + timeout);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.daemon;
+
+import com.rte_france.trm_algorithm.NetworkSnapshotCache;
+import com.rte_france.trm_algorithm.SyntheticNetworkFactory;
+import com.rte_france.trm_algorithm.TrmException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmWorkerTest {
+    private static final Duration TIMEOUT = Duration.ofMinutes(1);
+    private static final ZonedDateTime CASE_DATE = ZonedDateTime.of(2026, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path jobDirectory;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    private void writeNetworks(long seed) {
+        SyntheticNetworkFactory syntheticNetworkFactory = SyntheticNetworkFactory.builder().addSeed(seed).build();
+        syntheticNetworkFactory.createReferenceNetwork().write("XIIDM", null, jobDirectory.resolve("reference" + seed));
+        syntheticNetworkFactory.createMarketBasedNetwork().write("XIIDM", null, jobDirectory.resolve("marketBased" + seed));
+    }
+
+    private static Map<String, String> getJobProperties(long seed) {
+        return Map.of(
+            TrmJob.CASE_DATE, CASE_DATE.plusHours(seed).toString(),
+            TrmJob.REFERENCE_NETWORK, "reference" + seed + ".xiidm",
+            TrmJob.MARKET_BASED_NETWORK, "marketBased" + seed + ".xiidm");
+    }
+
+    private long countSnapshots() throws IOException {
+        try (Stream<Path> snapshotFiles = Files.list(snapshotDirectory)) {
+            return snapshotFiles.count();
+        }
+    }
+
+    @Test
+    void testJobsSubmittedToRunningWorker() throws IOException, InterruptedException {
+        writeNetworks(1);
+        writeNetworks(2);
+        LocalTrmJobClient client = new LocalTrmJobClient(jobDirectory);
+        try (TrmWorker worker = TrmWorker.builder()
+            .addJobDirectory(jobDirectory)
+            .addNetworkSnapshotCache(new NetworkSnapshotCache(snapshotDirectory))
+            .build()) {
+            Thread workerThread = new Thread(worker);
+            workerThread.start();
+
+            client.submit("job1", getJobProperties(1));
+            Path resultFile = client.awaitOutput("job1", TIMEOUT);
+            assertEquals(jobDirectory.resolve("job1.csv"), resultFile);
+            List<String> lines = Files.readAllLines(resultFile);
+            assertTrue(lines.get(0).startsWith("Case date;Branch ID;"));
+            assertTrue(lines.size() > 1);
+            lines.stream().skip(1).forEach(line -> assertTrue(line.startsWith(CASE_DATE.plusHours(1).toString())));
+
+            client.submit("job2", getJobProperties(2));
+            assertEquals(jobDirectory.resolve("job2.csv"), client.awaitOutput("job2", TIMEOUT));
+            assertEquals(4, countSnapshots());
+
+            assertTrue(worker.closeAndAwait(workerThread, TIMEOUT));
+        }
+    }
+
+    @Test
+    void testFailedJobAndPendingJobs() throws IOException, InterruptedException {
+        LocalTrmJobClient client = new LocalTrmJobClient(jobDirectory);
+        client.submit("job1", Map.of(TrmJob.CASE_DATE, "2026-01-01"));
+        client.submit("job2", Map.of(TrmJob.REFERENCE_NETWORK, "missing.xiidm"));
+        try (TrmWorker worker = TrmWorker.builder()
+            .addJobDirectory(jobDirectory)
+            .addInputsLoader(job -> {
+                job.findCaseDate();
+                job.loadNetwork(TrmJob.REFERENCE_NETWORK);
+                throw new TrmException("Unexpected inputs");
+            })
+            .build()) {
+            // Jobs submitted before the worker starts are pending, and computed only once
+            assertEquals(2, worker.processPendingJobs());
+            assertEquals(0, worker.processPendingJobs());
+        }
+        assertEquals("Job job1 has an invalid case date: Text '2026-01-01' could not be parsed at index 10",
+            Files.readString(client.awaitOutput("job1", TIMEOUT)));
+        assertTrue(Files.readString(client.awaitOutput("job2", TIMEOUT)).contains("missing.xiidm"));
+    }
+
+    @Test
+    void testClosedWorkerLeavesPendingJobs() throws IOException {
+        LocalTrmJobClient client = new LocalTrmJobClient(jobDirectory);
+        client.submit("job1", Map.of());
+        client.submit("job2", Map.of());
+        AtomicReference<TrmWorker> closingWorker = new AtomicReference<>();
+        try (TrmWorker worker = TrmWorker.builder()
+            .addJobDirectory(jobDirectory)
+            .addInputsLoader(job -> {
+                // Closed, e.g. by a shutdown hook, while computing its first job
+                closingWorker.get().close();
+                throw new TrmException("Unexpected inputs");
+            })
+            .build()) {
+            closingWorker.set(worker);
+            assertEquals(1, worker.processPendingJobs());
+        }
+        assertTrue(Files.exists(jobDirectory.resolve("job1.error")));
+        assertFalse(Files.exists(jobDirectory.resolve("job2.error")));
+    }
+
+    @Test
+    void testTemporaryOutputsDeletedAtStart() throws IOException {
+        Path temporaryOutput = Files.writeString(jobDirectory.resolve("output123.tmp"), "Case date;Branch ID;");
+        Path otherFile = Files.writeString(jobDirectory.resolve("other.tmp"), "");
+        try (TrmWorker worker = TrmWorker.builder().addJobDirectory(jobDirectory).build()) {
+            assertFalse(Files.exists(temporaryOutput));
+            assertTrue(Files.exists(otherFile));
+            assertEquals(0, worker.processPendingJobs());
+        }
+    }
+
+    @Test
+    void testMissingJobDirectory() {
+        TrmWorker.Builder builder = TrmWorker.builder().addJobDirectory(jobDirectory.resolve("missing"));
+        TrmException exception = assertThrows(TrmException.class, builder::build);
+        assertEquals("Job directory " + jobDirectory.resolve("missing") + " does not exist", exception.getMessage());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.id_mapping;
+
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sebastian Huaraca {@literal <sebastian.huaracalapa at rte-france.com>}
+ */
+class IdentifiableMappingCacheTest {
+    @TempDir
+    Path cacheDirectory;
+
+    private long countCacheFiles() throws IOException {
+        try (Stream<Path> cacheFiles = Files.list(cacheDirectory)) {
+            return cacheFiles.count();
+        }
+    }
+
+    @Test
+    void testSameMappingAsIndexedUcteMapper() throws IOException {
+        Network networkReference = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2_Repetitive.uct");
+        Network networkMarketBased = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2_NewDuplicate.uct");
+        IdentifiableMapping expectedMapping = IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased);
+
+        IdentifiableMapping mapping = new IdentifiableMappingCache(cacheDirectory).mapNetworks(networkReference, networkMarketBased);
+        assertEquals(expectedMapping.mappingFromMarketBasedToReference, mapping.mappingFromMarketBasedToReference);
+        assertEquals(expectedMapping.mappingFromReferenceToMarketBased, mapping.mappingFromReferenceToMarketBased);
+        assertEquals(1, countCacheFiles());
+
+        // A new cache instance reads the persisted entry
+        IdentifiableMapping cachedMapping = new IdentifiableMappingCache(cacheDirectory).mapNetworks(networkReference, networkMarketBased);
+        assertEquals(expectedMapping.mappingFromMarketBasedToReference, cachedMapping.mappingFromMarketBasedToReference);
+        assertEquals(1, countCacheFiles());
+    }
+
+    @Test
+    void testIncrementalUpdateAfterBranchRemoval() throws IOException {
+        Network networkReference = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2.uct");
+        Network networkMarketBased = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2_NewId.uct");
+        IdentifiableMappingCache cache = new IdentifiableMappingCache(cacheDirectory);
+        IdentifiableMapping firstMapping = cache.mapNetworks(networkReference, networkMarketBased);
+        String removedMarketBasedId = firstMapping.mappingFromMarketBasedToReference.keySet().stream()
+            .filter(marketBasedId -> networkMarketBased.getLine(marketBasedId) != null)
+            .sorted()
+            .findFirst()
+            .orElseThrow();
+
+        networkMarketBased.getLine(removedMarketBasedId).remove();
+        IdentifiableMapping expectedMapping = IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased);
+        IdentifiableMapping mapping = cache.mapNetworks(networkReference, networkMarketBased);
+
+        assertEquals(expectedMapping.mappingFromMarketBasedToReference, mapping.mappingFromMarketBasedToReference);
+        assertFalse(mapping.mappingFromMarketBasedToReference.containsKey(removedMarketBasedId));
+        assertEquals(2, countCacheFiles());
+    }
+
+    @Test
+    void testAddAliasesTwice() {
+        Network networkReference = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2.uct");
+        Network networkMarketBased = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2_NewId.uct");
+        IdentifiableMappingCache cache = new IdentifiableMappingCache(cacheDirectory);
+
+        cache.mapNetworksAndAddAliases(networkReference, networkMarketBased);
+        assertDoesNotThrow(() -> cache.mapNetworksAndAddAliases(networkReference, networkMarketBased));
+
+        IdentifiableMapping mapping = cache.mapNetworks(networkReference, networkMarketBased);
+        mapping.mappingFromMarketBasedToReference.forEach((marketBasedId, referenceId) -> {
+            assertEquals(referenceId, networkReference.getIdentifiable(marketBasedId).getId());
+            assertEquals(marketBasedId, networkMarketBased.getIdentifiable(referenceId).getId());
+        });
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.id_mapping;
+
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sebastian Huaraca {@literal <sebastian.huaracalapa at rte-france.com>}
+ */
+class IndexedUcteMapperTest {
+    private static void assertSameMappingAsUcteMapper(String referenceNetworkPath, String marketBasedNetworkPath) {
+        Network networkReference = TestUtils.importNetwork(referenceNetworkPath);
+        Network networkMarketBased = TestUtils.importNetwork(marketBasedNetworkPath);
+
+        IdentifiableMapping expectedMapping = UcteMapper.mapNetworks(networkReference, networkMarketBased);
+        IdentifiableMapping mapping = IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased);
+
+        assertEquals(expectedMapping.mappingFromMarketBasedToReference, mapping.mappingFromMarketBasedToReference);
+        assertEquals(expectedMapping.mappingFromReferenceToMarketBased, mapping.mappingFromReferenceToMarketBased);
+    }
+
+    @Test
+    void testSameMappingAsUcteMapperWithNewIds() {
+        assertSameMappingAsUcteMapper("TestCase12Nodes/TestCase12Nodes_NewId.uct", "TestCase12Nodes/TestCase12Nodes.uct");
+        assertSameMappingAsUcteMapper("TestCase12Nodes/20170322_1844_SN3_FR2.uct", "TestCase12Nodes/20170322_1844_SN3_FR2_NewId.uct");
+    }
+
+    @Test
+    void testSameMappingAsUcteMapperWithNewPositions() {
+        assertSameMappingAsUcteMapper("TestCase12Nodes/20170322_1844_SN3_FR2.uct", "TestCase12Nodes/20170322_1844_SN3_FR2_NewPosition.uct");
+    }
+
+    @Test
+    void testSameMappingAsUcteMapperWithDuplicates() {
+        assertSameMappingAsUcteMapper("TestCase12Nodes/20170322_1844_SN3_FR2_Repetitive.uct", "TestCase12Nodes/20170322_1844_SN3_FR2_NewDuplicate.uct");
+    }
+
+    @Test
+    void testDuplicateValues() {
+        Network networkReference = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2_Repetitive.uct");
+        Network networkMarketBased = TestUtils.importNetwork("TestCase12Nodes/20170322_1844_SN3_FR2_NewDuplicate.uct");
+
+        IdentifiableMapping mappingResults = IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased);
+
+        assertEquals("FFNHV211 FFNHV311 1", mappingResults.idInReference("FFNHV311 FFNHV211 1"));
+        assertEquals("FFNHV111 FFNHV211 1", mappingResults.idInReference("FFNHV211 FFNHV111 1"));
+        assertEquals("FFNHV311 FFNHV211 1", mappingResults.idInMarketBased("FFNHV211 FFNHV311 1"));
+    }
+
+    @Test
+    void testChosenCountries() {
+        Network networkReference = TestUtils.importNetwork("TestCase12Nodes/NETWORK_TEST_IN_REFERENCE.uct");
+        Network networkMarketBased = TestUtils.importNetwork("TestCase12Nodes/NETWORK_TEST_IN.uct");
+
+        IdentifiableMapping mappingResults = IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased, Country.IT, Country.FR, Country.SI, Country.CH, Country.AT);
+
+        assertThrows(IdMappingNotFoundException.class, () -> mappingResults.idInReference("DGENE111 DLOAD111 1"));
+    }
+
+    @Test
+    void testTieLines() {
+        Network networkReference = TestUtils.importNetwork("TestCase12Nodes/NETWORK_TEST_IN_REFERENCE.uct");
+        Network networkMarketBased = TestUtils.importNetwork("TestCase12Nodes/NETWORK_TEST_IN.uct");
+
+        IdentifiableMapping mappingResults = IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased);
+
+        assertTrue(networkMarketBased.getTieLineCount() > 0);
+        networkMarketBased.getTieLineStream().map(Identifiable::getId)
+            .forEach(tieLineId -> assertEquals(tieLineId, mappingResults.idInReference(tieLineId)));
+        networkMarketBased.getDanglingLineStream().map(Identifiable::getId)
+            .forEach(danglingLineId -> assertEquals(danglingLineId, mappingResults.idInReference(danglingLineId)));
+    }
+
+    @Test
+    void testDanglingLineMergedInMarketBasedNetwork() {
+        Network networkReference = TestUtils.importNetwork("simple_networks/NETWORK_SINGLE_LOAD_TWO_GENERATORS_WITH_UNBOUNDED_XNODE.uct");
+        Network networkMarketBased = TestUtils.importNetwork("simple_networks/NETWORK_SINGLE_LOAD_TWO_GENERATORS_WITH_BOUNDED_XNODE.uct");
+
+        IdentifiableMapping mappingResults = IndexedUcteMapper.mapNetworks(networkReference, networkMarketBased);
+
+        assertEquals("BLOAD 11 X     11 1", mappingResults.idInReference("BLOAD 11 X     11 1"));
+        assertThrows(IdMappingNotFoundException.class, () -> mappingResults.idInReference("BLOAD 11 X     11 1 + X     11 DLOAD 11 1"));
+    }
+}
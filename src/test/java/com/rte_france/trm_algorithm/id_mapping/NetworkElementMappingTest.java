@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.id_mapping;
+
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Line;
+import com.powsybl.iidm.network.Network;
+import com.rte_france.trm_algorithm.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Sebastian Huaraca {@literal <sebastian.huaracalapa at rte-france.com>}
+ */
+class NetworkElementMappingTest {
+    @Test
+    void testMappedElements() {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes_NewId.uct");
+        NetworkElementMapping elementMapping = NetworkElementMapping.of(referenceNetwork, marketBasedNetwork, UcteMapper.mapNetworks(referenceNetwork, marketBasedNetwork));
+
+        Branch<?> marketBasedBranch = elementMapping.getMarketBasedElement("BBE1AA1  BBE2AA1  1", Branch.class);
+        assertEquals("BBE1AA12 BBE2AA11 1", marketBasedBranch.getId());
+        assertEquals("BBE1AA1  BBE2AA1  1", elementMapping.getReferenceElement("BBE1AA12 BBE2AA11 1", Line.class).getId());
+        // Same IDs in both networks
+        assertEquals("FFR1AA1  FFR2AA1  1", elementMapping.getMarketBasedElement("FFR1AA1  FFR2AA1  1", Line.class).getId());
+        // Networks are not modified
+        assertNull(marketBasedNetwork.getIdentifiable("BBE1AA1  BBE2AA1  1"));
+        assertNull(referenceNetwork.getIdentifiable("BBE1AA12 BBE2AA11 1"));
+    }
+
+    @Test
+    void testMissingOrDifferentTypeElements() {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        NetworkElementMapping elementMapping = NetworkElementMapping.identity(referenceNetwork, marketBasedNetwork);
+
+        assertNull(elementMapping.getMarketBasedElement("unknown", Branch.class));
+        assertNull(elementMapping.getMarketBasedElement("FFR1AA1  FFR2AA1  1", Generator.class));
+        assertNotNull(elementMapping.getReferenceElement("FFR1AA1  FFR2AA1  1", Branch.class));
+    }
+}
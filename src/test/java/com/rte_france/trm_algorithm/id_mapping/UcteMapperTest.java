@@ -122,4 +122,20 @@ public class UcteMapperTest {
         assertEquals(networkReference.getIdentifiable("BBE1AA1  BBE2AA1  1"), networkReference.getIdentifiable("BBE1AA12 BBE2AA11 1"));
         assertEquals(networkMarketBased.getIdentifiable("BBE1AA1  BBE2AA1  1"), networkMarketBased.getIdentifiable("BBE1AA12 BBE2AA11 1"));
     }
+
+    @Test
+    void testTieLines() {
+        // Given
+        Network networkReference = TestUtils.importNetwork("TestCase12Nodes/NETWORK_TEST_IN_REFERENCE.uct");
+        Network networkMarketBased = TestUtils.importNetwork("TestCase12Nodes/NETWORK_TEST_IN.uct");
+        // When
+        IdentifiableMapping mappingResults = UcteMapper.mapNetworks(networkReference, networkMarketBased);
+        //Then
+        assertTrue(networkMarketBased.getTieLineCount() > 0);
+        networkMarketBased.getTieLines().forEach(tieLine -> {
+            assertEquals(tieLine.getId(), mappingResults.idInReference(tieLine.getId()));
+            assertEquals(tieLine.getDanglingLine1().getId(), mappingResults.idInReference(tieLine.getDanglingLine1().getId()));
+            assertEquals(tieLine.getDanglingLine2().getId(), mappingResults.idInReference(tieLine.getDanglingLine2().getId()));
+        });
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.rte_france.trm_algorithm.TestUtils;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmEventsTest {
+    @TempDir
+    Path tempDir;
+
+    private List<RecordedEvent> record(String eventName, Runnable runnable) throws IOException {
+        Path recordingFile = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        return RecordingFile.readAllEvents(recordingFile).stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+            .toList();
+    }
+
+    @Test
+    void testLoadFlowEvent() throws IOException {
+        Network network = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        List<RecordedEvent> events = record("com.rte_france.trm_algorithm.LoadFlow", () -> TrmEvents.runLoadFlow("test", network, new LoadFlowParameters()));
+        assertEquals(1, events.size());
+        RecordedEvent event = events.getFirst();
+        assertEquals("test", event.getString("caller"));
+        assertEquals(network.getId(), event.getString("networkId"));
+        assertEquals(network.getVariantManager().getWorkingVariantId(), event.getString("variantId"));
+        assertTrue(event.getInt("iterationCount") > 0);
+        assertEquals(LoadFlowResult.Status.FULLY_CONVERGED.name(), event.getString("status"));
+    }
+
+    @Test
+    void testAlignmentEvent() throws IOException {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        List<RecordedEvent> events = record("com.rte_france.trm_algorithm.Alignment", () -> {
+            TrmEvents.align("succeeding", referenceNetwork, marketBasedNetwork, () -> { });
+            assertThrows(IllegalStateException.class, () -> TrmEvents.align("failing", referenceNetwork, marketBasedNetwork, () -> {
+                throw new IllegalStateException();
+            }));
+        });
+        assertEquals(2, events.size());
+        assertEquals("succeeding", events.get(0).getString("alignerName"));
+        assertTrue(events.get(0).getBoolean("succeeded"));
+        assertEquals(marketBasedNetwork.getBranchCount(), events.get(0).getInt("branchCount"));
+        assertEquals(marketBasedNetwork.getGeneratorCount(), events.get(0).getInt("generatorCount"));
+        assertEquals("failing", events.get(1).getString("alignerName"));
+        assertFalse(events.get(1).getBoolean("succeeded"));
+    }
+}
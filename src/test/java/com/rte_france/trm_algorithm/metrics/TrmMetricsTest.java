@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.metrics;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.loadflow.LoadFlow;
+import com.rte_france.trm_algorithm.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class TrmMetricsTest {
+    private static List<String> getStageNames(TrmMetrics metrics) {
+        return metrics.getReport().getStages().stream().map(StageMetrics::getStageName).toList();
+    }
+
+    @Test
+    void testNestedStages() {
+        List<String> completedStageNames = new ArrayList<>();
+        TrmMetrics metrics = new TrmMetrics(stageMetrics -> completedStageNames.add(stageMetrics.getStageName()));
+        int result = metrics.measure("parent", () -> {
+            TrmMetrics.measureNested("child", () -> TrmMetrics.measureNested("grandChild", () -> { }));
+            return 42;
+        });
+        assertEquals(42, result);
+        assertEquals(List.of("parent/child/grandChild", "parent/child", "parent"), getStageNames(metrics));
+        assertEquals(getStageNames(metrics), completedStageNames);
+        assertTrue(metrics.getReport().findStage("parent").isPresent());
+        assertTrue(metrics.getReport().findStage("child").isEmpty());
+    }
+
+    @Test
+    void testOutsideOfMeasuredStage() {
+        List<String> runs = new ArrayList<>();
+        TrmMetrics.measureNested("stage", () -> runs.add("stage"));
+        TrmMetrics.inCurrentStage(() -> runs.add("runnable")).run();
+        assertEquals(List.of("stage", "runnable"), runs);
+        assertTrue(TrmMetricsReport.empty().getStages().isEmpty());
+    }
+
+    @Test
+    void testLoadFlowIterationsAreAddedToParentStages() {
+        Network network = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        TrmMetrics metrics = new TrmMetrics();
+        metrics.measure("parent", () -> TrmMetrics.measureNested("loadFlow", () -> TrmMetrics.recordLoadFlowResult(LoadFlow.run(network))));
+        int loadFlowIterationCount = metrics.getReport().findStage("parent/loadFlow").orElseThrow().getLoadFlowIterationCount();
+        assertTrue(loadFlowIterationCount > 0);
+        assertEquals(loadFlowIterationCount, metrics.getReport().findStage("parent").orElseThrow().getLoadFlowIterationCount());
+    }
+
+    @Test
+    void testStageOnOtherThread() {
+        TrmMetrics metrics = new TrmMetrics();
+        metrics.measure("parent", () -> CompletableFuture.runAsync(TrmMetrics.inCurrentStage(() -> TrmMetrics.measureNested("child", () -> { }))).join());
+        assertEquals(List.of("parent/child", "parent"), getStageNames(metrics));
+    }
+
+    @Test
+    void testListenerFailureDoesNotStopComputation() {
+        TrmMetrics metrics = new TrmMetrics(stageMetrics -> {
+            throw new IllegalStateException("Unavailable monitoring");
+        });
+        assertEquals("done", metrics.measure("stage", () -> "done"));
+        assertEquals(List.of("stage"), getStageNames(metrics));
+    }
+}
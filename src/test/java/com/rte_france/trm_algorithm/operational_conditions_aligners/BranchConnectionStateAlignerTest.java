@@ -107,4 +107,27 @@ public class BranchConnectionStateAlignerTest {
 
         branchConnectionStateAligner.align(referenceNetwork, marketBasedNetwork);
     }
+
+    @Test
+    void testAlignAllBranchesOfLargerNetwork() {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+
+        referenceNetwork.getBranch("FFR1AA1  FFR2AA1  1").getTerminal1().disconnect();
+        referenceNetwork.getBranch("DDE1AA1  DDE2AA1  1").getTerminal2().disconnect();
+        marketBasedNetwork.getBranch("NNL1AA1  NNL2AA1  1").getTerminal1().disconnect();
+        marketBasedNetwork.getBranch("NNL1AA1  NNL2AA1  1").getTerminal2().disconnect();
+
+        BranchConnectionStateAligner branchConnectionStateAligner = new BranchConnectionStateAligner();
+        branchConnectionStateAligner.align(referenceNetwork, marketBasedNetwork);
+
+        referenceNetwork.getBranchStream().forEach(referenceBranch -> {
+            Branch<?> branch = marketBasedNetwork.getBranch(referenceBranch.getId());
+            assertEquals(referenceBranch.getTerminal1().isConnected(), branch.getTerminal1().isConnected());
+            assertEquals(referenceBranch.getTerminal2().isConnected(), branch.getTerminal2().isConnected());
+        });
+        assertEquals(FALSE, marketBasedNetwork.getBranch("FFR1AA1  FFR2AA1  1").getTerminal1().isConnected());
+        assertEquals(TRUE, marketBasedNetwork.getBranch("FFR1AA1  FFR2AA1  1").getTerminal2().isConnected());
+        assertEquals(TRUE, marketBasedNetwork.getBranch("NNL1AA1  NNL2AA1  1").getTerminal1().isConnected());
+    }
 }
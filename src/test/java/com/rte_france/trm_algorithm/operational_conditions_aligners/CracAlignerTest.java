@@ -107,4 +107,28 @@ class CracAlignerTest {
         Map<String, Boolean> results = cracAligner.getResult();
         assertTrue(results.isEmpty());
     }
+
+    @Test
+    void testNetworkActionIndexSharedBetweenTimestamps() {
+        Network referenceNetwork = TestUtils.importNetwork("operational_conditions_aligners/pst/NETWORK_PST_FLOW_WITH_COUNTRIES_NON_NEUTRAL.uct");
+        Crac crac = TestUtils.getIdealTopologicalAlignerCrac(referenceNetwork);
+        NetworkActionIndex networkActionIndex = new NetworkActionIndex(crac);
+        referenceNetwork.getLine("FGEN  11 BLOAD 12 1").disconnect();
+
+        Network firstMarketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/pst/NETWORK_PST_FLOW_WITH_COUNTRIES_NON_NEUTRAL.uct");
+        CracAligner firstCracAligner = new CracAligner(networkActionIndex);
+        firstCracAligner.align(referenceNetwork, firstMarketBasedNetwork);
+        assertEquals(crac.getNetworkActions().size(), firstCracAligner.getResult().size());
+        assertEquals(1, firstCracAligner.getResult().values().stream().filter(Boolean::booleanValue).count());
+        assertTrue(firstCracAligner.getResult().get("Topological action with branch:\"FGEN  11 BLOAD 12 1\", actionType:OPEN"));
+        assertFalse(firstMarketBasedNetwork.getLine("FGEN  11 BLOAD 12 1").getTerminal1().isConnected());
+        assertFalse(firstMarketBasedNetwork.getLine("FGEN  11 BLOAD 12 1").getTerminal2().isConnected());
+
+        Network secondMarketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/pst/NETWORK_PST_FLOW_WITH_COUNTRIES_NON_NEUTRAL.uct");
+        secondMarketBasedNetwork.getLine("FGEN  11 BLOAD 12 1").disconnect();
+        CracAligner secondCracAligner = new CracAligner(networkActionIndex);
+        secondCracAligner.align(referenceNetwork, secondMarketBasedNetwork);
+        assertEquals(crac.getNetworkActions().size(), secondCracAligner.getResult().size());
+        assertTrue(secondCracAligner.getResult().values().stream().noneMatch(Boolean::booleanValue));
+    }
 }
@@ -167,4 +167,21 @@ class GeneratorMapShapeAlignerTest {
         assertEquals(19.1, marketBasedNetwork.getGenerator("E000013 _generator").getTargetP(), EPSILON);
     }
 
+    @Test
+    void testScalingFactorsByCountry() {
+        Network referenceNetwork = TestUtils.importNetwork("operational_conditions_aligners/injection_shape/reference.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/injection_shape/marketBased.uct");
+
+        GeneratorMapShapeAligner aligner = new GeneratorMapShapeAligner();
+        assertTrue(aligner.getResult().isEmpty());
+        aligner.align(referenceNetwork, marketBasedNetwork);
+
+        assertEquals(Set.of(Country.FR, Country.ES), aligner.getResult().keySet());
+        assertEquals(0.5, aligner.getResult().get(Country.FR), EPSILON);
+        assertEquals(115.0 / 60.0, aligner.getResult().get(Country.ES), EPSILON);
+
+        GeneratorMapShapeAligner frenchAligner = new GeneratorMapShapeAligner(Country.FR);
+        frenchAligner.align(referenceNetwork, marketBasedNetwork);
+        assertEquals(Set.of(Country.FR), frenchAligner.getResult().keySet());
+    }
 }
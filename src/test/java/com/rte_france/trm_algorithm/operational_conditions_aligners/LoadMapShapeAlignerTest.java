@@ -166,4 +166,22 @@ class LoadMapShapeAlignerTest {
         assertEquals(15.0, marketBasedNetwork.getGenerator("E000012 _generator").getTargetP(), EPSILON);
         assertEquals(100.0, marketBasedNetwork.getGenerator("E000013 _generator").getTargetP(), EPSILON);
     }
+
+    @Test
+    void testScalingFactorsByCountry() {
+        Network referenceNetwork = TestUtils.importNetwork("operational_conditions_aligners/injection_shape/reference.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/injection_shape/marketBased.uct");
+
+        LoadMapShapeAligner aligner = new LoadMapShapeAligner();
+        assertTrue(aligner.getResult().isEmpty());
+        aligner.align(referenceNetwork, marketBasedNetwork);
+
+        assertEquals(Set.of(Country.FR, Country.ES), aligner.getResult().keySet());
+        assertEquals(1.5, aligner.getResult().get(Country.FR), EPSILON);
+        assertEquals(130.0 / 150.0, aligner.getResult().get(Country.ES), EPSILON);
+
+        LoadMapShapeAligner frenchAligner = new LoadMapShapeAligner(Country.FR);
+        frenchAligner.align(referenceNetwork, marketBasedNetwork);
+        assertEquals(Set.of(Country.FR), frenchAligner.getResult().keySet());
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracFactory;
+import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
+import com.rte_france.trm_algorithm.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Hugo Schindler {@literal <hugo.schindler at rte-france.com>}
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class NetworkActionIndexTest {
+    @Test
+    void testIndexByNetworkElement() {
+        Crac crac = CracFactory.findDefault().create("crac");
+        crac.newNetworkAction().withId("topo-action")
+            .newTerminalsConnectionAction().withNetworkElement("FGEN  11 BLOAD 11 1").withActionType(ActionType.OPEN).add()
+            .newTerminalsConnectionAction().withNetworkElement("FGEN  11 BLOAD 12 1").withActionType(ActionType.OPEN).add()
+            .add();
+        crac.newNetworkAction().withId("topo-action-2")
+            .newTerminalsConnectionAction().withNetworkElement("FGEN  11 BLOAD 11 1").withActionType(ActionType.CLOSE).add()
+            .add();
+
+        NetworkActionIndex networkActionIndex = new NetworkActionIndex(crac);
+        assertEquals(2, networkActionIndex.getNetworkActions().size());
+        assertEquals(Set.of("FGEN  11 BLOAD 11 1", "FGEN  11 BLOAD 12 1"), networkActionIndex.getIndexedElementIds());
+        assertEquals(2, networkActionIndex.getNetworkActions("FGEN  11 BLOAD 11 1").size());
+        assertEquals(1, networkActionIndex.getNetworkActions("FGEN  11 BLOAD 12 1").size());
+        assertTrue(networkActionIndex.getNetworkActions("UNKNOWN").isEmpty());
+        assertEquals(Set.of("FGEN  11 BLOAD 11 1", "FGEN  11 BLOAD 12 1"), networkActionIndex.getNetworkElementIds(crac.getNetworkAction("topo-action")));
+    }
+
+    @Test
+    void testFindElementsWithDifferentState() {
+        Network referenceNetwork = TestUtils.importNetwork("operational_conditions_aligners/pst/NETWORK_PST_FLOW_WITH_COUNTRIES_NON_NEUTRAL.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/pst/NETWORK_PST_FLOW_WITH_COUNTRIES_NON_NEUTRAL.uct");
+        NetworkActionIndex networkActionIndex = new NetworkActionIndex(TestUtils.getIdealTopologicalAlignerCrac(referenceNetwork));
+        assertTrue(networkActionIndex.findElementsWithDifferentState(referenceNetwork, marketBasedNetwork).isEmpty());
+
+        marketBasedNetwork.getLine("FGEN  11 BLOAD 11 1").disconnect();
+        assertEquals(Set.of("FGEN  11 BLOAD 11 1"), networkActionIndex.findElementsWithDifferentState(referenceNetwork, marketBasedNetwork));
+    }
+}
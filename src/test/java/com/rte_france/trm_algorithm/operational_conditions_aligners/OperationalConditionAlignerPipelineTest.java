@@ -18,10 +18,13 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.CracFactory;
+import com.rte_france.trm_algorithm.NetworkCountries;
 import com.rte_france.trm_algorithm.TestUtils;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -61,6 +64,34 @@ class OperationalConditionAlignerPipelineTest {
         assertEquals(Double.NaN, exchangeAlignerResult.getNewMaxAbsoluteExchangeDifference());
     }
 
+    @Test
+    void testCountriesSharedByAligners() {
+        Network referenceNetwork = getReferenceNetworkWithHvdc();
+        Network marketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/hvdc/TestCase16NodesWithHvdc.xiidm");
+        List<NetworkCountries> receivedCountries = new ArrayList<>();
+        OperationalConditionAligner countriesRecordingAligner = new OperationalConditionAligner() {
+            @Override
+            public void align(Network referenceNetwork, Network marketBasedNetwork) {
+                fail("Country caches of the pipeline are not forwarded");
+            }
+
+            @Override
+            public void align(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+                receivedCountries.add(referenceCountries);
+                receivedCountries.add(marketBasedCountries);
+            }
+        };
+        NetworkCountries referenceCountries = NetworkCountries.of(referenceNetwork);
+        NetworkCountries marketBasedCountries = NetworkCountries.of(marketBasedNetwork);
+        new OperationalConditionAlignerPipeline(countriesRecordingAligner, new PstAligner(), countriesRecordingAligner)
+            .align(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries);
+        assertEquals(4, receivedCountries.size());
+        assertSame(referenceCountries, receivedCountries.get(0));
+        assertSame(marketBasedCountries, receivedCountries.get(1));
+        assertSame(referenceCountries, receivedCountries.get(2));
+        assertSame(marketBasedCountries, receivedCountries.get(3));
+    }
+
     @Test
     void testAlignmentChain() {
         Network referenceNetwork = getReferenceNetworkWithHvdc();
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners;
+
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.CracFactory;
+import com.rte_france.trm_algorithm.NetworkCountries;
+import com.rte_france.trm_algorithm.TestUtils;
+import com.rte_france.trm_algorithm.TrmException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class ParallelOperationalConditionAlignerPipelineTest {
+    private static final double EPSILON = 1e-3;
+
+    private static final class RecordingAligner implements OperationalConditionAligner {
+        private final String name;
+        private final List<String> alignedNames;
+        private final Set<AlignedElementType> elementTypes;
+        private final CountDownLatch latch;
+
+        private RecordingAligner(String name, List<String> alignedNames, Set<AlignedElementType> elementTypes, CountDownLatch latch) {
+            this.name = name;
+            this.alignedNames = alignedNames;
+            this.elementTypes = elementTypes;
+            this.latch = latch;
+        }
+
+        @Override
+        public void align(Network referenceNetwork, Network marketBasedNetwork) {
+            prepareAlignment(referenceNetwork, marketBasedNetwork, null, null).run();
+        }
+
+        @Override
+        public Runnable prepareAlignment(Network referenceNetwork, Network marketBasedNetwork, NetworkCountries referenceCountries, NetworkCountries marketBasedCountries) {
+            if (Objects.nonNull(latch)) {
+                latch.countDown();
+                try {
+                    if (!latch.await(10, TimeUnit.SECONDS)) {
+                        throw new TrmException("Aligner " + name + " has not been run concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new TrmException(e);
+                }
+            }
+            return () -> alignedNames.add(name);
+        }
+
+        @Override
+        public Set<AlignedElementType> getReadElementTypes() {
+            return elementTypes;
+        }
+
+        @Override
+        public Set<AlignedElementType> getWrittenElementTypes() {
+            return elementTypes;
+        }
+    }
+
+    /**
+     * Aligner writing during its whole alignment, recording the maximum number of aligners writing at the same time.
+     */
+    private static final class WritingAligner implements OperationalConditionAligner {
+        private final AlignedElementType elementType;
+        private final AtomicInteger writingAlignerCount;
+        private final AtomicInteger maxWritingAlignerCount;
+
+        private WritingAligner(AlignedElementType elementType, AtomicInteger writingAlignerCount, AtomicInteger maxWritingAlignerCount) {
+            this.elementType = elementType;
+            this.writingAlignerCount = writingAlignerCount;
+            this.maxWritingAlignerCount = maxWritingAlignerCount;
+        }
+
+        @Override
+        public void align(Network referenceNetwork, Network marketBasedNetwork) {
+            maxWritingAlignerCount.accumulateAndGet(writingAlignerCount.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TrmException(e);
+            } finally {
+                writingAlignerCount.decrementAndGet();
+            }
+        }
+
+        @Override
+        public Set<AlignedElementType> getReadElementTypes() {
+            return EnumSet.of(elementType);
+        }
+
+        @Override
+        public Set<AlignedElementType> getWrittenElementTypes() {
+            return EnumSet.of(elementType);
+        }
+    }
+
+    private static Network getReferenceNetworkWithHvdc() {
+        Network referenceNetwork = TestUtils.importNetwork("operational_conditions_aligners/hvdc/TestCase16NodesWithHvdc.xiidm");
+        referenceNetwork.getHvdcLine("BBE2AA11 FFR3AA11 1").setActivePowerSetpoint(100);
+        referenceNetwork.getTwoWindingsTransformer("BBE2AA11 BBE3AA11 1").getPhaseTapChanger().setTapPosition(-5);
+        referenceNetwork.getGeneratorStream().forEach(generator -> generator.setTargetP(generator.getTargetP() * 1.5));
+        return referenceNetwork;
+    }
+
+    @Test
+    void testSameResultAsSequentialPipeline() {
+        Network referenceNetwork = getReferenceNetworkWithHvdc();
+        Network sequentialMarketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/hvdc/TestCase16NodesWithHvdc.xiidm");
+        Network parallelMarketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/hvdc/TestCase16NodesWithHvdc.xiidm");
+
+        new OperationalConditionAlignerPipeline(new HvdcAligner(), new PstAligner(), new DanglingLineAligner(), new GeneratorMapShapeAligner())
+            .align(referenceNetwork, sequentialMarketBasedNetwork);
+        PstAligner pstAligner = new PstAligner();
+        new ParallelOperationalConditionAlignerPipeline(new HvdcAligner(), pstAligner, new DanglingLineAligner(), new GeneratorMapShapeAligner())
+            .align(referenceNetwork, parallelMarketBasedNetwork);
+
+        assertEquals(100, parallelMarketBasedNetwork.getHvdcLine("BBE2AA11 FFR3AA11 1").getActivePowerSetpoint(), EPSILON);
+        assertEquals(-5, parallelMarketBasedNetwork.getTwoWindingsTransformer("BBE2AA11 BBE3AA11 1").getPhaseTapChanger().getTapPosition());
+        assertTrue(pstAligner.getResult().getPhaseTapChangerResults().get("BBE2AA11 BBE3AA11 1"));
+        for (Generator generator : sequentialMarketBasedNetwork.getGenerators()) {
+            assertEquals(generator.getTargetP(), parallelMarketBasedNetwork.getGenerator(generator.getId()).getTargetP(), EPSILON);
+        }
+    }
+
+    @Test
+    void testDependencies() {
+        ParallelOperationalConditionAlignerPipeline pipeline = new ParallelOperationalConditionAlignerPipeline(
+            new PstAligner(),
+            new HvdcAligner(),
+            new GeneratorMapShapeAligner(),
+            new DanglingLineAligner(),
+            new CracAligner(CracFactory.findDefault().create("crac")),
+            new LoadMapShapeAligner());
+        assertEquals(List.of(List.of(), List.of(), List.of(), List.of(0, 1, 2), List.of(0, 1, 2, 3), List.of(3, 4)), pipeline.getDependencies());
+        assertEquals(AlignedElementType.all(), pipeline.getWrittenElementTypes());
+    }
+
+    @Test
+    void testNonConflictingAlignersRunConcurrently() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<String> alignedNames = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch latch = new CountDownLatch(2);
+            new ParallelOperationalConditionAlignerPipeline(executor,
+                new RecordingAligner("pst", alignedNames, EnumSet.of(AlignedElementType.TAP_CHANGER), latch),
+                new RecordingAligner("hvdc", alignedNames, EnumSet.of(AlignedElementType.HVDC_LINE), latch),
+                new RecordingAligner("all", alignedNames, AlignedElementType.all(), null))
+                .align(Network.create("reference", "test"), Network.create("marketBased", "test"));
+            assertEquals(Set.of("pst", "hvdc"), Set.copyOf(alignedNames.subList(0, 2)));
+            assertEquals("all", alignedNames.get(2));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testWritesRunOneAtATime() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            AtomicInteger writingAlignerCount = new AtomicInteger();
+            AtomicInteger maxWritingAlignerCount = new AtomicInteger();
+            new ParallelOperationalConditionAlignerPipeline(executor,
+                new WritingAligner(AlignedElementType.TAP_CHANGER, writingAlignerCount, maxWritingAlignerCount),
+                new WritingAligner(AlignedElementType.HVDC_LINE, writingAlignerCount, maxWritingAlignerCount),
+                new WritingAligner(AlignedElementType.GENERATOR, writingAlignerCount, maxWritingAlignerCount))
+                .align(Network.create("reference", "test"), Network.create("marketBased", "test"));
+            assertEquals(1, maxWritingAlignerCount.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testPstAndHvdcAlignersWritesAreDeferred() {
+        Network referenceNetwork = getReferenceNetworkWithHvdc();
+        Network marketBasedNetwork = TestUtils.importNetwork("operational_conditions_aligners/hvdc/TestCase16NodesWithHvdc.xiidm");
+        NetworkCountries referenceCountries = NetworkCountries.of(referenceNetwork);
+        NetworkCountries marketBasedCountries = NetworkCountries.of(marketBasedNetwork);
+        double hvdcSetpoint = marketBasedNetwork.getHvdcLine("BBE2AA11 FFR3AA11 1").getActivePowerSetpoint();
+        int tapPosition = marketBasedNetwork.getTwoWindingsTransformer("BBE2AA11 BBE3AA11 1").getPhaseTapChanger().getTapPosition();
+
+        Runnable hvdcWrites = new HvdcAligner().prepareAlignment(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries);
+        Runnable pstWrites = new PstAligner().prepareAlignment(referenceNetwork, marketBasedNetwork, referenceCountries, marketBasedCountries);
+        assertEquals(hvdcSetpoint, marketBasedNetwork.getHvdcLine("BBE2AA11 FFR3AA11 1").getActivePowerSetpoint(), EPSILON);
+        assertEquals(tapPosition, marketBasedNetwork.getTwoWindingsTransformer("BBE2AA11 BBE3AA11 1").getPhaseTapChanger().getTapPosition());
+
+        hvdcWrites.run();
+        pstWrites.run();
+        assertEquals(100, marketBasedNetwork.getHvdcLine("BBE2AA11 FFR3AA11 1").getActivePowerSetpoint(), EPSILON);
+        assertEquals(-5, marketBasedNetwork.getTwoWindingsTransformer("BBE2AA11 BBE3AA11 1").getPhaseTapChanger().getTapPosition());
+    }
+
+    @Test
+    void testFirstFailureIsThrown() {
+        List<String> alignedNames = Collections.synchronizedList(new ArrayList<>());
+        OperationalConditionAligner failingAligner = new OperationalConditionAligner() {
+            @Override
+            public void align(Network referenceNetwork, Network marketBasedNetwork) {
+                throw new TrmException("Failing aligner");
+            }
+
+            @Override
+            public Set<AlignedElementType> getReadElementTypes() {
+                return EnumSet.of(AlignedElementType.TAP_CHANGER);
+            }
+
+            @Override
+            public Set<AlignedElementType> getWrittenElementTypes() {
+                return EnumSet.of(AlignedElementType.TAP_CHANGER);
+            }
+        };
+        ParallelOperationalConditionAlignerPipeline pipeline = new ParallelOperationalConditionAlignerPipeline(
+            failingAligner,
+            new RecordingAligner("dependent", alignedNames, EnumSet.of(AlignedElementType.TAP_CHANGER), null));
+        Network referenceNetwork = Network.create("reference", "test");
+        Network marketBasedNetwork = Network.create("marketBased", "test");
+        Exception exception = assertThrows(TrmException.class, () -> pipeline.align(referenceNetwork, marketBasedNetwork));
+        assertEquals("Failing aligner", exception.getMessage());
+        assertTrue(alignedNames.isEmpty());
+    }
+}
@@ -8,10 +8,16 @@
 package com.rte_france.trm_algorithm.operational_conditions_aligners;
 
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.RatioTapChanger;
+import com.powsybl.iidm.network.ThreeSides;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
 import com.rte_france.trm_algorithm.TestUtils;
+import com.rte_france.trm_algorithm.id_mapping.UcteMapper;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -48,6 +54,21 @@ class PstAlignerTest {
         assertTrue(results.getRatioTapChangerResults().isEmpty());
     }
 
+    @Test
+    void testPstAlignmentWithIdMapping() {
+        Network referenceNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes.uct");
+        Network marketBasedNetwork = TestUtils.importNetwork("TestCase12Nodes/TestCase12Nodes_NewId.uct");
+        String referencePstId = "BBE2AA1  BBE3AA1  1";
+        String marketBasedPstId = "BBE2AA11 BBE3AA1  1";
+        referenceNetwork.getTwoWindingsTransformer(referencePstId).getPhaseTapChanger().setTapPosition(5);
+        PstAligner pstAligner = new PstAligner(UcteMapper.mapNetworks(referenceNetwork, marketBasedNetwork));
+        pstAligner.align(referenceNetwork, marketBasedNetwork);
+        PstAligner.Result results = pstAligner.getResult();
+        assertEquals(5, marketBasedNetwork.getTwoWindingsTransformer(marketBasedPstId).getPhaseTapChanger().getTapPosition());
+        assertTrue(results.getPhaseTapChangerResults().get(referencePstId));
+        assertNull(marketBasedNetwork.getIdentifiable(referencePstId));
+    }
+
     @Test
     void testTwoPstAlignment() {
         Network referenceNetwork = TestUtils.importNetwork("TestCase16Nodes/TestCase16Nodes.uct");
@@ -121,4 +142,20 @@ class PstAlignerTest {
         assertTrue(results.getPhaseTapChangerResults().isEmpty());
     }
 
+    @Test
+    void testThreeWindingsTransformerAlignment() {
+        Network referenceNetwork = ThreeWindingsTransformerNetworkFactory.create();
+        Network marketBasedNetwork = ThreeWindingsTransformerNetworkFactory.create();
+        RatioTapChanger referenceRatioTapChanger = referenceNetwork.getThreeWindingsTransformer("3WT").getLeg2().getRatioTapChanger();
+        referenceRatioTapChanger.setTapPosition(referenceRatioTapChanger.getHighTapPosition());
+        marketBasedNetwork.getThreeWindingsTransformer("3WT").getLeg3().getRatioTapChanger().remove();
+        PstAligner pstAligner = new PstAligner();
+        pstAligner.align(referenceNetwork, marketBasedNetwork);
+        PstAligner.Result results = pstAligner.getResult();
+        assertEquals(referenceRatioTapChanger.getHighTapPosition(), marketBasedNetwork.getThreeWindingsTransformer("3WT").getLeg2().getRatioTapChanger().getTapPosition());
+        assertEquals(Map.of(ThreeSides.TWO, true, ThreeSides.THREE, false), results.getThreeWindingsTransformerRatioTapChangerResults().get("3WT"));
+        assertTrue(results.getThreeWindingsTransformerPhaseTapChangerResults().isEmpty());
+        assertTrue(results.getRatioTapChangerResults().isEmpty());
+        assertTrue(results.getPhaseTapChangerResults().isEmpty());
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position;
+
+import com.powsybl.glsk.commons.CountryEICode;
+import com.rte_france.trm_algorithm.TrmException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.powsybl.iidm.network.Country.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class SplittingFactorsProviderTest {
+    private static final double DOUBLE_PRECISION = 0.001;
+
+    @Test
+    void testDocumentsAreParsedOncePerDay() {
+        AtomicInteger yearlyImports = new AtomicInteger();
+        AtomicInteger dailyImports = new AtomicInteger();
+        SplittingFactorsProvider splittingFactorsProvider = SplittingFactorsProvider.fromAdaptedNtcDocs(
+            () -> {
+                yearlyImports.incrementAndGet();
+                return SplittingFactorsProviderTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_annual_CSE_simplified_without_special_lines.xml");
+            },
+            date -> {
+                dailyImports.incrementAndGet();
+                return SplittingFactorsProviderTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_reductions_CSE.xml");
+            });
+
+        Map<String, Double> splittingFactors = splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T16:30Z"));
+        assertEquals(4, splittingFactors.size());
+        assertEquals(0.456, splittingFactors.get(new CountryEICode(FR).getCode()), DOUBLE_PRECISION);
+        assertEquals(0.425, splittingFactors.get(new CountryEICode(CH).getCode()), DOUBLE_PRECISION);
+        assertEquals(0.045, splittingFactors.get(new CountryEICode(AT).getCode()), DOUBLE_PRECISION);
+        assertEquals(0.073, splittingFactors.get(new CountryEICode(SI).getCode()), DOUBLE_PRECISION);
+
+        assertEquals(splittingFactors, splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T16:30Z")));
+        splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T17:30Z"));
+        assertEquals(1, yearlyImports.get());
+        assertEquals(1, dailyImports.get());
+        assertEquals(1, splittingFactorsProvider.getNumberOfCachedDailyDocuments());
+    }
+
+    @Test
+    void testDailyDocumentsCacheIsBounded() {
+        AtomicInteger dailyImports = new AtomicInteger();
+        SplittingFactorsProvider splittingFactorsProvider = SplittingFactorsProvider.fromNtcDocs(
+            () -> SplittingFactorsProviderTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_annual_CSE_simplified_without_special_lines_old_format.xml"),
+            date -> {
+                dailyImports.incrementAndGet();
+                return SplittingFactorsProviderTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_reductions_CSE_old_format.xml");
+            },
+            1);
+
+        Map<String, Double> splittingFactors = splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T16:30Z"));
+        assertEquals(0.456, splittingFactors.get(new CountryEICode(FR).getCode()), DOUBLE_PRECISION);
+        splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-24T22:30Z"));
+        splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T16:30Z"));
+        assertEquals(3, dailyImports.get());
+        assertEquals(1, splittingFactorsProvider.getNumberOfCachedDailyDocuments());
+    }
+
+    @Test
+    void testDailyDocumentOfLocalDay() {
+        List<LocalDate> requestedDates = new ArrayList<>();
+        SplittingFactorsProvider splittingFactorsProvider = SplittingFactorsProvider.fromAdaptedNtcDocs(
+            () -> SplittingFactorsProviderTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_annual_CSE_simplified_without_special_lines.xml"),
+            date -> {
+                requestedDates.add(date);
+                return SplittingFactorsProviderTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_reductions_CSE.xml");
+            });
+
+        // 23:30Z is already the next day in the CSE region
+        splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-24T23:30Z"));
+        splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T16:30Z"));
+        assertEquals(List.of(LocalDate.of(2021, 2, 25)), requestedDates);
+
+        splittingFactorsProvider.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-24T22:30Z"));
+        assertEquals(List.of(LocalDate.of(2021, 2, 25), LocalDate.of(2021, 2, 24)), requestedDates);
+    }
+
+    @Test
+    void testMissingDailyDocument() {
+        SplittingFactorsProvider splittingFactorsProvider = SplittingFactorsProvider.fromNtcDocs(
+            () -> SplittingFactorsProviderTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_annual_CSE_simplified_without_special_lines_old_format.xml"),
+            date -> null);
+        OffsetDateTime targetDateTime = OffsetDateTime.parse("2021-02-25T16:30Z");
+        TrmException exception = assertThrows(TrmException.class, () -> splittingFactorsProvider.getReducedSplittingFactors(targetDateTime));
+        assertEquals("No NTC document available for 2021-02-25T16:30Z", exception.getMessage());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.rte_france.trm_algorithm.operational_conditions_aligners.exchange_and_net_position;
+
+import com.powsybl.glsk.commons.CountryEICode;
+import com.rte_france.trm_algorithm.TrmException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.powsybl.iidm.network.Country.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
+ */
+class SplittingFactorsTimeSeriesTest {
+    private static final double DOUBLE_PRECISION = 0.001;
+
+    @Test
+    void testImportTimeSeriesFromAdaptedNtcDocs() {
+        InputStream yearlyData = SplittingFactorsTimeSeriesTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_annual_CSE_simplified_without_special_lines.xml");
+        InputStream dailyData = SplittingFactorsTimeSeriesTest.class.getResourceAsStream("../../TestCase12Nodes/NTC_reductions_CSE.xml");
+
+        SplittingFactorsTimeSeries timeSeries = SplittingFactorsUtils.importSplittingFactorsTimeSeriesFromAdaptedNtcDocs(OffsetDateTime.parse("2021-02-25T10:00Z"), OffsetDateTime.parse("2021-02-25T20:00Z"), yearlyData, dailyData);
+
+        assertEquals(10, timeSeries.getTimestampCount());
+        assertEquals(4, timeSeries.getCountryEicCodes().size());
+        Map<String, Double> splittingFactors = timeSeries.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T16:30Z"));
+        assertEquals(0.456, splittingFactors.get(new CountryEICode(FR).getCode()), DOUBLE_PRECISION);
+        assertEquals(0.425, splittingFactors.get(new CountryEICode(CH).getCode()), DOUBLE_PRECISION);
+        assertEquals(0.045, splittingFactors.get(new CountryEICode(AT).getCode()), DOUBLE_PRECISION);
+        assertEquals(0.073, splittingFactors.get(new CountryEICode(SI).getCode()), DOUBLE_PRECISION);
+        assertFalse(timeSeries.contains(OffsetDateTime.parse("2021-02-25T20:00Z")));
+        assertThrows(TrmException.class, () -> timeSeries.getReducedSplittingFactors(OffsetDateTime.parse("2021-02-25T09:59Z")));
+    }
+
+    @Test
+    void testBinaryRoundTrip() throws IOException {
+        SplittingFactorsTimeSeries timeSeries = SplittingFactorsTimeSeries.of(Instant.parse("2021-01-01T00:00:00Z"), Duration.ofHours(1), List.of(
+            Map.of("10YFR-RTE------C", 0.5, "10YCH-SWISSGRIDZ", 0.5),
+            Map.of("10YFR-RTE------C", 0.7)
+        ));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        timeSeries.write(outputStream);
+        SplittingFactorsTimeSeries readTimeSeries = SplittingFactorsTimeSeries.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertEquals(timeSeries.getStart(), readTimeSeries.getStart());
+        assertEquals(timeSeries.getStep(), readTimeSeries.getStep());
+        assertEquals(List.of("10YCH-SWISSGRIDZ", "10YFR-RTE------C"), readTimeSeries.getCountryEicCodes());
+        assertEquals(Map.of("10YFR-RTE------C", 0.5, "10YCH-SWISSGRIDZ", 0.5), readTimeSeries.getReducedSplittingFactors(OffsetDateTime.parse("2021-01-01T00:30Z")));
+        assertEquals(Map.of("10YFR-RTE------C", 0.7), readTimeSeries.getReducedSplittingFactors(OffsetDateTime.parse("2021-01-01T02:59+01:00")));
+    }
+
+    @Test
+    void testReadInvalidInput() {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[] {0, 0, 0, 0, 0, 0, 0, 1});
+        TrmException exception = assertThrows(TrmException.class, () -> SplittingFactorsTimeSeries.read(inputStream));
+        assertEquals("Input is not a splitting factors time series", exception.getMessage());
+    }
+}